@@ -0,0 +1,52 @@
+#!/bin/bash
+
+# Load-test comparison of request execution on Tomcat platform threads
+# (default) and on virtual threads (the 'vthreads' profile).
+#
+# Needs a JDK 21 or newer: set JAVA_HOME to it, or pass JAVA21_HOME.
+# Tune with PLAYERS, DURATION (seconds), THINK_MS, HINT_PERCENT and PORT.
+
+set -e
+
+if [ -n "$JAVA21_HOME" ]; then
+    export JAVA_HOME="$JAVA21_HOME"
+    export PATH="$JAVA_HOME/bin:$PATH"
+fi
+
+BASE_DIR=$(cd "$(dirname "$0")/.." && pwd)
+PLAYERS=${PLAYERS:-2000}
+DURATION=${DURATION:-60}
+THINK_MS=${THINK_MS:-200}
+HINT_PERCENT=${HINT_PERCENT:-5}
+PORT=${PORT:-8090}
+
+echo "📦 Building server (Java 21) and load generator..."
+(cd "$BASE_DIR/wordle-server" && mvn -B -q -Pjava21 clean install -DskipTests)
+(cd "$BASE_DIR/wordle-bench" && mvn -B -q clean package)
+
+SERVER_JAR="$BASE_DIR/wordle-server/target/wordle-server-1.0.0-exec.jar"
+BENCH_JAR="$BASE_DIR/wordle-bench/target/benchmarks.jar"
+
+run() {
+    local profile=$1
+    echo ""
+    echo "🚀 Starting server with profile: $profile"
+    java -jar "$SERVER_JAR" --server.port="$PORT" --spring.profiles.active="$profile" \
+        > "$BASE_DIR/wordle-bench/loadtest-$profile.log" 2>&1 &
+    local pid=$!
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+        sleep 1
+    done
+
+    java -cp "$BENCH_JAR" com.wordle.bench.LoadTest "http://localhost:$PORT" \
+        "$PLAYERS" "$DURATION" "$THINK_MS" "$HINT_PERCENT"
+    echo "   Peak platform threads: $(curl -s "http://localhost:$PORT/actuator/metrics/jvm.threads.peak" \
+        | grep -o '"value":[0-9.]*' | head -1)"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+}
+
+run default
+run vthreads
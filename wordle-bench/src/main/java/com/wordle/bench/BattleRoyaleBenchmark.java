@@ -0,0 +1,81 @@
+package com.wordle.bench;
+
+import com.wordle.dto.RoomSummary;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One battle royale room of {@code players} players: guesses are ranked
+ * incrementally and broadcast on the tick, so neither a guess nor a summary
+ * should get slower as the room grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BattleRoyaleBenchmark {
+
+  @Param({"1000", "5000"})
+  int players;
+
+  MultiPlayerService multiPlayerService;
+  String roomId;
+  String[] guesses;
+  int cursor;
+  int turn;
+  int roomSeq;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    WordDictionary dictionary = Fixtures.dictionary();
+    multiPlayerService = Fixtures.multiPlayerService(dictionary, 100);
+    roomId = newRoom();
+
+    guesses = new String[4096];
+    Random random = new Random(42);
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = dictionary.wordAt(random.nextInt(dictionary.size()));
+    }
+  }
+
+  private String newRoom() {
+    String prefix = "br" + (roomSeq++) + "-";
+    String id = multiPlayerService.createRoom(prefix + 0, "bench", players, "player0",
+            MultiPlayerRoom.RoomMode.BATTLE_ROYALE).getRoomId();
+    for (int p = 1; p < players; p++) {
+      multiPlayerService.joinRoom(id, prefix + p, "player" + p);
+    }
+    multiPlayerService.startGame(id);
+    return id;
+  }
+
+  @Benchmark
+  public MultiPlayerRoom processGuess() {
+    MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
+    if (room == null || room.getStatus() != MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+      roomId = newRoom();
+      turn = 0;
+      room = multiPlayerService.getRoom(roomId);
+    }
+    // Skip players who are done; the room ends once everyone is
+    String playerId;
+    do {
+      playerId = room.getPlayers().get(turn++ % players).getPlayerId();
+    } while (room.getPlayer(playerId).isFinished());
+    cursor = (cursor + 1) & (guesses.length - 1);
+    multiPlayerService.processGuess(roomId, playerId, guesses[cursor]);
+    return room;
+  }
+
+  @Benchmark
+  public RoomSummary summary() {
+    return multiPlayerService.getRoomSummary(roomId, "br0-1", 20);
+  }
+}
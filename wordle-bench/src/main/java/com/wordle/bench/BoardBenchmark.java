@@ -0,0 +1,77 @@
+package com.wordle.bench;
+
+import com.wordle.service.GuessEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring one guess on every board of a multi-board game: the batched
+ * letter-mask scorer the engine uses against one scalar evaluation per
+ * board. Words are random letters, so repeated letters turn up about as
+ * often as in real lists of that length.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardBenchmark {
+
+  @Param({"1", "4", "16", "32"})
+  int boards;
+
+  @Param({"5", "8"})
+  int length;
+
+  long[] targets;
+  int[] masks;
+  long[] guesses;
+  int[] patterns;
+  int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Random random = new Random(42);
+    targets = new long[boards];
+    for (int b = 0; b < boards; b++) {
+      targets[b] = word(random);
+    }
+    masks = GuessEvaluator.letterMasks(targets, length);
+    guesses = new long[1024];
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = word(random);
+    }
+    patterns = new int[boards];
+  }
+
+  private long word(Random random) {
+    long code = 0;
+    for (int i = 0; i < length; i++) {
+      code = code * 26 + random.nextInt(26);
+    }
+    return code;
+  }
+
+  private long next() {
+    cursor = (cursor + 1) & (guesses.length - 1);
+    return guesses[cursor];
+  }
+
+  @Benchmark
+  public int[] batched() {
+    GuessEvaluator.evaluate(next(), length, masks, patterns);
+    return patterns;
+  }
+
+  @Benchmark
+  public int[] perBoard() {
+    long guess = next();
+    for (int b = 0; b < boards; b++) {
+      patterns[b] = GuessEvaluator.evaluate(guess, targets[b], length);
+    }
+    return patterns;
+  }
+}
@@ -0,0 +1,55 @@
+package com.wordle.bench;
+
+import com.wordle.dto.DailyStatsResponse;
+import com.wordle.service.DailySchedule;
+import com.wordle.service.DailyStats;
+import com.wordle.service.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily puzzle result aggregation with every thread submitting to the same
+ * puzzle and mostly the same opening word, the worst case for contention.
+ * Run with {@code -t} to vary the thread count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class DailyBenchmark {
+
+  DailyStats stats;
+  int puzzle;
+
+  @State(Scope.Thread)
+  public static class Submitter {
+    int round;
+  }
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    WordDictionary dictionary = Fixtures.dictionary();
+    DailySchedule schedule = Fixtures.schedule(dictionary);
+    stats = Fixtures.dailyStats(dictionary, schedule);
+    puzzle = schedule.today();
+  }
+
+  // One game's worth of updates: start, opening word, finish
+  @Benchmark
+  public void submit(Submitter submitter) {
+    int round = submitter.round++;
+    stats.started(puzzle);
+    stats.firstGuess(puzzle, (round & 7) == 0 ? "SLATE" : "CRANE");
+    stats.finished(puzzle, (round & 3) != 0, 1 + round % DailyStats.ROUNDS);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public DailyStatsResponse snapshot() {
+    return stats.snapshot(puzzle);
+  }
+}
@@ -0,0 +1,108 @@
+package com.wordle.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.journal.EventJournal;
+import com.wordle.service.DailySchedule;
+import com.wordle.service.DailyStats;
+import com.wordle.service.DictionaryRegistry;
+import com.wordle.service.GameEngine;
+import com.wordle.service.GameEventLog;
+import com.wordle.service.GameMetrics;
+import com.wordle.service.LobbyIndex;
+import com.wordle.service.RankingService;
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.RoomEventPublisher;
+import com.wordle.service.WordDictionary;
+import com.wordle.service.WordleService;
+import com.wordle.store.GameStore;
+import com.wordle.store.InMemoryGameStore;
+import com.wordle.store.KeyValueGameStore;
+import com.wordle.store.LocalKeyValueStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+
+// Wires the services by hand, the way the Spring context would, without starting a server
+final class Fixtures {
+
+  // The registry behind the last dictionary(), for engines over its other word lengths
+  private static DictionaryRegistry registry;
+
+  private Fixtures() {}
+
+  static ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  static WordDictionary dictionary() throws Exception {
+    DictionaryRegistry registry = new DictionaryRegistry(new DefaultResourceLoader(),
+            System.getProperty("java.io.tmpdir") + "/wordle-bench-dictionaries", "en-5", Duration.ZERO);
+    registry.init();
+    Fixtures.registry = registry;
+    WordDictionary dictionary = new WordDictionary(registry);
+    dictionary.init();
+    return dictionary;
+  }
+
+  static WordleService wordleService(WordDictionary dictionary, long maxGames) {
+    return wordleService(dictionary, maxGames, "memory");
+  }
+
+  // store: memory, or kv for the shared-store backend over the embedded key-value store
+  static WordleService wordleService(WordDictionary dictionary, long maxGames, String store) {
+    GameStore games;
+    if ("kv".equals(store)) {
+      games = new KeyValueGameStore(new LocalKeyValueStore(maxGames), 10_000, Duration.ofSeconds(1),
+              Duration.ofMinutes(30), Duration.ofMinutes(5));
+    } else {
+      games = new InMemoryGameStore(maxGames, Duration.ofMinutes(30), Duration.ofMinutes(5));
+    }
+    DailySchedule schedule = schedule(dictionary);
+    return new WordleService(dictionary, engine(dictionary), games, journal(), metrics(), events(), schedule, dailyStats(dictionary, schedule));
+  }
+
+  static DailySchedule schedule(WordDictionary dictionary) {
+    DailySchedule schedule = new DailySchedule(dictionary, 20250101, "2025-01-01", "UTC");
+    schedule.init();
+    return schedule;
+  }
+
+  static DailyStats dailyStats(WordDictionary dictionary, DailySchedule schedule) {
+    return new DailyStats(dictionary, schedule, 7, Duration.ofSeconds(1));
+  }
+
+  static MultiPlayerService multiPlayerService(WordDictionary dictionary, long maxRooms) {
+    // Messages are serialized as they would be for the broker, then dropped
+    MessageChannel channel = (message, timeout) -> true;
+    SimpMessagingTemplate template = new SimpMessagingTemplate(channel);
+    MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+    converter.setObjectMapper(objectMapper());
+    template.setMessageConverter(converter);
+    return new MultiPlayerService(engine(dictionary), new RoomEventPublisher(template, metrics()), journal(), metrics(), events(),
+            new LobbyIndex(objectMapper()), new RankingService(),
+            maxRooms, Duration.ofMinutes(30), Duration.ofMinutes(10),
+            5000, Duration.ofMinutes(10), Duration.ofMillis(500), 20);
+  }
+
+  static GameEngine engine(WordDictionary dictionary) {
+    return new GameEngine(registry, dictionary, metrics());
+  }
+
+  static GameMetrics metrics() {
+    return new GameMetrics(new SimpleMeterRegistry());
+  }
+
+  // Sampling at zero keeps event logging out of the measurement, as in production
+  static GameEventLog events() {
+    return new GameEventLog(0);
+  }
+
+  private static EventJournal journal() {
+    return new EventJournal(objectMapper(), false, false, System.getProperty("java.io.tmpdir"), 1);
+  }
+}
@@ -0,0 +1,89 @@
+package com.wordle.bench;
+
+import com.wordle.model.GameState;
+import com.wordle.service.GuessEvaluator;
+import com.wordle.service.WordDictionary;
+import com.wordle.service.WordleService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-player hot paths: word lookup, guess evaluation and a full
+ * {@link WordleService#makeGuess} against a store holding {@code games} live games.
+ * {@code store=kv} measures the shared-store backend: encoding, the version
+ * check and a batched write per guess, with the near cache in front.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuessBenchmark {
+
+  @Param({"1000", "100000"})
+  int games;
+
+  @Param({"memory", "kv"})
+  String store;
+
+  WordDictionary dictionary;
+  WordleService wordleService;
+  String[] gameIds;
+  String[] guesses;
+  int[] packed;
+  int cursor;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    dictionary = Fixtures.dictionary();
+    wordleService = Fixtures.wordleService(dictionary, games, store);
+    gameIds = new String[games];
+    for (int i = 0; i < games; i++) {
+      gameIds[i] = wordleService.createNewGame(6);
+    }
+
+    // Fixed pseudo-random guesses, with a share of words that are not in the list
+    guesses = new String[4096];
+    packed = new int[guesses.length];
+    java.util.Random random = new java.util.Random(42);
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = i % 8 == 0 ? "ZQXJV" : dictionary.wordAt(random.nextInt(dictionary.size()));
+      packed[i] = WordDictionary.pack(guesses[i]);
+    }
+  }
+
+  private int next() {
+    cursor = (cursor + 1) & (guesses.length - 1);
+    return cursor;
+  }
+
+  @Benchmark
+  public boolean lookup() {
+    return dictionary.contains(guesses[next()]);
+  }
+
+  @Benchmark
+  public int evaluate() {
+    int i = next();
+    return GuessEvaluator.evaluate(packed[i], packed[(i + 1) & (packed.length - 1)]);
+  }
+
+  @Benchmark
+  public GameState makeGuess() {
+    int i = next();
+    int slot = i % games;
+    GameState game = wordleService.getGame(gameIds[slot]);
+    if (game == null || game.isGameOver()) {
+      // Recycle finished games so the store stays at the configured size
+      wordleService.deleteGame(gameIds[slot]);
+      gameIds[slot] = wordleService.createNewGame(6);
+    }
+    try {
+      return wordleService.makeGuess(gameIds[slot], guesses[i]);
+    } catch (IllegalArgumentException invalidWord) {
+      return null;
+    }
+  }
+}
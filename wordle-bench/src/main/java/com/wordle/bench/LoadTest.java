@@ -0,0 +1,166 @@
+package com.wordle.bench;
+
+import com.wordle.service.WordDictionary;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load against a running server. Each simulated player
+ * plays single-player games back to back: it creates a game, guesses until
+ * the game ends, and asks for a hint on some rounds. It pauses for a think
+ * time between requests, so many players can be connected while only a few
+ * requests are in flight.
+ *
+ * Usage: LoadTest [baseUrl] [players] [seconds] [thinkMillis] [hintPercent]
+ */
+public final class LoadTest {
+
+  private LoadTest() {}
+
+  public static void main(String[] args) throws Exception {
+    String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+    int players = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+    int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+    int thinkMillis = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+    int hintPercent = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+    WordDictionary dictionary = Fixtures.dictionary();
+    HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+            .build();
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+    LongAdder errors = new LongAdder();
+    List<Player> simulated = new ArrayList<>();
+    ExecutorService pool = Executors.newFixedThreadPool(players);
+    for (int p = 0; p < players; p++) {
+      Player player = new Player(client, baseUrl, dictionary, deadline, thinkMillis, hintPercent, errors);
+      pool.submit(player);
+      simulated.add(player);
+    }
+    pool.shutdown();
+    pool.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+    long total = 0;
+    for (Player player : simulated) {
+      total += player.latencies[0];
+    }
+    long[] all = new long[(int) total];
+    int n = 0;
+    for (Player player : simulated) {
+      int count = (int) player.latencies[0];
+      System.arraycopy(player.latencies, 1, all, n, count);
+      n += count;
+    }
+    Arrays.sort(all);
+    System.out.printf("players=%d seconds=%d think=%dms hints=%d%%%n", players, seconds, thinkMillis, hintPercent);
+    System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n", total, errors.sum(), total / (double) seconds);
+    if (total > 0) {
+      System.out.printf("latency ms p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+              percentile(all, 0.50), percentile(all, 0.90), percentile(all, 0.99),
+              percentile(all, 0.999), all[all.length - 1] / 1e6);
+    }
+    // The HttpClient's executor threads would otherwise keep the JVM alive
+    System.exit(0);
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+  }
+
+  private static final class Player implements Runnable {
+    private final HttpClient client;
+    private final String baseUrl;
+    private final WordDictionary dictionary;
+    private final long deadline;
+    private final int thinkMillis;
+    private final int hintPercent;
+    private final LongAdder errors;
+    // latencies[0] is the sample count, then one nanosecond sample per request
+    long[] latencies = new long[1024];
+
+    Player(HttpClient client, String baseUrl, WordDictionary dictionary, long deadline,
+           int thinkMillis, int hintPercent, LongAdder errors) {
+      this.client = client;
+      this.baseUrl = baseUrl;
+      this.dictionary = dictionary;
+      this.deadline = deadline;
+      this.thinkMillis = thinkMillis;
+      this.hintPercent = hintPercent;
+      this.errors = errors;
+    }
+
+    @Override
+    public void run() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      try {
+        while (System.nanoTime() < deadline) {
+          String game = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/wordle/new-game"))
+                  .POST(HttpRequest.BodyPublishers.noBody()));
+          if (game == null) {
+            continue;
+          }
+          String gameId = game.substring(game.indexOf("\"gameId\":\"") + 10);
+          gameId = gameId.substring(0, gameId.indexOf('"'));
+
+          boolean over = false;
+          while (!over && System.nanoTime() < deadline) {
+            if (random.nextInt(100) < hintPercent) {
+              send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/wordle/game/" + gameId + "/hint")).GET());
+            }
+            String body = "{\"gameId\":\"" + gameId + "\",\"guess\":\"" + dictionary.randomWord() + "\"}";
+            String state = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/wordle/guess"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            over = state == null || state.contains("\"gameOver\":true");
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    private String send(HttpRequest.Builder request) throws InterruptedException {
+      if (thinkMillis > 0) {
+        Thread.sleep(ThreadLocalRandom.current().nextInt(thinkMillis * 2 + 1));
+      }
+      long start = System.nanoTime();
+      try {
+        HttpResponse<String> response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        record(System.nanoTime() - start);
+        if (response.statusCode() >= 400) {
+          errors.increment();
+          return null;
+        }
+        return response.body();
+      } catch (IOException e) {
+        errors.increment();
+        return null;
+      }
+    }
+
+    private void record(long nanos) {
+      int n = (int) latencies[0] + 1;
+      if (n == latencies.length) {
+        latencies = Arrays.copyOf(latencies, n * 2);
+      }
+      latencies[n] = nanos;
+      latencies[0] = n;
+    }
+  }
+}
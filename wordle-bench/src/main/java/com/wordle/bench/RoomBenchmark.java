@@ -0,0 +1,102 @@
+package com.wordle.bench;
+
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.service.LobbyIndex;
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multiplayer hot paths: {@link MultiPlayerService#processGuess} including the
+ * event fan-out, and the lobby's room listing, with {@code rooms} rooms of
+ * {@code players} players each. A third of the rooms are left waiting in the lobby.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoomBenchmark {
+
+  @Param({"100", "5000"})
+  int rooms;
+
+  @Param({"8"})
+  int players;
+
+  MultiPlayerService multiPlayerService;
+  String[] roomIds;
+  int[] turn;
+  String[] guesses;
+  int cursor;
+  int roomCursor;
+  int roomSeq;
+  int joinSeq;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    WordDictionary dictionary = Fixtures.dictionary();
+    multiPlayerService = Fixtures.multiPlayerService(dictionary, rooms * 2L);
+
+    int playing = rooms - rooms / 3;
+    roomIds = new String[playing];
+    turn = new int[playing];
+    for (int i = 0; i < playing; i++) {
+      roomIds[i] = newRoom(true);
+    }
+    for (int i = playing; i < rooms; i++) {
+      newRoom(false);
+    }
+
+    guesses = new String[4096];
+    Random random = new Random(42);
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = dictionary.wordAt(random.nextInt(dictionary.size()));
+    }
+  }
+
+  private String newRoom(boolean start) {
+    String prefix = "r" + (roomSeq++) + "-";
+    String roomId = multiPlayerService.createRoom(prefix + 0, "bench", players, "player0").getRoomId();
+    for (int p = 1; p < players; p++) {
+      multiPlayerService.joinRoom(roomId, prefix + p, "player" + p);
+    }
+    if (start) {
+      multiPlayerService.startGame(roomId);
+    }
+    return roomId;
+  }
+
+  @Benchmark
+  public MultiPlayerRoom processGuess() {
+    int slot = roomCursor;
+    roomCursor = (roomCursor + 1) % roomIds.length;
+    MultiPlayerRoom room = multiPlayerService.getRoom(roomIds[slot]);
+    if (room == null || room.getStatus() != MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+      // Recycle finished rooms so the number of rooms in play stays fixed
+      roomIds[slot] = newRoom(true);
+      turn[slot] = 0;
+      room = multiPlayerService.getRoom(roomIds[slot]);
+    }
+    String playerId = room.getPlayers().get(turn[slot]++ % players).getPlayerId();
+    cursor = (cursor + 1) & (guesses.length - 1);
+    multiPlayerService.processGuess(roomIds[slot], playerId, guesses[cursor]);
+    return room;
+  }
+
+  @Benchmark
+  public LobbyIndex.Page availableRooms() {
+    return multiPlayerService.getAvailableRooms(LobbyIndex.Sort.NEWEST, 0, LobbyIndex.DEFAULT_PAGE_SIZE);
+  }
+
+  // A new room before every read, so each listing misses the page cache
+  @Benchmark
+  public LobbyIndex.Page availableRoomsAfterChange() {
+    multiPlayerService.createRoom("lobby-" + (joinSeq++), "bench", players, "player0");
+    return multiPlayerService.getAvailableRooms(LobbyIndex.Sort.FILL, 0, LobbyIndex.DEFAULT_PAGE_SIZE);
+  }
+}
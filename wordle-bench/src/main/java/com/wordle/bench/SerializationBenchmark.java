@@ -0,0 +1,82 @@
+package com.wordle.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.wordle.config.CompactCodecConfig;
+import com.wordle.dto.GameResponse;
+import com.wordle.model.GameState;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+import com.wordle.service.GuessEvaluator;
+import com.wordle.service.WordDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the two largest response bodies: a single-player
+ * {@link GameResponse} and a {@link MultiPlayerRoom} mid-game, each with
+ * {@code rounds} guesses per board, in each negotiable {@code format}: plain
+ * JSON, compact JSON and CBOR.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+  private static final String[] WORDS = {"CRANE", "SLOTH", "PIVOT", "BUMPY", "GAWKS", "FJORD"};
+
+  @Param({"3", "6"})
+  int rounds;
+
+  @Param({"8"})
+  int players;
+
+  @Param({"json", "compact", "cbor"})
+  String format;
+
+  ObjectMapper objectMapper;
+  GameState game;
+  MultiPlayerRoom room;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    objectMapper = switch (format) {
+      case "compact" -> CompactCodecConfig.compactMapper(Jackson2ObjectMapperBuilder.json());
+      case "cbor" -> CompactCodecConfig.compactMapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()));
+      default -> Fixtures.objectMapper();
+    };
+    int target = WordDictionary.pack("MOUNT");
+
+    game = new GameState("bench-game", "MOUNT", 6);
+    room = new MultiPlayerRoom("BENCH001", "bench", "p0", players);
+    for (int p = 0; p < players; p++) {
+      room.addPlayer(new Player("p" + p, "player" + p));
+    }
+    room.setStatus(MultiPlayerRoom.RoomStatus.IN_PROGRESS);
+    room.setCurrentWord("MOUNT");
+
+    for (int r = 0; r < rounds; r++) {
+      String word = WORDS[r % WORDS.length];
+      int pattern = GuessEvaluator.evaluate(WordDictionary.pack(word), target);
+      game.addGuess(word, pattern);
+      for (Player player : room.getPlayers()) {
+        player.addGuess(word, pattern);
+      }
+    }
+  }
+
+  @Benchmark
+  public byte[] gameResponse() throws Exception {
+    return objectMapper.writeValueAsBytes(new GameResponse(game));
+  }
+
+  @Benchmark
+  public byte[] room() throws Exception {
+    return objectMapper.writeValueAsBytes(room);
+  }
+}
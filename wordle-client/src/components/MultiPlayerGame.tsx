@@ -1,8 +1,9 @@
 import React, { useState, useEffect, useCallback } from 'react';
 import { WordleAPI } from '../services/api';
+import { subscribeToRoom } from '../services/roomEvents';
 import GameBoard from './GameBoard';
 import Keyboard from './Keyboard';
-import { Player, GuessResult, MultiPlayerGameState, GuessResponse } from '../types/game';
+import { Player, GuessResult, MultiPlayerGameState, GuessResponse, RoomEvent } from '../types/game';
 
 interface GameState {
   guesses: string[];
@@ -40,7 +41,6 @@ const MultiPlayerGame: React.FC<MultiPlayerGameProps> = ({
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [players, setPlayers] = useState<Player[]>(initialPlayers);
-  const [gamePollingInterval, setGamePollingInterval] = useState<NodeJS.Timeout | null>(null);
 
   // Initialize game state
   useEffect(() => {
@@ -70,48 +70,40 @@ const MultiPlayerGame: React.FC<MultiPlayerGameProps> = ({
     initializeGame();
   }, [roomId, playerId]);
 
-  // Poll for game updates
+  // Receive room events pushed by the server
   useEffect(() => {
-    if (!gameState.gameOver) {
-      const interval = setInterval(async () => {
-        try {
-          const [gameData, roomData] = await Promise.all([
-            WordleAPI.getMultiPlayerGameState(roomId, playerId),
-            WordleAPI.getMultiPlayerRoom(roomId)
-          ]);
+    if (gameState.gameOver) return;
 
-          if (gameData) {
-            setGameState(prev => ({
-              ...prev,
-              guesses: gameData.guesses || prev.guesses,
-              guessResults: gameData.guessResults || prev.guessResults,
-              currentRound: gameData.guesses?.length || prev.currentRound,
-              gameOver: gameData.finished || prev.gameOver,
-              won: gameData.won || prev.won,
-              targetWord: gameData.targetWord || prev.targetWord,
-              finished: gameData.finished || prev.finished
-            }));
-          }
-
-          if (roomData?.players) {
-            setPlayers(roomData.players);
-          }
-        } catch (error) {
-          console.error('Failed to poll game updates:', error);
+    const refreshOwnState = async () => {
+      try {
+        const gameData = await WordleAPI.getMultiPlayerGameState(roomId, playerId);
+        if (gameData) {
+          setGameState(prev => ({
+            ...prev,
+            guesses: gameData.guesses || prev.guesses,
+            guessResults: gameData.guessResults || prev.guessResults,
+            currentRound: gameData.guesses?.length || prev.currentRound,
+            gameOver: gameData.finished || prev.gameOver,
+            won: gameData.won || prev.won,
+            targetWord: gameData.targetWord || prev.targetWord,
+            finished: gameData.finished || prev.finished
+          }));
         }
-      }, 1000);
-
-      setGamePollingInterval(interval);
+      } catch (error) {
+        console.error('Failed to refresh game state:', error);
+      }
+    };
 
-      return () => {
-        clearInterval(interval);
-      };
-    } else {
-      if (gamePollingInterval) {
-        clearInterval(gamePollingInterval);
-        setGamePollingInterval(null);
+    const unsubscribe = subscribeToRoom(roomId, (event: RoomEvent) => {
+      if (event.room?.players) {
+        setPlayers(event.room.players);
       }
-    }
+      if (event.type === 'GAME_ENDED' || (event.type === 'GUESS_RESULT' && event.playerId === playerId)) {
+        refreshOwnState();
+      }
+    });
+
+    return unsubscribe;
   }, [roomId, playerId, gameState.gameOver]);
 
   // Handle game end
@@ -182,10 +174,6 @@ const MultiPlayerGame: React.FC<MultiPlayerGameProps> = ({
 }, [gameState.gameOver, gameState.guesses, gameState.guessResults, loading, currentGuess, roomId, playerId]);
 
   const handleLeaveGame = () => {
-    if (gamePollingInterval) {
-      clearInterval(gamePollingInterval);
-      setGamePollingInterval(null);
-    }
     onLeaveGame();
   };
 
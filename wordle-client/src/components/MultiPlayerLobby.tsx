@@ -1,7 +1,8 @@
 import React, { useState, useEffect, useRef } from 'react';
 import { WordleAPI } from '../services/api';
+import { subscribeToLobby, subscribeToRoom } from '../services/roomEvents';
 import MultiPlayerGame from './MultiPlayerGame';
-import { MultiPlayerRoom, Player } from '../types/game';
+import { LobbyRoom, MultiPlayerRoom, Player, RoomEvent } from '../types/game';
 import './MultiPlayerLobby.css';
 
 interface MultiPlayerLobbyProps {
@@ -11,14 +12,12 @@ interface MultiPlayerLobbyProps {
 const MultiPlayerLobby: React.FC<MultiPlayerLobbyProps> = ({
   onLeaveRoom
 }) => {
-  const [availableRooms, setAvailableRooms] = useState<MultiPlayerRoom[]>([]);
+  const [availableRooms, setAvailableRooms] = useState<LobbyRoom[]>([]);
   const [currentRoom, setCurrentRoom] = useState<MultiPlayerRoom | null>(null);
   const [selectedRoomId, setSelectedRoomId] = useState<string | null>(null);
   const [playerId, setPlayerId] = useState<string>('');
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
-  const [roomPollingInterval, setRoomPollingInterval] = useState<NodeJS.Timeout | null>(null);
-  const [roomsPollingInterval, setRoomsPollingInterval] = useState<NodeJS.Timeout | null>(null);
   const isMountedRef = useRef(true);
 
   // Fetch available rooms function
@@ -36,10 +35,13 @@ const MultiPlayerLobby: React.FC<MultiPlayerLobbyProps> = ({
     }
   };
 
-  // Load available rooms on component mount and set up polling
+  const inRoom = currentRoom !== null;
+
+  // Load available rooms, then follow lobby updates pushed by the server
   useEffect(() => {
     isMountedRef.current = true;
-    
+    if (inRoom) return;
+
     // Initial load
     const loadAvailableRooms = async () => {
       try {
@@ -55,20 +57,17 @@ const MultiPlayerLobby: React.FC<MultiPlayerLobbyProps> = ({
 
     loadAvailableRooms();
 
-    // Set up polling for available rooms (only when not in a specific room)
-    if (!currentRoom) {
-      const interval = setInterval(fetchAvailableRooms, 3000); // Poll every 3 seconds
-      setRoomsPollingInterval(interval);
-    }
+    const unsubscribe = subscribeToLobby((event: RoomEvent) => {
+      if (event.type === 'ROOMS_UPDATED' && isMountedRef.current) {
+        setAvailableRooms(event.rooms || []);
+      }
+    });
 
     return () => {
       isMountedRef.current = false;
-      if (roomsPollingInterval) {
-        clearInterval(roomsPollingInterval);
-        setRoomsPollingInterval(null);
-      }
+      unsubscribe();
     };
-  }, [currentRoom]); // Re-run when currentRoom changes
+  }, [inRoom]); // Re-run when entering or leaving a room
 
   // Load specific room data when a room is selected
   useEffect(() => {
@@ -94,46 +93,25 @@ const MultiPlayerLobby: React.FC<MultiPlayerLobbyProps> = ({
     loadRoom();
   }, [selectedRoomId]);
 
-  // Set up room polling when in a specific room
+  // Follow events for the room we are in
+  const currentRoomId = currentRoom?.roomId;
+  const currentRoomActive = currentRoom?.status === 'WAITING' || currentRoom?.status === 'IN_PROGRESS';
+
   useEffect(() => {
-    if (currentRoom && (currentRoom.status === 'WAITING' || currentRoom.status === 'IN_PROGRESS')) {
-      // Clear rooms polling when in a specific room
-      if (roomsPollingInterval) {
-        clearInterval(roomsPollingInterval);
-        setRoomsPollingInterval(null);
-      }
+    if (!currentRoomId || !currentRoomActive) return;
 
-      // Start room-specific polling
-      const interval = setInterval(async () => {
-        try {
-          const updatedRoom = await WordleAPI.getMultiPlayerRoom(currentRoom.roomId);
-          if (updatedRoom && JSON.stringify(updatedRoom) !== JSON.stringify(currentRoom) && isMountedRef.current) {
-            console.log('Room updated via polling:', updatedRoom);
-            setCurrentRoom(updatedRoom);
-          }
-        } catch (error) {
-          console.error('Failed to poll room updates:', error);
-        }
-      }, 2000);
-      
-      setRoomPollingInterval(interval);
-      
-      return () => {
-        clearInterval(interval);
-      };
-    } else {
-      if (roomPollingInterval) {
-        clearInterval(roomPollingInterval);
-        setRoomPollingInterval(null);
-      }
+    const unsubscribe = subscribeToRoom(currentRoomId, (event: RoomEvent) => {
+      if (!event.room || !isMountedRef.current) return;
+      const updatedRoom = event.room;
+      setCurrentRoom(prev => {
+        if (!prev) return prev;
+        // GAME_ENDED carries the full room including the revealed word
+        return { ...updatedRoom, currentWord: updatedRoom.currentWord || event.targetWord || prev.currentWord };
+      });
+    });
 
-      // Resume rooms polling when not in a specific room
-      if (!roomsPollingInterval && !currentRoom) {
-        const interval = setInterval(fetchAvailableRooms, 3000);
-        setRoomsPollingInterval(interval);
-      }
-    }
-  }, [currentRoom]);
+    return unsubscribe;
+  }, [currentRoomId, currentRoomActive]);
 
   const handleJoinRoom = async (roomId: string) => {
     if (!playerId.trim()) {
@@ -212,33 +190,13 @@ const MultiPlayerLobby: React.FC<MultiPlayerLobbyProps> = ({
   };
 
   const handleLeaveRoom = () => {
-    // Clear all polling intervals
-    if (roomPollingInterval) {
-      clearInterval(roomPollingInterval);
-      setRoomPollingInterval(null);
-    }
-    
-    // Reset to room selection view
+    // Reset to room selection view; the lobby subscription reloads the room list
     setCurrentRoom(null);
     setSelectedRoomId(null);
     setError(null);
-    
-    // Immediately refresh available rooms and resume polling
-    fetchAvailableRooms();
-    const interval = setInterval(fetchAvailableRooms, 3000);
-    setRoomsPollingInterval(interval);
   };
 
   const handleBackToMainLobby = () => {
-    // Clear all polling intervals
-    if (roomPollingInterval) {
-      clearInterval(roomPollingInterval);
-      setRoomPollingInterval(null);
-    }
-    if (roomsPollingInterval) {
-      clearInterval(roomsPollingInterval);
-      setRoomsPollingInterval(null);
-    }
     onLeaveRoom();
   };
 
@@ -448,13 +406,13 @@ if (currentRoom?.status === 'FINISHED') {
                 <div key={room.roomId} className="room-item">
                   <div className="room-info">
                     <h4>{room.roomName || room.roomId}</h4>
-                    <p>Players: {room.players.length}/{room.maxPlayers}</p>
-                    <p>Status: <span className={`status ${room.status.toLowerCase()}`}>{room.status}</span></p>
+                    <p>Players: {room.playerCount}/{room.maxPlayers}</p>
+                    {room.mode === 'BATTLE_ROYALE' && <p>Battle royale</p>}
                   </div>
                   <div className="room-actions">
                     <button
                       onClick={() => handleJoinRoom(room.roomId)}
-                      disabled={loading || !playerId.trim() || room.players.length >= room.maxPlayers || room.status !== 'WAITING'}
+                      disabled={loading || !playerId.trim() || room.playerCount >= room.maxPlayers}
                       className="join-room-btn"
                     >
                       {loading ? 'Joining...' : 'Join Room'}
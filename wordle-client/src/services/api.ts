@@ -9,6 +9,7 @@ import {
   GuessResponse,
   CreateRoomRequest,
   JoinRoomRequest,
+  LobbyRoom,
 } from '../types/game';
 
 const getApiBaseUrl = (): string => {
@@ -165,9 +166,9 @@ export class WordleAPI {
     }
   }
 
-  static async getAvailableRooms(): Promise<MultiPlayerRoom[]> {
+  static async getAvailableRooms(): Promise<LobbyRoom[]> {
     try {
-      const response = await axios.get<MultiPlayerRoom[]>(`${getApiBaseUrl()}/api/multiplayer/rooms`, {
+      const response = await axios.get<LobbyRoom[]>(`${getApiBaseUrl()}/api/multiplayer/rooms`, {
         timeout: 10000,
       });
       return response.data;
@@ -0,0 +1,82 @@
+import { Client, StompSubscription } from '@stomp/stompjs';
+import SockJS from 'sockjs-client';
+import { RoomEvent } from '../types/game';
+
+const WS_URL = 'http://localhost:8080/ws';
+
+type Listener = (event: RoomEvent) => void;
+
+interface Topic {
+  listeners: Set<Listener>;
+  subscription?: StompSubscription;
+}
+
+// One STOMP connection for the whole app; each topic is subscribed once however many components follow it
+const topics = new Map<string, Topic>();
+let client: Client | null = null;
+
+const listen = (stomp: Client, destination: string, topic: Topic) => {
+  topic.subscription = stomp.subscribe(destination, message => {
+    let event: RoomEvent;
+    try {
+      event = JSON.parse(message.body) as RoomEvent;
+    } catch (err) {
+      console.error('Failed to parse room event:', err);
+      return;
+    }
+    topic.listeners.forEach(listener => listener(event));
+  });
+};
+
+const connection = (): Client => {
+  if (!client) {
+    const stomp = new Client({
+      webSocketFactory: () => new SockJS(WS_URL),
+      reconnectDelay: 2000,
+      // Subscriptions do not survive a reconnect, so every open topic is subscribed again
+      onConnect: () => {
+        topics.forEach((topic, destination) => listen(stomp, destination, topic));
+      },
+      onStompError: frame => {
+        console.error('STOMP error:', frame.headers['message']);
+      },
+    });
+    stomp.activate();
+    client = stomp;
+  }
+  return client;
+};
+
+// Follows a STOMP topic pushed by the server; returns an unsubscribe function.
+const subscribe = (destination: string, onEvent: Listener): (() => void) => {
+  const stomp = connection();
+  let topic = topics.get(destination);
+  if (!topic) {
+    topic = { listeners: new Set() };
+    topics.set(destination, topic);
+    if (stomp.connected) {
+      listen(stomp, destination, topic);
+    }
+  }
+  // Wrapped so the same callback can be registered twice and removed once
+  const listener: Listener = event => onEvent(event);
+  topic.listeners.add(listener);
+
+  return () => {
+    const current = topics.get(destination);
+    if (!current) return;
+    current.listeners.delete(listener);
+    if (current.listeners.size === 0) {
+      if (stomp.connected) {
+        current.subscription?.unsubscribe();
+      }
+      topics.delete(destination);
+    }
+  };
+};
+
+export const subscribeToRoom = (roomId: string, onEvent: (event: RoomEvent) => void) =>
+  subscribe(`/topic/rooms/${roomId}`, onEvent);
+
+export const subscribeToLobby = (onEvent: (event: RoomEvent) => void) =>
+  subscribe('/topic/lobby', onEvent);
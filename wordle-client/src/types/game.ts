@@ -78,6 +78,27 @@ export interface MultiPlayerRoom {
   currentWord?: string;
 }
 
+// A joinable room as the lobby lists it
+export interface LobbyRoom {
+  roomId: string;
+  roomName?: string;
+  mode?: 'CLASSIC' | 'BATTLE_ROYALE';
+  playerCount: number;
+  maxPlayers: number;
+}
+
+export type RoomEventType = 'ROOMS_UPDATED' | 'PLAYER_JOINED' | 'GAME_STARTED' | 'GUESS_RESULT' | 'GAME_ENDED';
+
+export interface RoomEvent {
+  type: RoomEventType;
+  room?: MultiPlayerRoom;
+  rooms?: LobbyRoom[];
+  playerId?: string;
+  guess?: string;
+  result?: GuessResult[];
+  targetWord?: string;
+}
+
 export interface ApiResponse<T = any> {
   success: boolean;
   message?: string;
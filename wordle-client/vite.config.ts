@@ -3,6 +3,9 @@ import react from '@vitejs/plugin-react'
 
 export default defineConfig({
   plugins: [react()],
+  define: {
+    global: 'globalThis', // sockjs-client expects a Node-style global
+  },
   server: {
     port: 3000,
     host: true, // Allow external connections
@@ -0,0 +1,48 @@
+package com.wordle.cluster;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Node-to-node endpoints under {@code /api/cluster} only answer requests
+ * carrying the cluster secret, so nothing outside the cluster can join it,
+ * report a node as gone, or push rooms into it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class ClusterAuthFilter extends OncePerRequestFilter {
+
+  private static final String PREFIX = "/api/cluster";
+
+  private final ClusterMembership membership;
+
+  public ClusterAuthFilter(ClusterMembership membership) {
+    this.membership = membership;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = request.getRequestURI();
+    return !path.equals(PREFIX) && !path.startsWith(PREFIX + "/");
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+    if (!membership.isTrusted(request.getHeader(ClusterMembership.SECRET))) {
+      response.sendError(HttpServletResponse.SC_FORBIDDEN);
+      return;
+    }
+    chain.doFilter(request, response);
+  }
+}
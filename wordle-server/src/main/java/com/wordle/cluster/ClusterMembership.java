@@ -0,0 +1,277 @@
+package com.wordle.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.service.MultiPlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cluster membership and the room ownership ring.
+ *
+ * Every node pings every node it knows of, once per probe interval. A ping
+ * both checks the peer and tells it about this node, and the reply lists
+ * the peer's live members, so nodes learn of each other through any shared
+ * seed. A peer is live after one answered ping and dead after
+ * {@value #MAX_FAILURES} missed ones; a node shutting down says so and is
+ * dropped at once. Whenever the live set changes the ring is rebuilt, and
+ * ring listeners move rooms to their new owners.
+ *
+ * Nodes share a secret, sent in {@value #SECRET} on every node-to-node
+ * request; only requests carrying it are trusted as coming from a member.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class ClusterMembership {
+
+  private static final Logger log = LoggerFactory.getLogger(ClusterMembership.class);
+
+  public static final String SECRET = "X-Wordle-Cluster-Secret";
+
+  private static final int MAX_FAILURES = 3;
+  // Non-seed nodes are forgotten after this many missed pings in a row
+  private static final int FORGET_AFTER = 60;
+
+  private final String self;
+  private final Set<String> seeds;
+  private final int virtualNodes;
+  private final Duration probeInterval;
+  private final Duration requestTimeout;
+  private final ObjectMapper objectMapper;
+  private final MultiPlayerService multiPlayerService;
+  private final HttpClient http;
+  private final String secret;
+
+  private final Set<String> known = ConcurrentHashMap.newKeySet();
+  private final Set<String> alive = ConcurrentHashMap.newKeySet();
+  private final Map<String, Integer> failures = new ConcurrentHashMap<>();
+  private final List<Consumer<HashRing>> listeners = new CopyOnWriteArrayList<>();
+  private volatile HashRing ring;
+  private volatile boolean retired;
+  private ScheduledExecutorService prober;
+
+  public ClusterMembership(ObjectMapper objectMapper, MultiPlayerService multiPlayerService,
+                           @Value("${wordle.cluster.self}") String self,
+                           @Value("${wordle.cluster.seeds:}") List<String> seeds,
+                           @Value("${wordle.cluster.virtual-nodes:128}") int virtualNodes,
+                           @Value("${wordle.cluster.probe-interval:1s}") Duration probeInterval,
+                           @Value("${wordle.cluster.request-timeout:2s}") Duration requestTimeout,
+                           @Value("${wordle.cluster.secret:}") String secret) {
+    if (secret.isBlank()) {
+      throw new IllegalStateException("wordle.cluster.secret must be set in cluster mode");
+    }
+    this.objectMapper = objectMapper;
+    this.multiPlayerService = multiPlayerService;
+    this.self = normalize(self);
+    Set<String> s = new LinkedHashSet<>();
+    for (String seed : seeds) {
+      if (!seed.isBlank()) {
+        s.add(normalize(seed));
+      }
+    }
+    this.seeds = Set.copyOf(s);
+    this.virtualNodes = virtualNodes;
+    this.probeInterval = probeInterval;
+    this.requestTimeout = requestTimeout;
+    this.http = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+    this.secret = secret;
+  }
+
+  private static String normalize(String node) {
+    String n = node.trim();
+    return n.endsWith("/") ? n.substring(0, n.length() - 1) : n;
+  }
+
+  @PostConstruct
+  public void start() {
+    known.add(self);
+    known.addAll(seeds);
+    alive.add(self);
+    ring = new HashRing(alive, virtualNodes);
+    multiPlayerService.setRoomOwnership(this::isLocal);
+
+    prober = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "cluster-probe");
+      t.setDaemon(true);
+      return t;
+    });
+    prober.scheduleWithFixedDelay(this::probe, 0, probeInterval.toMillis(), TimeUnit.MILLISECONDS);
+    log.info("Cluster node {} starting with seeds {}", self, seeds);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (prober != null) {
+      prober.shutdownNow();
+    }
+    if (!retired) {
+      announceLeave();
+    }
+  }
+
+  void probe() {
+    boolean changed = false;
+    for (String peer : new ArrayList<>(known)) {
+      if (peer.equals(self)) {
+        continue;
+      }
+      try {
+        JsonNode reply = objectMapper.readTree(send(peer, "/api/cluster/ping", Map.of("node", self)));
+        failures.remove(peer);
+        for (JsonNode member : reply.path("members")) {
+          known.add(normalize(member.asText()));
+        }
+        changed |= alive.add(peer);
+      } catch (Exception e) {
+        int missed = failures.merge(peer, 1, Integer::sum);
+        if (missed >= MAX_FAILURES && alive.remove(peer)) {
+          log.warn("Cluster node {} is unreachable, dropping it from the ring", peer);
+          changed = true;
+        }
+        if (missed >= FORGET_AFTER && !seeds.contains(peer)) {
+          known.remove(peer);
+          failures.remove(peer);
+        }
+      }
+    }
+    if (changed) {
+      rebuild();
+    }
+  }
+
+  private byte[] send(String peer, String path, Object body) throws Exception {
+    HttpRequest request = newRequest(peer + path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+            .build();
+    HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    if (response.statusCode() / 100 != 2) {
+      throw new IllegalStateException(peer + path + " answered " + response.statusCode());
+    }
+    return response.body();
+  }
+
+  /** A peer pinged this node: it is alive. Returns this node's live members. */
+  public Set<String> onPing(String node) {
+    String peer = normalize(node);
+    known.add(peer);
+    failures.remove(peer);
+    if (alive.add(peer)) {
+      rebuild();
+    }
+    return Set.copyOf(alive);
+  }
+
+  public void onLeave(String node) {
+    String peer = normalize(node);
+    if (!seeds.contains(peer)) {
+      known.remove(peer);
+    }
+    if (alive.remove(peer)) {
+      log.info("Cluster node {} left", peer);
+      rebuild();
+    }
+  }
+
+  private synchronized void rebuild() {
+    HashRing next = new HashRing(alive, virtualNodes);
+    if (next.getNodes().equals(ring.getNodes())) {
+      return;
+    }
+    ring = next;
+    log.info("Cluster ring is now {}", next.getNodes());
+    for (Consumer<HashRing> listener : listeners) {
+      listener.accept(next);
+    }
+  }
+
+  /**
+   * Takes this node out of its own ring ahead of shutdown, so its rooms get
+   * other owners. Returns false when no other node is live to take them.
+   */
+  public synchronized boolean retire() {
+    if (retired || alive.size() <= 1) {
+      return false;
+    }
+    retired = true;
+    // A ping would make peers count this node live again
+    prober.shutdownNow();
+    // Peers drop this node first, so they keep the rooms they are about to receive
+    announceLeave();
+    alive.remove(self);
+    ring = new HashRing(alive, virtualNodes);
+    log.info("Cluster node {} retiring, ring is now {}", self, ring.getNodes());
+    return true;
+  }
+
+  private void announceLeave() {
+    // Best effort: peers that miss this notice the loss by probing instead
+    for (String peer : alive) {
+      if (!peer.equals(self)) {
+        try {
+          send(peer, "/api/cluster/leave", Map.of("node", self));
+        } catch (Exception e) {
+          log.debug("Could not tell {} about shutdown", peer, e);
+        }
+      }
+    }
+  }
+
+  /** Called with the new ring after every membership change; must not block. */
+  public void addRingListener(Consumer<HashRing> listener) {
+    listeners.add(listener);
+  }
+
+  public String owner(String roomId) {
+    return ring.owner(roomId);
+  }
+
+  public boolean isLocal(String roomId) {
+    return ring.owner(roomId).equals(self);
+  }
+
+  public String getSelf() {
+    return self;
+  }
+
+  public HashRing getRing() {
+    return ring;
+  }
+
+  public HttpClient getHttpClient() {
+    return http;
+  }
+
+  /** A request to another node, with the request timeout and the cluster secret. */
+  public HttpRequest.Builder newRequest(String url) {
+    return HttpRequest.newBuilder(URI.create(url))
+            .timeout(requestTimeout)
+            .header(SECRET, secret);
+  }
+
+  /** Whether a request's {@value #SECRET} header holds this cluster's secret. */
+  public boolean isTrusted(String header) {
+    return header != null && MessageDigest.isEqual(
+            header.getBytes(StandardCharsets.UTF_8), secret.getBytes(StandardCharsets.UTF_8));
+  }
+}
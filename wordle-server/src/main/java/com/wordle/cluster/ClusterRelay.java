@@ -0,0 +1,222 @@
+package com.wordle.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.dto.LobbyRoom;
+import com.wordle.service.LobbyIndex;
+import com.wordle.service.RoomEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps clients and lobbies on every node in step with rooms held elsewhere.
+ * Room events published on this node are sent on to every other live node,
+ * which publishes them to its own subscribers, so a client can follow a room
+ * over whichever node its socket reached. Changes to this node's lobby
+ * listings travel the same way, so every node's lobby lists every joinable
+ * room in the cluster.
+ *
+ * Messages queue in order and one sender thread posts them to each peer in
+ * batches. A peer that joins the ring, or misses a batch, is first sent a
+ * full listing of this node's rooms and answers with its own; a peer that
+ * leaves has its listings dropped. Room events a peer missed are not resent,
+ * since clients refetch a room when they need to. If the queue fills, new
+ * messages are dropped and every peer is resynced.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class ClusterRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(ClusterRelay.class);
+  private static final int MAX_QUEUED = 10_000;
+  private static final int MAX_BATCH = 256;
+  private static final long IDLE_MILLIS = 1000;
+
+  private final ClusterMembership membership;
+  private final RoomEventPublisher eventPublisher;
+  private final LobbyIndex lobby;
+  private final ObjectMapper objectMapper;
+  private final BlockingQueue<RelayBatch.Message> queue = new LinkedBlockingQueue<>(MAX_QUEUED);
+  // Peers owed a full listing of this node's rooms, and whether to ask for theirs back
+  private final Map<String, Boolean> resync = new ConcurrentHashMap<>();
+  private volatile Set<String> peers = Set.of();
+  private ExecutorService sender;
+
+  public ClusterRelay(ClusterMembership membership, RoomEventPublisher eventPublisher, LobbyIndex lobby,
+                      ObjectMapper objectMapper) {
+    this.membership = membership;
+    this.eventPublisher = eventPublisher;
+    this.lobby = lobby;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void start() {
+    eventPublisher.setRelay(this::relayEvent);
+    lobby.onLocalChange(this::relayListing);
+    membership.addRingListener(this::onRingChange);
+    onRingChange(membership.getRing());
+    sender = Executors.newSingleThreadExecutor(r -> {
+      Thread t = new Thread(r, "cluster-relay");
+      t.setDaemon(true);
+      return t;
+    });
+    sender.execute(this::run);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (sender != null) {
+      sender.shutdownNow();
+    }
+  }
+
+  // Called under the room's lock: the event is copied to a tree now, while it is consistent
+  private void relayEvent(String topic, Map<String, Object> event) {
+    if (peers.isEmpty()) {
+      return;
+    }
+    RelayBatch.Message message = new RelayBatch.Message();
+    message.setTopic(topic);
+    message.setEvent(objectMapper.valueToTree(event));
+    enqueue(message);
+  }
+
+  // Rooms listed before any peer joined reach it in the resync it gets on joining
+  private void relayListing(String roomId, LobbyRoom room) {
+    if (peers.isEmpty()) {
+      return;
+    }
+    RelayBatch.Message message = new RelayBatch.Message();
+    message.setRoomId(roomId);
+    message.setRoom(room);
+    enqueue(message);
+  }
+
+  private void enqueue(RelayBatch.Message message) {
+    if (!queue.offer(message)) {
+      log.debug("Cluster relay queue is full, dropping a message and resyncing peers");
+      for (String peer : peers) {
+        resync.putIfAbsent(peer, false);
+      }
+    }
+  }
+
+  private void onRingChange(HashRing ring) {
+    Set<String> next = new HashSet<>(ring.getNodes());
+    next.remove(membership.getSelf());
+    for (String node : next) {
+      if (!peers.contains(node)) {
+        resync.put(node, true);
+      }
+    }
+    for (String node : peers) {
+      if (!next.contains(node)) {
+        resync.remove(node);
+        lobby.replace(node, List.of());
+      }
+    }
+    peers = Set.copyOf(next);
+  }
+
+  private void run() {
+    List<RelayBatch.Message> batch = new ArrayList<>(MAX_BATCH);
+    List<RelayBatch.Message> events = new ArrayList<>(MAX_BATCH);
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        RelayBatch.Message first = queue.poll(IDLE_MILLIS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          batch.add(first);
+          queue.drainTo(batch, MAX_BATCH - 1);
+        }
+        for (String peer : peers) {
+          Boolean askBack = resync.remove(peer);
+          RelayBatch out = new RelayBatch(membership.getSelf());
+          if (askBack != null) {
+            // The listing is taken after the batch was drained, so it covers the batch's listing changes
+            if (events.isEmpty()) {
+              batch.stream().filter(m -> m.getTopic() != null).forEach(events::add);
+            }
+            out.setRooms(lobby.localRooms());
+            out.setResync(askBack);
+            out.setMessages(events);
+          } else if (batch.isEmpty()) {
+            continue;
+          } else {
+            out.setMessages(batch);
+          }
+          if (!send(peer, out)) {
+            resync.putIfAbsent(peer, askBack != null && askBack);
+          }
+        }
+        batch.clear();
+        events.clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (RuntimeException e) {
+        log.warn("Cluster relay pass failed", e);
+        batch.clear();
+        events.clear();
+      }
+    }
+  }
+
+  private boolean send(String peer, RelayBatch batch) {
+    try {
+      HttpRequest request = membership.newRequest(peer + "/api/cluster/relay")
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(batch)))
+              .build();
+      HttpResponse<Void> response = membership.getHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() / 100 == 2) {
+        return true;
+      }
+      log.debug("Relay to {} answered {}", peer, response.statusCode());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.debug("Relay to {} failed: {}", peer, e.toString());
+    }
+    return false;
+  }
+
+  /**
+   * Applies a batch from another node. Listings are only taken from nodes in
+   * this node's ring, so a node this one never saw join cannot leave
+   * listings behind; it is resynced once it joins.
+   */
+  public void receive(RelayBatch batch) {
+    String node = batch.getNode();
+    boolean peer = node != null && peers.contains(node);
+    if (peer && batch.getRooms() != null) {
+      lobby.replace(node, batch.getRooms());
+      if (batch.isResync()) {
+        resync.put(node, false);
+      }
+    }
+    for (RelayBatch.Message message : batch.getMessages()) {
+      if (message.getTopic() != null) {
+        eventPublisher.publishRelayed(message.getTopic(), message.getEvent());
+      } else if (peer && message.getRoomId() != null) {
+        lobby.update(node, message.getRoomId(), message.getRoom());
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.wordle.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable consistent-hash ring. Each node is placed at {@code virtualNodes}
+ * points and a key belongs to the first node point at or after the key's
+ * hash. Adding or removing a node moves only the keys in the arcs it gains
+ * or loses, about 1/n of them.
+ *
+ * The hash is FNV-1a over UTF-8 bytes with a 64-bit finalizer, so every node
+ * computes the same ring for the same member list, whatever the JVM.
+ */
+public final class HashRing {
+
+  private final List<String> nodes;
+  private final long[] points;
+  private final String[] owners;
+
+  public HashRing(Collection<String> nodes, int virtualNodes) {
+    if (nodes.isEmpty()) {
+      throw new IllegalArgumentException("A ring needs at least one node");
+    }
+    this.nodes = List.copyOf(new TreeSet<>(nodes));
+    int n = this.nodes.size() * virtualNodes;
+    long[][] placed = new long[n][2];
+    int i = 0;
+    for (int node = 0; node < this.nodes.size(); node++) {
+      for (int v = 0; v < virtualNodes; v++) {
+        placed[i][0] = hash(this.nodes.get(node) + "#" + v);
+        placed[i][1] = node;
+        i++;
+      }
+    }
+    // Ties broken by node name order, so equal points resolve the same way everywhere
+    Arrays.sort(placed, (a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]));
+    this.points = new long[n];
+    this.owners = new String[n];
+    for (i = 0; i < n; i++) {
+      points[i] = placed[i][0];
+      owners[i] = this.nodes.get((int) placed[i][1]);
+    }
+  }
+
+  public String owner(String key) {
+    int i = Arrays.binarySearch(points, hash(key));
+    if (i < 0) {
+      i = -i - 1;
+    }
+    return owners[i == points.length ? 0 : i];
+  }
+
+  public List<String> getNodes() {
+    return nodes;
+  }
+
+  static long hash(String key) {
+    long h = 0xcbf29ce484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      h ^= b & 0xff;
+      h *= 0x100000001b3L;
+    }
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+
+  @Override
+  public String toString() {
+    return "HashRing" + nodes;
+  }
+}
@@ -0,0 +1,50 @@
+package com.wordle.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wordle.dto.LobbyRoom;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// What one node's ClusterRelay sends another: room events and lobby listing changes, in order
+public class RelayBatch {
+  private String node;
+  // Every room the sender holds, replacing what the receiver lists for it; null if this is not a resync
+  private List<LobbyRoom> rooms;
+  // Whether the receiver should resync the sender in turn
+  private boolean resync;
+  private List<Message> messages = new ArrayList<>();
+
+  // A room event to publish (topic and event), or a change to one of the sender's listings (roomId and room)
+  public static class Message {
+    private String topic;
+    private JsonNode event;
+    private String roomId;
+    private LobbyRoom room; // Null once the room is no longer listed
+
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+    public JsonNode getEvent() { return event; }
+    public void setEvent(JsonNode event) { this.event = event; }
+    public String getRoomId() { return roomId; }
+    public void setRoomId(String roomId) { this.roomId = roomId; }
+    public LobbyRoom getRoom() { return room; }
+    public void setRoom(LobbyRoom room) { this.room = room; }
+  }
+
+  public RelayBatch() {}
+
+  public RelayBatch(String node) {
+    this.node = node;
+  }
+
+  // Getters and setters
+  public String getNode() { return node; }
+  public void setNode(String node) { this.node = node; }
+  public List<LobbyRoom> getRooms() { return rooms; }
+  public void setRooms(List<LobbyRoom> rooms) { this.rooms = rooms; }
+  public boolean isResync() { return resync; }
+  public void setResync(boolean resync) { this.resync = resync; }
+  public List<Message> getMessages() { return messages; }
+  public void setMessages(List<Message> messages) { this.messages = messages; }
+}
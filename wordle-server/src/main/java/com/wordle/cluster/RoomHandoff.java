@@ -0,0 +1,110 @@
+package com.wordle.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.journal.JournalEvent;
+import com.wordle.service.MultiPlayerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves rooms to their owner after the ring changes. A room travels as the
+ * same events a journal snapshot would hold; the new owner replays them and
+ * only then does this node drop its copy. From the export until then the
+ * room rejects changes, so no guess can land on the copy being dropped, but
+ * its lock is not held while the new owner is called. Transfers that fail
+ * are retried on the next pass. A node shutting down first hands every room
+ * it holds to the remaining nodes.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class RoomHandoff {
+
+  private static final Logger log = LoggerFactory.getLogger(RoomHandoff.class);
+  private static final long RETRY_SECONDS = 10;
+
+  private final ClusterMembership membership;
+  private final MultiPlayerService multiPlayerService;
+  private final ObjectMapper objectMapper;
+  private ScheduledExecutorService executor;
+
+  public RoomHandoff(ClusterMembership membership, MultiPlayerService multiPlayerService, ObjectMapper objectMapper) {
+    this.membership = membership;
+    this.multiPlayerService = multiPlayerService;
+    this.objectMapper = objectMapper;
+  }
+
+  @PostConstruct
+  public void start() {
+    executor = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "room-handoff");
+      t.setDaemon(true);
+      return t;
+    });
+    membership.addRingListener(ring -> executor.execute(this::rebalance));
+    executor.scheduleWithFixedDelay(this::rebalance, RETRY_SECONDS, RETRY_SECONDS, TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+    }
+    // Hand rooms over while this node can still serve them. Rooms on a node
+    // that crashes come back from its journal when it restarts.
+    if (membership.retire()) {
+      rebalance();
+    }
+  }
+
+  void rebalance() {
+    int moved = 0;
+    for (String roomId : multiPlayerService.getRoomIds()) {
+      String owner = membership.owner(roomId);
+      if (!owner.equals(membership.getSelf()) && transfer(roomId, owner)) {
+        moved++;
+      }
+    }
+    if (moved > 0) {
+      log.info("Handed {} rooms to their new owners", moved);
+    }
+  }
+
+  private boolean transfer(String roomId, String owner) {
+    List<JournalEvent> events = new ArrayList<>();
+    if (!multiPlayerService.startHandoff(roomId, events::add)) {
+      return false;
+    }
+    boolean handedOver = false;
+    try {
+      HttpRequest request = membership.newRequest(owner + "/api/cluster/rooms/" + roomId)
+              .header("Content-Type", "application/json")
+              .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+              .build();
+      HttpResponse<Void> response = membership.getHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+      if (response.statusCode() / 100 == 2) {
+        handedOver = true;
+      } else {
+        log.warn("Room {} handoff to {} answered {}", roomId, owner, response.statusCode());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      log.warn("Room {} handoff to {} failed: {}", roomId, owner, e.toString());
+    } finally {
+      multiPlayerService.finishHandoff(roomId, handedOver);
+    }
+    return handedOver;
+  }
+}
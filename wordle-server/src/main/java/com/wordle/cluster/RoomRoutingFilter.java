@@ -0,0 +1,192 @@
+package com.wordle.cluster;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.config.TraceIdFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends multiplayer requests for a room to the node that owns it. The room ID
+ * comes from the path ({@code /room/{id}}, {@code /game-state/{id}/...}) or
+ * from the JSON body's {@code roomId}. Requests without one, such as the
+ * lobby and room creation, are served locally.
+ *
+ * Forwarded requests are marked, and a node always serves a marked request
+ * itself, so nodes that briefly disagree about the ring cannot bounce a
+ * request between them. The mark only counts on requests that also carry
+ * the cluster secret, so clients cannot use it to skip routing. Responses name the owner in {@value #NODE}.
+ * Room events reach clients on every node through {@link ClusterRelay}, so
+ * clients need not connect their WebSocket to the owner.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class RoomRoutingFilter extends OncePerRequestFilter {
+
+  private static final Logger log = LoggerFactory.getLogger(RoomRoutingFilter.class);
+
+  public static final String FORWARDED = "X-Wordle-Forwarded";
+  public static final String NODE = "X-Wordle-Node";
+
+  private static final String PREFIX = "/api/multiplayer/";
+  private static final Pattern ROOM_PATH = Pattern.compile("^/api/multiplayer/(?:room|game-state)/([^/]+)");
+  private static final List<String> REQUEST_HEADERS =
+          List.of("Content-Type", "Accept", "If-None-Match", TraceIdFilter.HEADER);
+  private static final List<String> RESPONSE_HEADERS = List.of("Content-Type", "ETag", "Vary", "X-Total-Count");
+
+  private final ClusterMembership membership;
+  private final ObjectMapper objectMapper;
+
+  public RoomRoutingFilter(ClusterMembership membership, ObjectMapper objectMapper) {
+    this.membership = membership;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(PREFIX)
+            || (request.getHeader(FORWARDED) != null && membership.isTrusted(request.getHeader(ClusterMembership.SECRET)));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+    String roomId = null;
+    byte[] body = null;
+    Matcher path = ROOM_PATH.matcher(request.getRequestURI());
+    if (path.find()) {
+      roomId = path.group(1);
+    } else if ("POST".equals(request.getMethod())) {
+      body = request.getInputStream().readAllBytes();
+      roomId = roomIdOf(body);
+      request = new CachedBodyRequest(request, body);
+    }
+
+    if (roomId == null || membership.isLocal(roomId)) {
+      chain.doFilter(request, response);
+      return;
+    }
+    forward(request, response, membership.owner(roomId), body);
+  }
+
+  private String roomIdOf(byte[] body) {
+    if (body.length == 0) {
+      return null;
+    }
+    try {
+      JsonNode roomId = objectMapper.readTree(body).get("roomId");
+      return roomId != null && roomId.isTextual() ? roomId.asText() : null;
+    } catch (IOException e) {
+      // Not JSON: let the controller reject it
+      return null;
+    }
+  }
+
+  private void forward(HttpServletRequest request, HttpServletResponse response, String owner, byte[] body)
+          throws IOException {
+    String query = request.getQueryString();
+    HttpRequest.Builder builder = membership.newRequest(
+                    owner + request.getRequestURI() + (query != null ? "?" + query : ""))
+            .header(FORWARDED, membership.getSelf())
+            .method(request.getMethod(), body != null
+                    ? HttpRequest.BodyPublishers.ofByteArray(body) : HttpRequest.BodyPublishers.noBody());
+    for (String name : REQUEST_HEADERS) {
+      String value = request.getHeader(name);
+      if (value != null) {
+        builder.header(name, value);
+      }
+    }
+
+    HttpResponse<byte[]> forwarded;
+    try {
+      forwarded = membership.getHttpClient().send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      return;
+    } catch (IOException e) {
+      log.warn("Forwarding {} to {} failed: {}", request.getRequestURI(), owner, e.toString());
+      response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+      return;
+    }
+
+    response.setStatus(forwarded.statusCode());
+    for (String name : RESPONSE_HEADERS) {
+      forwarded.headers().firstValue(name).ifPresent(value -> response.setHeader(name, value));
+    }
+    response.setHeader(NODE, owner);
+    response.getOutputStream().write(forwarded.body());
+  }
+
+  // Replays a body that was already read to find the room ID
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+          return in.read(b, off, len);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        // The whole body is already here, so the listener can read all of it at once
+        @Override
+        public void setReadListener(ReadListener listener) {
+          try {
+            if (!isFinished()) {
+              listener.onDataAvailable();
+            }
+            if (isFinished()) {
+              listener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            listener.onError(e);
+          }
+        }
+      };
+    }
+  }
+}
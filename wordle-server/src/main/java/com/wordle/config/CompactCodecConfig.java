@@ -0,0 +1,147 @@
+package com.wordle.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.wordle.model.GuessRow;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Compact response encodings, chosen by the client's Accept header:
+ * <ul>
+ *   <li>{@code application/vnd.wordle.compact+json}: JSON with each guess row
+ *   written as one {@code "CRANE:MPHMM"} string instead of five tile objects</li>
+ *   <li>{@code application/cbor}: the same compact document in CBOR</li>
+ * </ul>
+ * Plain {@code application/json} (and {@code *}{@code /*}) is unchanged.
+ * Both encodings reuse the application's Jackson settings, and every endpoint
+ * that returns guess rows gets them without changes.
+ *
+ * Since one URL has several encodings, every API response carries
+ * {@code Vary: Accept}, and ETags built with {@link #etag} name the encoding,
+ * so a cache never answers one encoding's request with another's body.
+ */
+@Configuration
+public class CompactCodecConfig implements WebMvcConfigurer {
+
+  public static final String COMPACT_JSON_VALUE = "application/vnd.wordle.compact+json";
+  public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+
+  private final ObjectMapper compactJson;
+  private final ObjectMapper compactCbor;
+
+  public CompactCodecConfig(ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+    this.compactJson = compactMapper(builders.getObject());
+    this.compactCbor = compactMapper(builders.getObject().factory(new CBORFactory()));
+  }
+
+  /** A mapper from {@code builder} that writes guess rows in compact form; pass a CBOR factory for CBOR. */
+  public static ObjectMapper compactMapper(Jackson2ObjectMapperBuilder builder) {
+    SimpleModule compact = new SimpleModule("wordle-compact").addSerializer(GuessRow.class, new GuessRowSerializer());
+    return builder.postConfigurer(mapper -> mapper.registerModule(compact)).build();
+  }
+
+  /** An ETag for {@code version} of a resource, in the encoding negotiated for {@code accept}. */
+  public static String etag(long version, String accept) {
+    return "\"" + version + encodingOf(accept) + "\"";
+  }
+
+  // The suffix for the encoding a request gets: the most preferred type the server produces, as in negotiation
+  static String encodingOf(String accept) {
+    if (accept == null || accept.isBlank()) {
+      return "";
+    }
+    List<MediaType> types;
+    try {
+      types = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException e) {
+      return "";
+    }
+    MimeTypeUtils.sortBySpecificity(types);
+    for (MediaType type : types) {
+      if (type.getQualityValue() == 0) {
+        continue;
+      }
+      // Wildcards match plain JSON first, since it is the default
+      if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+        return "";
+      }
+      if (type.isCompatibleWith(COMPACT_JSON)) {
+        return "-compact";
+      }
+      if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+        return "-cbor";
+      }
+    }
+    return "";
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    // Added before the handler runs, so not-modified answers carry it too
+    registry.addInterceptor(new HandlerInterceptor() {
+      @Override
+      public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return true;
+      }
+    }).addPathPatterns("/api/**");
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    boolean cbor = false;
+    for (HttpMessageConverter<?> converter : converters) {
+      if (converter instanceof MappingJackson2CborHttpMessageConverter cborConverter) {
+        cborConverter.setObjectMapper(compactCbor);
+        cbor = true;
+      } else if (converter instanceof MappingJackson2HttpMessageConverter jsonConverter) {
+        // Registered types replace the converter's own list, and the first one is the default,
+        // so plain JSON keeps the application mapper and stays first
+        ObjectMapper json = jsonConverter.getObjectMapper();
+        jsonConverter.registerObjectMappersForType(Object.class, mappers -> {
+          mappers.put(MediaType.APPLICATION_JSON, json);
+          mappers.put(COMPACT_JSON, compactJson);
+          mappers.put(new MediaType("application", "*+json"), json);
+        });
+      }
+    }
+    if (!cbor) {
+      converters.add(new MappingJackson2CborHttpMessageConverter(compactCbor));
+    }
+  }
+
+  // Writes a row from its packed form into an exactly sized buffer, with no tile objects
+  static final class GuessRowSerializer extends StdSerializer<GuessRow> {
+
+    GuessRowSerializer() {
+      super(GuessRow.class);
+    }
+
+    @Override
+    public void serialize(GuessRow row, JsonGenerator gen, SerializerProvider provider) throws IOException {
+      char[] buffer = new char[2 * row.size() + 1];
+      gen.writeString(buffer, 0, row.encode(buffer, 0));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.wordle.config;
+
+import com.wordle.service.BotService;
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.WordleService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Gauges read from the services on scrape, so nothing is updated on the request path
+@Configuration
+public class MetricsConfig {
+
+  @Bean
+  public MeterBinder gameStoreMetrics(WordleService wordleService, MultiPlayerService multiPlayerService) {
+    return registry -> {
+      Gauge.builder("wordle.games.active", wordleService, WordleService::getActiveGameCount)
+              .description("Single-player games held in the store")
+              .register(registry);
+      Gauge.builder("wordle.rooms.active", multiPlayerService, MultiPlayerService::getActiveRoomCount)
+              .description("Multiplayer rooms held in memory")
+              .register(registry);
+      FunctionCounter.builder("wordle.games.evictions", wordleService, WordleService::getEvictionCount)
+              .description("Games evicted by the size cap or expiry")
+              .register(registry);
+      FunctionCounter.builder("wordle.rooms.evictions", multiPlayerService, MultiPlayerService::getEvictionCount)
+              .description("Rooms evicted by the size cap or expiry")
+              .register(registry);
+    };
+  }
+
+  @Bean
+  public MeterBinder botMetrics(BotService botService) {
+    return registry -> {
+      Gauge.builder("wordle.bots.playing", botService, BotService::getPlayingCount)
+              .description("Bots in a game in progress")
+              .register(registry);
+      FunctionCounter.builder("wordle.bots.moves", botService, BotService::getMoveCount)
+              .description("Guesses made by bots")
+              .register(registry);
+      Gauge.builder("wordle.bots.lag", botService, BotService::getLagSeconds)
+              .description("How late the last bot move ran; grows once bots need more than their CPU budget")
+              .baseUnit("seconds")
+              .register(registry);
+    };
+  }
+}
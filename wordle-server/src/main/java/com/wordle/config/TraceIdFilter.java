@@ -0,0 +1,58 @@
+package com.wordle.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tags every request with a trace ID, taken from the caller's X-Trace-Id
+ * header when it is well formed, and echoes it on the response. The ID sits
+ * in the MDC for the request, so every log line it writes carries it.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TraceIdFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Trace-Id";
+  public static final String MDC_KEY = "traceId";
+  private static final int MAX_LENGTH = 64;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+    String traceId = request.getHeader(HEADER);
+    if (!isValid(traceId)) {
+      traceId = String.format("%016x", ThreadLocalRandom.current().nextLong());
+    }
+    MDC.put(MDC_KEY, traceId);
+    response.setHeader(HEADER, traceId);
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+
+  // Callers may only pass short IDs of letters, digits, '-' and '_', so nothing can be injected into logs
+  private static boolean isValid(String traceId) {
+    if (traceId == null || traceId.isEmpty() || traceId.length() > MAX_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < traceId.length(); i++) {
+      char c = traceId.charAt(i);
+      if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
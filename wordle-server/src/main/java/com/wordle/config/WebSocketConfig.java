@@ -0,0 +1,33 @@
+package com.wordle.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+// STOMP over SockJS push channel: rooms publish to /topic/rooms/{roomId}, the lobby to /topic/lobby
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+  @Override
+  public void registerStompEndpoints(StompEndpointRegistry registry) {
+    registry.addEndpoint("/ws")
+            .setAllowedOriginPatterns("http://localhost:3000", "https://select-woodcock-lately.ngrok-free.app")
+            .withSockJS();
+  }
+
+  @Override
+  public void configureMessageBroker(MessageBrokerRegistry registry) {
+    registry.enableSimpleBroker("/topic");
+    registry.setApplicationDestinationPrefixes("/app");
+  }
+
+  @Override
+  public void configureClientOutboundChannel(ChannelRegistration registration) {
+    // Fan-out to subscribers happens on this bounded pool, never on request threads
+    registration.taskExecutor().corePoolSize(4).maxPoolSize(8);
+  }
+}
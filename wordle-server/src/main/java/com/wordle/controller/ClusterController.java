@@ -0,0 +1,95 @@
+package com.wordle.controller;
+
+import com.wordle.cluster.ClusterMembership;
+import com.wordle.cluster.ClusterRelay;
+import com.wordle.cluster.RelayBatch;
+import com.wordle.journal.JournalEvent;
+import com.wordle.service.MultiPlayerService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Node-to-node endpoints for cluster mode: membership pings, room handoff and the relay. ClusterAuthFilter admits only members.
+@RestController
+@RequestMapping("/api/cluster")
+@ConditionalOnProperty(name = "wordle.cluster.enabled", havingValue = "true")
+public class ClusterController {
+
+  // What RoomHandoff sends: a room's creation, joins, game start, guesses and end
+  private static final Set<JournalEvent.Type> HANDOFF_EVENTS = EnumSet.of(
+          JournalEvent.Type.ROOM_CREATED, JournalEvent.Type.PLAYER_JOINED, JournalEvent.Type.GAME_STARTED,
+          JournalEvent.Type.ROOM_GUESS, JournalEvent.Type.GAME_ENDED);
+
+  private final ClusterMembership membership;
+  private final MultiPlayerService multiPlayerService;
+  private final ClusterRelay relay;
+
+  public ClusterController(ClusterMembership membership, MultiPlayerService multiPlayerService, ClusterRelay relay) {
+    this.membership = membership;
+    this.multiPlayerService = multiPlayerService;
+    this.relay = relay;
+  }
+
+  @GetMapping
+  public Map<String, Object> getCluster() {
+    return Map.of(
+            "self", membership.getSelf(),
+            "nodes", membership.getRing().getNodes(),
+            "rooms", multiPlayerService.getActiveRoomCount());
+  }
+
+  @GetMapping("/owner/{roomId}")
+  public Map<String, String> getOwner(@PathVariable String roomId) {
+    return Map.of("roomId", roomId, "owner", membership.owner(roomId));
+  }
+
+  @PostMapping("/ping")
+  public ResponseEntity<Map<String, Object>> ping(@RequestBody Map<String, String> request) {
+    String node = request.get("node");
+    if (node == null || node.isBlank()) {
+      return ResponseEntity.badRequest().build();
+    }
+    return ResponseEntity.ok(Map.of("node", membership.getSelf(), "members", membership.onPing(node)));
+  }
+
+  @PostMapping("/leave")
+  public ResponseEntity<Void> leave(@RequestBody Map<String, String> request) {
+    String node = request.get("node");
+    if (node == null || node.isBlank()) {
+      return ResponseEntity.badRequest().build();
+    }
+    membership.onLeave(node);
+    return ResponseEntity.ok().build();
+  }
+
+  // Room events and lobby listings from another node's relay
+  @PostMapping("/relay")
+  public ResponseEntity<Void> relay(@RequestBody RelayBatch batch) {
+    try {
+      relay.receive(batch);
+      return ResponseEntity.ok().build();
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  // A room handed over by its previous owner, as journal events to replay; only events building that room
+  @PostMapping("/rooms/{roomId}")
+  public ResponseEntity<Void> importRoom(@PathVariable String roomId, @RequestBody List<JournalEvent> events) {
+    if (events.isEmpty() || events.get(0).getType() != JournalEvent.Type.ROOM_CREATED) {
+      return ResponseEntity.badRequest().build();
+    }
+    for (JournalEvent event : events) {
+      if (!roomId.equals(event.getId()) || !HANDOFF_EVENTS.contains(event.getType())) {
+        return ResponseEntity.badRequest().build();
+      }
+    }
+    multiPlayerService.importRoom(events);
+    return ResponseEntity.ok().build();
+  }
+}
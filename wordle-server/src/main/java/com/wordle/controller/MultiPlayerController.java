@@ -1,12 +1,26 @@
 package com.wordle.controller;
 
+import com.wordle.config.CompactCodecConfig;
+import com.wordle.dto.RoomDelta;
+import com.wordle.dto.RoomSummary;
+import com.wordle.model.GameVariant;
 import com.wordle.model.GuessResult;
+import com.wordle.model.Leaderboard;
 import com.wordle.model.MultiPlayerRoom;
 import com.wordle.model.Player;
+import com.wordle.model.Standing;
+import com.wordle.service.BotService;
+import com.wordle.service.LobbyIndex;
 import com.wordle.service.MultiPlayerService;
+import com.wordle.service.RankingService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +31,14 @@ import java.util.Map;
 public class MultiPlayerController {
 
   private final MultiPlayerService multiPlayerService;
+  private final RankingService rankingService;
+  private final BotService botService;
 
-  public MultiPlayerController(MultiPlayerService multiPlayerService) {
+  public MultiPlayerController(MultiPlayerService multiPlayerService, RankingService rankingService,
+                               BotService botService) {
     this.multiPlayerService = multiPlayerService;
+    this.rankingService = rankingService;
+    this.botService = botService;
   }
 
   @PostMapping("/create-room")
@@ -29,10 +48,18 @@ public class MultiPlayerController {
       String roomName = (String) request.get("roomName");
       String username = (String) request.get("username");
       Integer maxPlayers = (Integer) request.get("maxPlayers");
+      String mode = (String) request.get("mode");
+      Integer wordLength = (Integer) request.get("wordLength");
+      Integer boards = (Integer) request.get("boards");
+      Integer maxRounds = (Integer) request.get("maxRounds");
 
       if (maxPlayers == null) maxPlayers = 4;
+      MultiPlayerRoom.RoomMode roomMode = mode != null
+              ? MultiPlayerRoom.RoomMode.valueOf(mode.toUpperCase()) : MultiPlayerRoom.RoomMode.CLASSIC;
+      GameVariant variant = GameVariant.of(wordLength != null ? wordLength : GameVariant.CLASSIC.getLength(),
+              boards != null ? boards : 1, maxRounds != null ? maxRounds : 0);
 
-      MultiPlayerRoom room = multiPlayerService.createRoom(creatorId, roomName, maxPlayers, username);
+      MultiPlayerRoom room = multiPlayerService.createRoom(creatorId, roomName, maxPlayers, username, roomMode, variant);
       return ResponseEntity.ok(room);
     } catch (Exception e) {
       return ResponseEntity.badRequest().build();
@@ -40,13 +67,36 @@ public class MultiPlayerController {
   }
 
   @PostMapping("/join-room")
-  public ResponseEntity<MultiPlayerRoom> joinRoom(@RequestBody Map<String, String> request) {
+  public ResponseEntity<?> joinRoom(@RequestBody Map<String, String> request) {
     try {
       String roomId = request.get("roomId");
       String playerId = request.get("playerId");
       String username = request.get("username");
 
       MultiPlayerRoom room = multiPlayerService.joinRoom(roomId, playerId, username);
+      if (room.getMode() == MultiPlayerRoom.RoomMode.BATTLE_ROYALE) {
+        // The full player list is too large to hand to every joiner
+        return ResponseEntity.ok(multiPlayerService.getRoomSummary(roomId, playerId, 0));
+      }
+      return ResponseEntity.ok(room);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  // level is random, frequency (the default) or entropy, weakest first
+  @PostMapping("/add-bot")
+  public ResponseEntity<?> addBot(@RequestBody Map<String, String> request) {
+    try {
+      String roomId = request.get("roomId");
+      String level = request.get("level");
+      Player.BotLevel botLevel = level != null
+              ? Player.BotLevel.valueOf(level.toUpperCase()) : Player.BotLevel.FREQUENCY;
+
+      MultiPlayerRoom room = botService.addBot(roomId, botLevel);
+      if (room.getMode() == MultiPlayerRoom.RoomMode.BATTLE_ROYALE) {
+        return ResponseEntity.ok(multiPlayerService.getRoomSummary(roomId, null, 0));
+      }
       return ResponseEntity.ok(room);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.badRequest().build();
@@ -65,17 +115,91 @@ public class MultiPlayerController {
   }
 
   @GetMapping("/room/{roomId}")
-  public ResponseEntity<MultiPlayerRoom> getRoom(@PathVariable String roomId) {
+  public ResponseEntity<?> getRoom(@PathVariable String roomId,
+                                   @RequestParam(required = false) Long since,
+                                   @RequestParam(required = false) String playerId,
+                                   WebRequest webRequest) {
     MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
     if (room == null) {
       return ResponseEntity.notFound().build();
     }
-    return ResponseEntity.ok(room);
+
+    // Unchanged since the client's copy: skip serialization entirely
+    long version = room.getVersion();
+    String etag = CompactCodecConfig.etag(version, webRequest.getHeader(HttpHeaders.ACCEPT));
+    if (webRequest.checkNotModified(etag) || (since != null && since == version)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    // Battle royale rooms are too large to send whole, or even as a delta of changed players
+    if (room.getMode() == MultiPlayerRoom.RoomMode.BATTLE_ROYALE) {
+      return ResponseEntity.ok().eTag(etag).body(multiPlayerService.getRoomSummary(roomId, playerId, 20));
+    }
+
+    // A since ahead of this copy's version predates a restart: the client needs the full room
+    if (since != null && since < version) {
+      return ResponseEntity.ok().eTag(etag).body(new RoomDelta(room, since));
+    }
+    return ResponseEntity.ok().eTag(etag).body(room);
+  }
+
+  @GetMapping("/room/{roomId}/summary")
+  public ResponseEntity<RoomSummary> getRoomSummary(@PathVariable String roomId,
+                                                    @RequestParam(required = false) String playerId,
+                                                    @RequestParam(defaultValue = "20") int top,
+                                                    WebRequest webRequest) {
+    MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
+    if (room == null) {
+      return ResponseEntity.notFound().build();
+    }
+
+    String etag = CompactCodecConfig.etag(room.getVersion(), webRequest.getHeader(HttpHeaders.ACCEPT));
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+    return ResponseEntity.ok().eTag(etag).body(multiPlayerService.getRoomSummary(roomId, playerId, top));
   }
 
   @GetMapping("/rooms")
-  public ResponseEntity<List<MultiPlayerRoom>> getAvailableRooms() {
-    return ResponseEntity.ok(multiPlayerService.getAvailableRooms());
+  public ResponseEntity<byte[]> getAvailableRooms(@RequestParam(defaultValue = "newest") String sort,
+                                                  @RequestParam(defaultValue = "0") int page,
+                                                  @RequestParam(defaultValue = "" + LobbyIndex.DEFAULT_PAGE_SIZE) int size,
+                                                  WebRequest webRequest) {
+    LobbyIndex.Sort order;
+    try {
+      order = LobbyIndex.Sort.valueOf(sort.toUpperCase());
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    // The lobby index version changes on every create, join, start and finish.
+    // The page is always plain JSON, so one ETag serves every Accept
+    String etag = "\"" + multiPlayerService.getLobbyVersion() + "\"";
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
+    // Pre-serialized page, shared by every lobby client until the next change
+    LobbyIndex.Page rooms = multiPlayerService.getAvailableRooms(order, page, size);
+    return ResponseEntity.ok()
+            .eTag("\"" + rooms.getVersion() + "\"")
+            .header("X-Total-Count", String.valueOf(rooms.getTotal()))
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(rooms.getJson());
+  }
+
+  @GetMapping("/standings")
+  public List<Standing> getStandings(@RequestParam(defaultValue = "20") int limit) {
+    return rankingService.top(Math.max(0, Math.min(limit, 100)));
+  }
+
+  @GetMapping("/standings/{playerId}")
+  public ResponseEntity<?> getStanding(@PathVariable String playerId) {
+    Standing standing = rankingService.getStanding(playerId);
+    if (standing == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(Map.of("standing", standing, "rank", rankingService.rankOf(playerId)));
   }
 
   // Add these endpoints to your MultiPlayerController class
@@ -88,10 +212,7 @@ public class MultiPlayerController {
         return ResponseEntity.badRequest().body(Map.of("error", "Room not found"));
       }
 
-      Player player = room.getPlayers().stream()
-              .filter(p -> p.getPlayerId().equals(playerId))
-              .findFirst()
-              .orElse(null);
+      Player player = room.getPlayer(playerId);
 
       if (player == null) {
         return ResponseEntity.badRequest().body(Map.of("error", "Player not found"));
@@ -99,15 +220,20 @@ public class MultiPlayerController {
 
       Map<String, Object> gameState = new HashMap<>();
       gameState.put("guesses", player.getGuesses());
-      gameState.put("guessResults", player.getGuessResults());
+      putResults(gameState, player);
       gameState.put("finished", player.isFinished());
       gameState.put("won", player.isHasWon());
-      gameState.put("rank", player.getRank());
-      gameState.put("points", player.getPoints());
+      // Live rank while the game runs; final once it ends
+      int rank = room.getLeaderboard().rankOf(playerId);
+      gameState.put("rank", rank);
+      gameState.put("points", Leaderboard.pointsFor(rank));
 
       // Only include target word if game is finished
       if (room.getStatus() == MultiPlayerRoom.RoomStatus.FINISHED) {
         gameState.put("targetWord", room.getCurrentWord());
+        if (player.getBoards() > 1) {
+          gameState.put("targetWords", room.getCurrentWords());
+        }
       }
 
       return ResponseEntity.ok(gameState);
@@ -123,32 +249,31 @@ public class MultiPlayerController {
       String playerId = request.get("playerId");
       String guess = request.get("guess");
 
-      MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
-      Player player = room.getPlayers().stream()
-              .filter(p -> p.getPlayerId().equals(playerId))
-              .findFirst()
-              .orElse(null);
-
       multiPlayerService.processGuess(roomId, playerId, guess);
 
-      Player updatedPlayer = room.getPlayers().stream()
-              .filter(p -> p.getPlayerId().equals(playerId))
-              .findFirst()
-              .orElse(null);
+      MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
+      Player updatedPlayer = room.getPlayer(playerId);
 
-      List<GuessResult> result = updatedPlayer.getGuessResults().get(updatedPlayer.getGuessResults().size() - 1);
+      // The last guess, one row per board
+      int last = updatedPlayer.getCurrentRound() - 1;
+      String lastGuess = updatedPlayer.getGuesses().get(last);
+      List<List<GuessResult>> rows = new ArrayList<>(updatedPlayer.getBoards());
+      for (int b = 0; b < updatedPlayer.getBoards(); b++) {
+        rows.add(GuessResult.fromPattern(lastGuess, updatedPlayer.getFeedback(last, b)));
+      }
 
       Map<String, Object> gameState = new HashMap<>();
       gameState.put("guesses", updatedPlayer.getGuesses());
-      gameState.put("guessResults", updatedPlayer.getGuessResults());
+      putResults(gameState, updatedPlayer);
       gameState.put("finished", updatedPlayer.isFinished());
       gameState.put("won", updatedPlayer.isHasWon());
-      gameState.put("rank", updatedPlayer.getRank());
-      gameState.put("points", updatedPlayer.getPoints());
+      int rank = room.getLeaderboard().rankOf(playerId);
+      gameState.put("rank", rank);
+      gameState.put("points", Leaderboard.pointsFor(rank));
 
       return ResponseEntity.ok(Map.of(
               "success", true,
-              "result", result,
+              "result", rows.size() == 1 ? rows.get(0) : rows,
               "gameState", gameState
       ));
 
@@ -165,5 +290,12 @@ public class MultiPlayerController {
     }
   }
 
-
+  // Rows of a single-board game, or each board's rows in a multi-board game
+  private static void putResults(Map<String, Object> gameState, Player player) {
+    if (player.getBoards() > 1) {
+      gameState.put("boardResults", player.getBoardResults());
+    } else {
+      gameState.put("guessResults", player.getGuessResults());
+    }
+  }
 }
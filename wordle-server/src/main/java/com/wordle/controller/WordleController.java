@@ -2,50 +2,100 @@ package com.wordle.controller;
 
 import com.wordle.dto.GuessRequest;
 import com.wordle.dto.GameResponse;
+import com.wordle.dto.DailyStatsResponse;
+import com.wordle.dto.DictionaryInfo;
 import com.wordle.dto.ErrorResponse;
+import com.wordle.dto.HintResponse;
 import com.wordle.model.GameState;
+import com.wordle.model.GameVariant;
+import com.wordle.service.DailyStats;
+import com.wordle.service.DictionaryRegistry;
+import com.wordle.service.HintService;
+import com.wordle.service.WordDictionary;
+import com.wordle.service.WordIndex;
 import com.wordle.service.WordleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/wordle")
 @CrossOrigin(origins = {"http://localhost:3000"}, allowCredentials = "true")
 public class WordleController {
 
+  private static final Logger log = LoggerFactory.getLogger(WordleController.class);
+
+  public static final String ADMIN_TOKEN = "X-Wordle-Admin-Token";
+
   private final WordleService wordleService;
+  private final HintService hintService;
+  private final DailyStats dailyStats;
+  private final DictionaryRegistry dictionaries;
+  // Required by admin endpoints; blank turns them off
+  private final String adminToken;
 
   @Autowired
-  public WordleController(WordleService wordleService) {
+  public WordleController(WordleService wordleService, HintService hintService, DailyStats dailyStats,
+                          DictionaryRegistry dictionaries, @Value("${wordle.admin.token:}") String adminToken) {
     this.wordleService = wordleService;
+    this.hintService = hintService;
+    this.dailyStats = dailyStats;
+    this.dictionaries = dictionaries;
+    this.adminToken = adminToken;
   }
 
+  // maxRounds 0 means the default for the board count: 6 for one board, one more per extra board
   @PostMapping("/new-game")
-  public ResponseEntity<GameResponse> createNewGame(@RequestParam(defaultValue = "6") int maxRounds) {
+  public ResponseEntity<?> createNewGame(@RequestParam(defaultValue = "0") int maxRounds,
+                                         @RequestParam(defaultValue = "5") int length,
+                                         @RequestParam(defaultValue = "1") int boards) {
     try {
-      String gameId = wordleService.createNewGame(maxRounds);
+      String gameId = wordleService.createNewGame(GameVariant.of(length, boards, maxRounds));
       GameState gameState = wordleService.getGame(gameId);
       return ResponseEntity.ok(new GameResponse(gameState));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(new ErrorResponse("INVALID_MODE", e.getMessage(), 400));
     } catch (Exception e) {
-      System.out.println("ERROR: Failed to create new game - " + e.getMessage());
+      log.error("Failed to create new game", e);
       return ResponseEntity.internalServerError().build();
     }
   }
 
+  @PostMapping("/daily")
+  public ResponseEntity<GameResponse> createDailyGame() {
+    try {
+      return ResponseEntity.ok(new GameResponse(wordleService.createDailyGame()));
+    } catch (Exception e) {
+      log.error("Failed to create daily game", e);
+      return ResponseEntity.internalServerError().build();
+    }
+  }
+
+  @GetMapping("/daily/stats")
+  public ResponseEntity<DailyStatsResponse> getDailyStats(@RequestParam(required = false) Integer puzzle) {
+    DailyStatsResponse stats = dailyStats.snapshot(puzzle != null ? puzzle : wordleService.getTodaysPuzzle());
+    if (stats == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(stats);
+  }
+
   @PostMapping("/guess")
   public ResponseEntity<?> makeGuess(@Valid @RequestBody GuessRequest request) {
     try {
-      System.out.println("=== DEBUG: Making guess ===");
-      System.out.println("Game ID: " + request.getGameId());
-      System.out.println("Guess: " + request.getGuess());
-
       GameState gameState = wordleService.makeGuess(request.getGameId(), request.getGuess());
 
       if (gameState == null) {
-        System.out.println("ERROR: Game state is null - game not found or already over");
         ErrorResponse errorResponse = new ErrorResponse(
                 "GAME_NOT_FOUND",
                 "Game not found or already finished",
@@ -54,12 +104,9 @@ public class WordleController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
       }
 
-      System.out.println("SUCCESS: Guess processed successfully");
       return ResponseEntity.ok(new GameResponse(gameState));
 
     } catch (IllegalArgumentException e) {
-      System.out.println("ERROR: Invalid guess - " + e.getMessage());
-
       // Determine the specific type of validation error
       String errorType;
       String errorMessage = e.getMessage();
@@ -67,9 +114,11 @@ public class WordleController {
       if (errorMessage.contains("Invalid word")) {
         errorType = "WORD_NOT_FOUND";
         errorMessage = "The word '" + request.getGuess() + "' is not in our dictionary. Please try another word.";
-      } else if (errorMessage.contains("5 letters")) {
+      } else if (errorMessage.startsWith("Guess must be exactly")) {
+        GameState gameState = wordleService.getGame(request.getGameId());
+        int length = gameState != null ? gameState.getWordLength() : WordDictionary.WORD_LENGTH;
         errorType = "INVALID_LENGTH";
-        errorMessage = "Your guess must be exactly 5 letters long.";
+        errorMessage = "Your guess must be exactly " + length + " letters long.";
       } else {
         errorType = "INVALID_FORMAT";
         errorMessage = "Your guess must contain only letters.";
@@ -79,8 +128,7 @@ public class WordleController {
       return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
 
     } catch (Exception e) {
-      System.out.println("ERROR: Unexpected error - " + e.getMessage());
-      e.printStackTrace();
+      log.error("Unexpected error processing guess for game {}", request.getGameId(), e);
       ErrorResponse errorResponse = new ErrorResponse(
               "INTERNAL_ERROR",
               "An unexpected error occurred. Please try again.",
@@ -99,9 +147,54 @@ public class WordleController {
     return ResponseEntity.ok(new GameResponse(gameState));
   }
 
+  @GetMapping("/game/{gameId}/hint")
+  public ResponseEntity<?> getHint(@PathVariable String gameId, @RequestParam(defaultValue = "5") int limit) {
+    GameState gameState = wordleService.getGame(gameId);
+    if (gameState == null) {
+      return ResponseEntity.notFound().build();
+    }
+    if (gameState.isGameOver()) {
+      ErrorResponse errorResponse = new ErrorResponse("GAME_OVER", "Game is already finished", 409);
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    if (gameState.getWordLength() != WordDictionary.WORD_LENGTH || gameState.getBoardCount() > 1) {
+      ErrorResponse errorResponse = new ErrorResponse("HINTS_UNAVAILABLE",
+              "Hints are only available for 5-letter single-board games", 422);
+      return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+    HintResponse hint = hintService.suggest(gameState, limit);
+    return ResponseEntity.ok(hint);
+  }
+
   @DeleteMapping("/game/{gameId}")
   public ResponseEntity<Void> deleteGame(@PathVariable String gameId) {
     wordleService.deleteGame(gameId);
     return ResponseEntity.ok().build();
   }
+
+  @GetMapping("/dictionaries")
+  public List<DictionaryInfo> getDictionaries() {
+    return dictionaries.getAll().stream().map(this::info).toList();
+  }
+
+  // Picks up changed word lists now instead of at the next reload interval; admins only
+  @PostMapping("/dictionaries/reload")
+  public ResponseEntity<List<DictionaryInfo>> reloadDictionaries(
+          @RequestHeader(value = ADMIN_TOKEN, required = false) String token) throws IOException {
+    if (!isAdmin(token)) {
+      return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+    dictionaries.reload();
+    return ResponseEntity.ok(getDictionaries());
+  }
+
+  private boolean isAdmin(String token) {
+    return !adminToken.isBlank() && token != null && MessageDigest.isEqual(
+            token.getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private DictionaryInfo info(WordIndex words) {
+    return new DictionaryInfo(words.key(), words.language(), words.length(), words.size(), words.answerCount(),
+            words.key().equals(dictionaries.getDefaultKey()));
+  }
 }
@@ -0,0 +1,31 @@
+package com.wordle.dto;
+
+import com.wordle.model.GameState;
+import com.wordle.model.GuessResult;
+
+import java.util.List;
+
+// One board of a multi-board game: its rows up to the guess that solved it
+public class BoardResponse {
+  private List<List<GuessResult>> guesses;
+  private boolean solved;
+  private String targetWord; // Only shown when the game is over
+
+  public BoardResponse() {}
+
+  public BoardResponse(GameState gameState, int board) {
+    this.guesses = gameState.getGuesses(board);
+    this.solved = gameState.isSolved(board);
+    if (gameState.isGameOver()) {
+      this.targetWord = gameState.getTargetWords()[board];
+    }
+  }
+
+  // Getters and setters
+  public List<List<GuessResult>> getGuesses() { return guesses; }
+  public void setGuesses(List<List<GuessResult>> guesses) { this.guesses = guesses; }
+  public boolean isSolved() { return solved; }
+  public void setSolved(boolean solved) { this.solved = solved; }
+  public String getTargetWord() { return targetWord; }
+  public void setTargetWord(String targetWord) { this.targetWord = targetWord; }
+}
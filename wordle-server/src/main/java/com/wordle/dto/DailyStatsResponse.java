@@ -0,0 +1,69 @@
+package com.wordle.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class DailyStatsResponse {
+  private int puzzle;
+  private LocalDate date;
+  private long started;
+  private long finished;
+  private long solved;
+  private double solveRate;
+  // distribution[i]: games solved in i + 1 guesses
+  private long[] distribution;
+  private List<GuessCount> topFirstGuesses;
+  private long updatedAt;
+
+  public static class GuessCount {
+    private String word;
+    private long count;
+
+    public GuessCount() {}
+
+    public GuessCount(String word, long count) {
+      this.word = word;
+      this.count = count;
+    }
+
+    public String getWord() { return word; }
+    public void setWord(String word) { this.word = word; }
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+  }
+
+  public DailyStatsResponse() {}
+
+  public DailyStatsResponse(int puzzle, LocalDate date, long started, long finished, long solved,
+                            long[] distribution, List<GuessCount> topFirstGuesses, long updatedAt) {
+    this.puzzle = puzzle;
+    this.date = date;
+    this.started = started;
+    this.finished = finished;
+    this.solved = solved;
+    this.solveRate = finished > 0 ? (double) solved / finished : 0;
+    this.distribution = distribution;
+    this.topFirstGuesses = topFirstGuesses;
+    this.updatedAt = updatedAt;
+  }
+
+  // Getters and setters
+  public int getPuzzle() { return puzzle; }
+  public void setPuzzle(int puzzle) { this.puzzle = puzzle; }
+  public LocalDate getDate() { return date; }
+  public void setDate(LocalDate date) { this.date = date; }
+  public long getStarted() { return started; }
+  public void setStarted(long started) { this.started = started; }
+  public long getFinished() { return finished; }
+  public void setFinished(long finished) { this.finished = finished; }
+  public long getSolved() { return solved; }
+  public void setSolved(long solved) { this.solved = solved; }
+  public double getSolveRate() { return solveRate; }
+  public void setSolveRate(double solveRate) { this.solveRate = solveRate; }
+  public long[] getDistribution() { return distribution; }
+  public void setDistribution(long[] distribution) { this.distribution = distribution; }
+  public List<GuessCount> getTopFirstGuesses() { return topFirstGuesses; }
+  public void setTopFirstGuesses(List<GuessCount> topFirstGuesses) { this.topFirstGuesses = topFirstGuesses; }
+  public long getUpdatedAt() { return updatedAt; }
+  public void setUpdatedAt(long updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,35 @@
+package com.wordle.dto;
+
+public class DictionaryInfo {
+  private String key;
+  private String language;
+  private int length;
+  private int words;
+  private int answers;
+  private boolean defaultList;
+
+  public DictionaryInfo() {}
+
+  public DictionaryInfo(String key, String language, int length, int words, int answers, boolean defaultList) {
+    this.key = key;
+    this.language = language;
+    this.length = length;
+    this.words = words;
+    this.answers = answers;
+    this.defaultList = defaultList;
+  }
+
+  // Getters and setters
+  public String getKey() { return key; }
+  public void setKey(String key) { this.key = key; }
+  public String getLanguage() { return language; }
+  public void setLanguage(String language) { this.language = language; }
+  public int getLength() { return length; }
+  public void setLength(int length) { this.length = length; }
+  public int getWords() { return words; }
+  public void setWords(int words) { this.words = words; }
+  public int getAnswers() { return answers; }
+  public void setAnswers(int answers) { this.answers = answers; }
+  public boolean isDefaultList() { return defaultList; }
+  public void setDefaultList(boolean defaultList) { this.defaultList = defaultList; }
+}
@@ -3,25 +3,40 @@ package com.wordle.dto;
 
 import com.wordle.model.GameState;
 import com.wordle.model.GuessResult;
+import java.util.ArrayList;
 import java.util.List;
 
 public class GameResponse {
   private String gameId;
-  private List<List<GuessResult>> guesses;
+  private List<List<GuessResult>> guesses; // Single-board games
+  private List<BoardResponse> boards;      // Multi-board games, one entry per board
+  private int wordLength;
   private int currentRound;
   private int maxRounds;
   private boolean gameOver;
   private boolean won;
+  private Integer puzzle; // Daily puzzle number, absent for random games
   private String message;
   private String targetWord; // Only shown when game is over
 
   public GameResponse(GameState gameState) {
     this.gameId = gameState.getGameId();
-    this.guesses = gameState.getGuesses();
+    this.wordLength = gameState.getWordLength();
+    if (gameState.getBoardCount() == 1) {
+      this.guesses = gameState.getGuesses();
+    } else {
+      this.boards = new ArrayList<>(gameState.getBoardCount());
+      for (int b = 0; b < gameState.getBoardCount(); b++) {
+        boards.add(new BoardResponse(gameState, b));
+      }
+    }
     this.currentRound = gameState.getCurrentRound();
     this.maxRounds = gameState.getMaxRounds();
     this.gameOver = gameState.isGameOver();
     this.won = gameState.isWon();
+    if (gameState.getPuzzle() > 0) {
+      this.puzzle = gameState.getPuzzle();
+    }
 
     if (gameState.isGameOver()) {
       this.targetWord = gameState.getTargetWord();
@@ -34,6 +49,10 @@ public class GameResponse {
   public void setGameId(String gameId) { this.gameId = gameId; }
   public List<List<GuessResult>> getGuesses() { return guesses; }
   public void setGuesses(List<List<GuessResult>> guesses) { this.guesses = guesses; }
+  public List<BoardResponse> getBoards() { return boards; }
+  public void setBoards(List<BoardResponse> boards) { this.boards = boards; }
+  public int getWordLength() { return wordLength; }
+  public void setWordLength(int wordLength) { this.wordLength = wordLength; }
   public int getCurrentRound() { return currentRound; }
   public void setCurrentRound(int currentRound) { this.currentRound = currentRound; }
   public int getMaxRounds() { return maxRounds; }
@@ -42,6 +61,8 @@ public class GameResponse {
   public void setGameOver(boolean gameOver) { this.gameOver = gameOver; }
   public boolean isWon() { return won; }
   public void setWon(boolean won) { this.won = won; }
+  public Integer getPuzzle() { return puzzle; }
+  public void setPuzzle(Integer puzzle) { this.puzzle = puzzle; }
   public String getMessage() { return message; }
   public void setMessage(String message) { this.message = message; }
   public String getTargetWord() { return targetWord; }
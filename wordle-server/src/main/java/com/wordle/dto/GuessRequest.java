@@ -1,5 +1,6 @@
 package com.wordle.dto;
 
+import com.wordle.model.GameVariant;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -9,7 +10,8 @@ public class GuessRequest {
   private String gameId;
 
   @NotBlank(message = "Guess cannot be blank")
-  @Size(min = 5, max = 5, message = "Guess must be exactly 5 characters")
+  @Size(min = GameVariant.MIN_LENGTH, max = GameVariant.MAX_LENGTH,
+          message = "Guess must be " + GameVariant.MIN_LENGTH + "-" + GameVariant.MAX_LENGTH + " characters")
   private String guess;
 
   public GuessRequest() {}
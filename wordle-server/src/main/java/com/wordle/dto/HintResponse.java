@@ -0,0 +1,47 @@
+package com.wordle.dto;
+
+import java.util.List;
+
+public class HintResponse {
+  private String gameId;
+  private int remaining;
+  private List<Suggestion> suggestions;
+
+  public static class Suggestion {
+    private String word;
+    private double entropy;
+    private boolean possibleAnswer;
+
+    public Suggestion() {}
+
+    public Suggestion(String word, double entropy, boolean possibleAnswer) {
+      this.word = word;
+      this.entropy = entropy;
+      this.possibleAnswer = possibleAnswer;
+    }
+
+    // Getters and setters
+    public String getWord() { return word; }
+    public void setWord(String word) { this.word = word; }
+    public double getEntropy() { return entropy; }
+    public void setEntropy(double entropy) { this.entropy = entropy; }
+    public boolean isPossibleAnswer() { return possibleAnswer; }
+    public void setPossibleAnswer(boolean possibleAnswer) { this.possibleAnswer = possibleAnswer; }
+  }
+
+  public HintResponse() {}
+
+  public HintResponse(String gameId, int remaining, List<Suggestion> suggestions) {
+    this.gameId = gameId;
+    this.remaining = remaining;
+    this.suggestions = suggestions;
+  }
+
+  // Getters and setters
+  public String getGameId() { return gameId; }
+  public void setGameId(String gameId) { this.gameId = gameId; }
+  public int getRemaining() { return remaining; }
+  public void setRemaining(int remaining) { this.remaining = remaining; }
+  public List<Suggestion> getSuggestions() { return suggestions; }
+  public void setSuggestions(List<Suggestion> suggestions) { this.suggestions = suggestions; }
+}
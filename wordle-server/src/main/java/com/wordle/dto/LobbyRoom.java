@@ -0,0 +1,39 @@
+package com.wordle.dto;
+
+import com.wordle.model.GameVariant;
+import com.wordle.model.MultiPlayerRoom;
+
+// Lobby listing of a joinable room: a fixed handful of fields however many players it holds
+public class LobbyRoom {
+  private String roomId;
+  private String roomName;
+  private MultiPlayerRoom.RoomMode mode;
+  private GameVariant variant;
+  private int playerCount;
+  private int maxPlayers;
+
+  public LobbyRoom() {}
+
+  public LobbyRoom(MultiPlayerRoom room) {
+    this.roomId = room.getRoomId();
+    this.roomName = room.getRoomName();
+    this.mode = room.getMode();
+    this.variant = room.getVariant();
+    this.playerCount = room.getPlayers().size();
+    this.maxPlayers = room.getMaxPlayers();
+  }
+
+  // Getters and setters
+  public String getRoomId() { return roomId; }
+  public void setRoomId(String roomId) { this.roomId = roomId; }
+  public String getRoomName() { return roomName; }
+  public void setRoomName(String roomName) { this.roomName = roomName; }
+  public MultiPlayerRoom.RoomMode getMode() { return mode; }
+  public void setMode(MultiPlayerRoom.RoomMode mode) { this.mode = mode; }
+  public GameVariant getVariant() { return variant; }
+  public void setVariant(GameVariant variant) { this.variant = variant; }
+  public int getPlayerCount() { return playerCount; }
+  public void setPlayerCount(int playerCount) { this.playerCount = playerCount; }
+  public int getMaxPlayers() { return maxPlayers; }
+  public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
+}
@@ -0,0 +1,56 @@
+package com.wordle.dto;
+
+import com.wordle.model.Leaderboard;
+import com.wordle.model.Player;
+
+// Opponent view of a player: progress counts only, never the guessed words or the board
+public class PlayerSummary {
+  private String playerId;
+  private String username;
+  private Player.BotLevel bot;
+  private int rounds;
+  private int bestHits;
+  private int solvedBoards;
+  private boolean solved;
+  private boolean finished;
+  private int rank;
+  private int points;
+
+  public PlayerSummary() {}
+
+  // Rank is the player's live rank, so points are provisional until the game ends
+  public PlayerSummary(Player player, int rank) {
+    this.playerId = player.getPlayerId();
+    this.username = player.getUsername();
+    this.bot = player.getBot();
+    this.rounds = player.getCurrentRound();
+    this.bestHits = player.getBestHits();
+    this.solvedBoards = player.getSolvedCount();
+    this.solved = player.isHasWon();
+    this.finished = player.isFinished();
+    this.rank = rank;
+    this.points = Leaderboard.pointsFor(rank);
+  }
+
+  // Getters and setters
+  public String getPlayerId() { return playerId; }
+  public void setPlayerId(String playerId) { this.playerId = playerId; }
+  public String getUsername() { return username; }
+  public void setUsername(String username) { this.username = username; }
+  public Player.BotLevel getBot() { return bot; }
+  public void setBot(Player.BotLevel bot) { this.bot = bot; }
+  public int getRounds() { return rounds; }
+  public void setRounds(int rounds) { this.rounds = rounds; }
+  public int getBestHits() { return bestHits; }
+  public void setBestHits(int bestHits) { this.bestHits = bestHits; }
+  public int getSolvedBoards() { return solvedBoards; }
+  public void setSolvedBoards(int solvedBoards) { this.solvedBoards = solvedBoards; }
+  public boolean isSolved() { return solved; }
+  public void setSolved(boolean solved) { this.solved = solved; }
+  public boolean isFinished() { return finished; }
+  public void setFinished(boolean finished) { this.finished = finished; }
+  public int getRank() { return rank; }
+  public void setRank(int rank) { this.rank = rank; }
+  public int getPoints() { return points; }
+  public void setPoints(int points) { this.points = points; }
+}
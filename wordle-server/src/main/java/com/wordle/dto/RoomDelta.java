@@ -0,0 +1,47 @@
+package com.wordle.dto;
+
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+
+import java.util.List;
+
+// Changes to a room since a client-supplied version: room-level fields plus only the players that changed
+public class RoomDelta {
+  private String roomId;
+  private long version;
+  private long since;
+  private MultiPlayerRoom.RoomStatus status;
+  private String winnerId;
+  private int playerCount;
+  private List<Player> players;
+
+  public RoomDelta() {}
+
+  public RoomDelta(MultiPlayerRoom room, long since) {
+    this.roomId = room.getRoomId();
+    this.version = room.getVersion();
+    this.since = since;
+    this.status = room.getStatus();
+    this.winnerId = room.getWinnerId();
+    this.playerCount = room.getPlayers().size();
+    this.players = room.getPlayers().stream()
+            .filter(p -> p.getVersion() > since)
+            .toList();
+  }
+
+  // Getters and setters
+  public String getRoomId() { return roomId; }
+  public void setRoomId(String roomId) { this.roomId = roomId; }
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+  public long getSince() { return since; }
+  public void setSince(long since) { this.since = since; }
+  public MultiPlayerRoom.RoomStatus getStatus() { return status; }
+  public void setStatus(MultiPlayerRoom.RoomStatus status) { this.status = status; }
+  public String getWinnerId() { return winnerId; }
+  public void setWinnerId(String winnerId) { this.winnerId = winnerId; }
+  public int getPlayerCount() { return playerCount; }
+  public void setPlayerCount(int playerCount) { this.playerCount = playerCount; }
+  public List<Player> getPlayers() { return players; }
+  public void setPlayers(List<Player> players) { this.players = players; }
+}
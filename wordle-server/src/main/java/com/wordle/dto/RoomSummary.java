@@ -0,0 +1,94 @@
+package com.wordle.dto;
+
+import com.wordle.model.GameVariant;
+import com.wordle.model.GuessResult;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Size-independent view of a room: counts, the top of the leaderboard, and
+ * the requesting player's own board. Built from the room's leaderboard
+ * without touching the rest of the players, so it costs the same at 4 or
+ * 4000 players.
+ */
+public class RoomSummary {
+  private String roomId;
+  private String roomName;
+  private MultiPlayerRoom.RoomMode mode;
+  private GameVariant variant;
+  private MultiPlayerRoom.RoomStatus status;
+  private long version;
+  private int maxPlayers;
+  private int playerCount;
+  private int finishedCount;
+  private int winnerCount;
+  private String targetWord; // Only shown when the game is over
+  private List<PlayerSummary> leaderboard;
+  private PlayerSummary me;
+  private List<List<GuessResult>> myGuesses;
+  private List<List<List<GuessResult>>> myBoards; // Multi-board games: my rows on each board
+
+  public RoomSummary() {}
+
+  public RoomSummary(MultiPlayerRoom room, int top, Player me) {
+    this.roomId = room.getRoomId();
+    this.roomName = room.getRoomName();
+    this.mode = room.getMode();
+    this.variant = room.getVariant();
+    this.status = room.getStatus();
+    this.version = room.getVersion();
+    this.maxPlayers = room.getMaxPlayers();
+    this.playerCount = room.getPlayers().size();
+    this.finishedCount = room.getFinishedCount();
+    this.winnerCount = room.getLeaderboard().getWinnerCount();
+    List<PlayerSummary> standings = new ArrayList<>(top);
+    List<Player> leaders = room.getLeaderboard().top(top);
+    for (int i = 0; i < leaders.size(); i++) {
+      standings.add(new PlayerSummary(leaders.get(i), i + 1));
+    }
+    this.leaderboard = standings;
+    if (status == MultiPlayerRoom.RoomStatus.FINISHED) {
+      this.targetWord = room.getCurrentWord();
+    }
+    if (me != null) {
+      this.me = new PlayerSummary(me, room.getLeaderboard().rankOf(me.getPlayerId()));
+      this.myGuesses = me.getGuessResults();
+      this.myBoards = me.getBoardResults();
+    }
+  }
+
+  // Getters and setters
+  public String getRoomId() { return roomId; }
+  public void setRoomId(String roomId) { this.roomId = roomId; }
+  public String getRoomName() { return roomName; }
+  public void setRoomName(String roomName) { this.roomName = roomName; }
+  public MultiPlayerRoom.RoomMode getMode() { return mode; }
+  public void setMode(MultiPlayerRoom.RoomMode mode) { this.mode = mode; }
+  public GameVariant getVariant() { return variant; }
+  public void setVariant(GameVariant variant) { this.variant = variant; }
+  public MultiPlayerRoom.RoomStatus getStatus() { return status; }
+  public void setStatus(MultiPlayerRoom.RoomStatus status) { this.status = status; }
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+  public int getMaxPlayers() { return maxPlayers; }
+  public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
+  public int getPlayerCount() { return playerCount; }
+  public void setPlayerCount(int playerCount) { this.playerCount = playerCount; }
+  public int getFinishedCount() { return finishedCount; }
+  public void setFinishedCount(int finishedCount) { this.finishedCount = finishedCount; }
+  public int getWinnerCount() { return winnerCount; }
+  public void setWinnerCount(int winnerCount) { this.winnerCount = winnerCount; }
+  public String getTargetWord() { return targetWord; }
+  public void setTargetWord(String targetWord) { this.targetWord = targetWord; }
+  public List<PlayerSummary> getLeaderboard() { return leaderboard; }
+  public void setLeaderboard(List<PlayerSummary> leaderboard) { this.leaderboard = leaderboard; }
+  public PlayerSummary getMe() { return me; }
+  public void setMe(PlayerSummary me) { this.me = me; }
+  public List<List<GuessResult>> getMyGuesses() { return myGuesses; }
+  public void setMyGuesses(List<List<GuessResult>> myGuesses) { this.myGuesses = myGuesses; }
+  public List<List<List<GuessResult>>> getMyBoards() { return myBoards; }
+  public void setMyBoards(List<List<List<GuessResult>>> myBoards) { this.myBoards = myBoards; }
+}
@@ -0,0 +1,271 @@
+package com.wordle.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PreDestroy;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of game and room events, one JSON line per event.
+ *
+ * Request threads only enqueue. A single writer thread drains the queue
+ * and writes each batch with one channel write, followed by one fsync when
+ * wordle.journal.fsync is on (group commit). The journal is split into
+ * numbered segments; a snapshot taken after rotating to segment N replaces
+ * every segment before N.
+ */
+@Component
+public class EventJournal {
+
+  private static final Logger log = LoggerFactory.getLogger(EventJournal.class);
+
+  private static final int MAX_BATCH = 1024;
+  private static final String SEGMENT_PREFIX = "journal-";
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SUFFIX = ".log";
+
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final boolean fsync;
+  private final Path dir;
+  private final BlockingQueue<JournalEvent> queue;
+  private final Object channelLock = new Object();
+
+  private FileChannel channel;
+  private long segment;
+  private Thread writer;
+  private volatile boolean running;
+  private volatile boolean replaying;
+
+  public EventJournal(ObjectMapper objectMapper,
+                      @Value("${wordle.journal.enabled:false}") boolean enabled,
+                      @Value("${wordle.journal.fsync:true}") boolean fsync,
+                      @Value("${wordle.journal.dir:${java.io.tmpdir}/wordle-journal}") String dir,
+                      @Value("${wordle.journal.queue-size:65536}") int queueSize) {
+    this.objectMapper = objectMapper;
+    this.enabled = enabled;
+    this.fsync = fsync;
+    this.dir = Path.of(dir);
+    this.queue = new LinkedBlockingQueue<>(queueSize);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void append(JournalEvent event) {
+    if (!enabled || replaying) {
+      return;
+    }
+    try {
+      // Blocks only when the writer has fallen a full queue behind
+      queue.put(event);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Feeds the latest snapshot and every later segment to {@code handler}, then
+   * opens a fresh segment and starts the writer. Appends are ignored while
+   * replaying.
+   */
+  public void recover(Consumer<JournalEvent> handler) throws IOException {
+    if (!enabled) {
+      return;
+    }
+    Files.createDirectories(dir);
+    replaying = true;
+    long replayed = 0;
+    try {
+      long from = 0;
+      Path snapshot = latest(SNAPSHOT_PREFIX);
+      if (snapshot != null) {
+        from = number(snapshot, SNAPSHOT_PREFIX);
+        replayed += replay(snapshot, handler);
+      }
+      for (Path path : files(SEGMENT_PREFIX)) {
+        if (number(path, SEGMENT_PREFIX) >= from) {
+          replayed += replay(path, handler);
+        }
+      }
+    } finally {
+      replaying = false;
+    }
+    log.info("Replayed {} journal events from {}", replayed, dir);
+
+    Path last = latest(SEGMENT_PREFIX);
+    segment = last == null ? 0 : number(last, SEGMENT_PREFIX) + 1;
+    channel = open(segment);
+    running = true;
+    writer = new Thread(this::writeLoop, "event-journal-writer");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  private long replay(Path path, Consumer<JournalEvent> handler) throws IOException {
+    long count = 0;
+    try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          handler.accept(objectMapper.readValue(line, JournalEvent.class));
+          count++;
+        } catch (IOException e) {
+          // A torn last line after a crash; everything before it is intact
+          log.warn("Skipping unreadable journal line in {}", path.getFileName());
+        } catch (RuntimeException e) {
+          log.warn("Failed to replay journal event from {}", path.getFileName(), e);
+        }
+      }
+    }
+    return count;
+  }
+
+  /** Starts a new segment; returns its number. Events already queued land in the new segment. */
+  public long rotate() throws IOException {
+    synchronized (channelLock) {
+      channel.force(true);
+      channel.close();
+      segment++;
+      channel = open(segment);
+      return segment;
+    }
+  }
+
+  /**
+   * Writes a snapshot that covers everything before segment {@code fromSegment},
+   * then deletes the older segments and snapshots.
+   */
+  public void writeSnapshot(long fromSegment, List<JournalEvent> events) throws IOException {
+    Path target = dir.resolve(SNAPSHOT_PREFIX + fromSegment + SUFFIX);
+    Path tmp = dir.resolve(SNAPSHOT_PREFIX + fromSegment + ".tmp");
+    try (FileChannel out = FileChannel.open(tmp, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      for (JournalEvent event : events) {
+        encode(event, bytes);
+      }
+      write(out, bytes);
+      out.force(true);
+    }
+    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+    for (Path path : files(SNAPSHOT_PREFIX)) {
+      if (number(path, SNAPSHOT_PREFIX) < fromSegment) {
+        Files.deleteIfExists(path);
+      }
+    }
+    for (Path path : files(SEGMENT_PREFIX)) {
+      if (number(path, SEGMENT_PREFIX) < fromSegment) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private void writeLoop() {
+    List<JournalEvent> batch = new ArrayList<>(MAX_BATCH);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+    while (running || !queue.isEmpty()) {
+      try {
+        JournalEvent first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+        queue.drainTo(batch, MAX_BATCH - 1);
+        for (JournalEvent event : batch) {
+          encode(event, bytes);
+        }
+        synchronized (channelLock) {
+          write(channel, bytes);
+          if (fsync) {
+            channel.force(false);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } catch (IOException e) {
+        log.error("Failed to write journal batch of {} events", batch.size(), e);
+      } finally {
+        batch.clear();
+        bytes.reset();
+      }
+    }
+  }
+
+  private void encode(JournalEvent event, ByteArrayOutputStream out) throws IOException {
+    out.write(objectMapper.writeValueAsBytes(event));
+    out.write('\n');
+  }
+
+  private static void write(FileChannel channel, ByteArrayOutputStream bytes) throws IOException {
+    ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  private FileChannel open(long number) throws IOException {
+    return FileChannel.open(dir.resolve(SEGMENT_PREFIX + number + SUFFIX),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+  }
+
+  private List<Path> files(String prefix) throws IOException {
+    try (Stream<Path> paths = Files.list(dir)) {
+      return paths
+              .filter(p -> p.getFileName().toString().startsWith(prefix)
+                      && p.getFileName().toString().endsWith(SUFFIX))
+              .sorted((a, b) -> Long.compare(number(a, prefix), number(b, prefix)))
+              .toList();
+    }
+  }
+
+  private Path latest(String prefix) throws IOException {
+    List<Path> paths = files(prefix);
+    return paths.isEmpty() ? null : paths.get(paths.size() - 1);
+  }
+
+  private static long number(Path path, String prefix) {
+    String name = path.getFileName().toString();
+    return Long.parseLong(name.substring(prefix.length(), name.length() - SUFFIX.length()));
+  }
+
+  @PreDestroy
+  public void close() throws IOException, InterruptedException {
+    running = false;
+    if (writer != null) {
+      writer.join(5000);
+    }
+    if (channel != null) {
+      synchronized (channelLock) {
+        channel.force(true);
+        channel.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,176 @@
+package com.wordle.journal;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.wordle.model.GameVariant;
+import com.wordle.model.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+// One line of the event journal. Guess events carry the round they were made in so replay is idempotent.
+public class JournalEvent {
+
+  public enum Type {
+    GAME_CREATED, GUESS_MADE, GAME_DELETED,
+    ROOM_CREATED, PLAYER_JOINED, GAME_STARTED, ROOM_GUESS, GAME_ENDED, ROOM_REMOVED
+  }
+
+  private Type type;
+  private long ts;
+  private String id;
+  private String playerId;
+  private String username;
+  // Skill of a joining bot; absent for people
+  private String bot;
+  private String word;
+  // Every target of a multi-board game; word holds the first
+  private List<String> words;
+  private Integer round;
+  private Integer maxRounds;
+  private Integer maxPlayers;
+  private String mode;
+  private Integer length;
+  private Integer boards;
+  private Integer puzzle;
+  // Version of an exported room, which its copy counts on from
+  private Long version;
+
+  public JournalEvent() {}
+
+  public JournalEvent(Type type, String id) {
+    this.type = type;
+    this.id = id;
+    this.ts = System.currentTimeMillis();
+  }
+
+  public static JournalEvent gameCreated(String gameId, String[] targetWords, int maxRounds) {
+    JournalEvent e = new JournalEvent(Type.GAME_CREATED, gameId);
+    e.targets(Arrays.asList(targetWords));
+    e.maxRounds = maxRounds;
+    return e;
+  }
+
+  public static JournalEvent gameCreated(String gameId, String[] targetWords, int maxRounds, int puzzle) {
+    JournalEvent e = gameCreated(gameId, targetWords, maxRounds);
+    if (puzzle > 0) {
+      e.puzzle = puzzle;
+    }
+    return e;
+  }
+
+  public static JournalEvent guessMade(String gameId, int round, String guess) {
+    JournalEvent e = new JournalEvent(Type.GUESS_MADE, gameId);
+    e.round = round;
+    e.word = guess;
+    return e;
+  }
+
+  public static JournalEvent gameDeleted(String gameId) {
+    return new JournalEvent(Type.GAME_DELETED, gameId);
+  }
+
+  public static JournalEvent roomCreated(String roomId, String roomName, String creatorId, String username,
+                                         int maxPlayers, String mode, GameVariant variant) {
+    JournalEvent e = new JournalEvent(Type.ROOM_CREATED, roomId);
+    e.mode = mode;
+    e.length = variant.getLength();
+    e.boards = variant.getBoards();
+    e.maxRounds = variant.getMaxRounds();
+    e.word = roomName;
+    e.playerId = creatorId;
+    e.username = username;
+    e.maxPlayers = maxPlayers;
+    return e;
+  }
+
+  public static JournalEvent playerJoined(String roomId, String playerId, String username, Player.BotLevel bot) {
+    JournalEvent e = new JournalEvent(Type.PLAYER_JOINED, roomId);
+    e.playerId = playerId;
+    e.username = username;
+    e.bot = bot != null ? bot.name() : null;
+    return e;
+  }
+
+  public static JournalEvent gameStarted(String roomId, List<String> targetWords) {
+    JournalEvent e = new JournalEvent(Type.GAME_STARTED, roomId);
+    e.targets(targetWords);
+    return e;
+  }
+
+  public static JournalEvent roomGuess(String roomId, String playerId, int round, String guess) {
+    JournalEvent e = new JournalEvent(Type.ROOM_GUESS, roomId);
+    e.playerId = playerId;
+    e.round = round;
+    e.word = guess;
+    return e;
+  }
+
+  public static JournalEvent gameEnded(String roomId, String winnerId) {
+    JournalEvent e = new JournalEvent(Type.GAME_ENDED, roomId);
+    e.playerId = winnerId;
+    return e;
+  }
+
+  public static JournalEvent roomRemoved(String roomId) {
+    return new JournalEvent(Type.ROOM_REMOVED, roomId);
+  }
+
+  // Getters and setters
+  public Type getType() { return type; }
+  public void setType(Type type) { this.type = type; }
+  public long getTs() { return ts; }
+  public void setTs(long ts) { this.ts = ts; }
+  public String getId() { return id; }
+  public void setId(String id) { this.id = id; }
+  public String getPlayerId() { return playerId; }
+  public void setPlayerId(String playerId) { this.playerId = playerId; }
+  public String getUsername() { return username; }
+  public void setUsername(String username) { this.username = username; }
+  public String getBot() { return bot; }
+  public void setBot(String bot) { this.bot = bot; }
+  public String getWord() { return word; }
+  public void setWord(String word) { this.word = word; }
+  public List<String> getWords() { return words; }
+  public void setWords(List<String> words) { this.words = words; }
+
+  // Targets of a created game or started room game: word alone unless there are several boards
+  @JsonIgnore
+  public List<String> getTargets() {
+    return words != null ? words : List.of(word);
+  }
+
+  private void targets(List<String> targets) {
+    this.word = targets.get(0);
+    this.words = targets.size() > 1 ? List.copyOf(targets) : null;
+  }
+
+  // Variant of a created room; absent in rooms journaled before variants existed
+  @JsonIgnore
+  public GameVariant getVariant() {
+    if (length == null || boards == null) {
+      return GameVariant.CLASSIC;
+    }
+    return GameVariant.of(length, boards, maxRounds != null ? maxRounds : 0);
+  }
+
+  public Integer getRound() { return round; }
+  public void setRound(Integer round) { this.round = round; }
+  public Integer getMaxRounds() { return maxRounds; }
+  public void setMaxRounds(Integer maxRounds) { this.maxRounds = maxRounds; }
+  public Integer getMaxPlayers() { return maxPlayers; }
+  public void setMaxPlayers(Integer maxPlayers) { this.maxPlayers = maxPlayers; }
+
+  public String getMode() { return mode; }
+  public void setMode(String mode) { this.mode = mode; }
+
+  public Integer getLength() { return length; }
+  public void setLength(Integer length) { this.length = length; }
+  public Integer getBoards() { return boards; }
+  public void setBoards(Integer boards) { this.boards = boards; }
+
+  public Integer getPuzzle() { return puzzle; }
+  public void setPuzzle(Integer puzzle) { this.puzzle = puzzle; }
+
+  public Long getVersion() { return version; }
+  public void setVersion(Long version) { this.version = version; }
+}
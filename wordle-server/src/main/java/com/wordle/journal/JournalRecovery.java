@@ -0,0 +1,85 @@
+package com.wordle.journal;
+
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.WordleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Replays the journal into the services at startup, then compacts it into snapshots on a timer
+@Component
+public class JournalRecovery {
+
+  private static final Logger log = LoggerFactory.getLogger(JournalRecovery.class);
+
+  private final EventJournal journal;
+  private final WordleService wordleService;
+  private final MultiPlayerService multiPlayerService;
+  private final Duration snapshotInterval;
+  private ScheduledExecutorService scheduler;
+
+  public JournalRecovery(EventJournal journal, WordleService wordleService, MultiPlayerService multiPlayerService,
+                         @Value("${wordle.journal.snapshot-interval:5m}") Duration snapshotInterval) {
+    this.journal = journal;
+    this.wordleService = wordleService;
+    this.multiPlayerService = multiPlayerService;
+    this.snapshotInterval = snapshotInterval;
+  }
+
+  @PostConstruct
+  public void recover() throws Exception {
+    if (!journal.isEnabled()) {
+      return;
+    }
+    journal.recover(event -> {
+      switch (event.getType()) {
+        case GAME_CREATED:
+        case GUESS_MADE:
+        case GAME_DELETED:
+          wordleService.apply(event);
+          break;
+        default:
+          multiPlayerService.apply(event);
+          break;
+      }
+    });
+
+    scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "event-journal-snapshot");
+      t.setDaemon(true);
+      return t;
+    });
+    long period = snapshotInterval.toMillis();
+    scheduler.scheduleWithFixedDelay(this::snapshot, period, period, TimeUnit.MILLISECONDS);
+  }
+
+  public void snapshot() {
+    try {
+      // Rotate first: the new segment may repeat state the snapshot already holds, which replay skips
+      long segment = journal.rotate();
+      List<JournalEvent> events = new ArrayList<>();
+      wordleService.exportEvents(events::add);
+      multiPlayerService.exportEvents(events::add);
+      journal.writeSnapshot(segment, events);
+    } catch (Exception e) {
+      log.error("Failed to write journal snapshot", e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+}
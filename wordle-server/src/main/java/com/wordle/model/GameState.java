@@ -1,41 +1,136 @@
 // src/main/java/com/wordle/model/GameState.java
 package com.wordle.model;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class GameState {
   private String gameId;
-  private String targetWord;
-  private List<List<GuessResult>> guesses;
+  // One target per board; classic games have one
+  private String[] targetWords;
+  // Guesses are kept packed: the guessed word and its 2-bit-per-position feedback on each board
+  private String[] guessWords;
+  private int[] feedback; // feedback[round * boards + board]
   private int currentRound;
   private int maxRounds;
   private boolean gameOver;
   private boolean won;
+  // Bit b set once board b is solved; later guesses are still scored but not shown on it
+  private int solvedBoards;
+  // Daily puzzle number, or 0 for a random target
+  private int puzzle;
+  // Hint engine cache: dictionary indices still consistent with the first candidateRound guesses
+  private int[] candidates;
+  private int candidateRound;
+  // Checksum of the word list whose indices the candidates hold
+  private long candidateList;
+  // Scoring cache for multi-board games: position masks per letter and board, see GuessEvaluator#letterMasks
+  private int[] targetMasks;
+  // Store version this copy was read at or last saved as; 0 if never saved
+  private long version;
+  // Guards changes to this copy. Not its monitor: a change is saved under it, and saving to a shared
+  // store is a network round trip that must not pin a virtual thread to its carrier.
+  private final ReentrantLock lock = new ReentrantLock();
 
   public GameState(String gameId, String targetWord, int maxRounds) {
+    this(gameId, new String[] {targetWord}, maxRounds);
+  }
+
+  public GameState(String gameId, String[] targetWords, int maxRounds) {
     this.gameId = gameId;
-    this.targetWord = targetWord.toUpperCase();
+    this.targetWords = new String[targetWords.length];
+    for (int b = 0; b < targetWords.length; b++) {
+      this.targetWords[b] = targetWords[b].toUpperCase();
+    }
     this.maxRounds = maxRounds;
-    this.guesses = new ArrayList<>();
+    this.guessWords = new String[Math.min(maxRounds, 6)];
+    this.feedback = new int[guessWords.length * targetWords.length];
     this.currentRound = 0;
     this.gameOver = false;
     this.won = false;
   }
 
+  public void addGuess(String guess, int pattern) {
+    addGuess(guess, new int[] {pattern});
+  }
+
+  /** Records a guess and its pattern on each board, marking boards it solves. */
+  public void addGuess(String guess, int[] patterns) {
+    int boards = targetWords.length;
+    if (currentRound == guessWords.length) {
+      int capacity = Math.max(1, guessWords.length * 2);
+      guessWords = Arrays.copyOf(guessWords, capacity);
+      feedback = Arrays.copyOf(feedback, capacity * boards);
+    }
+    guessWords[currentRound] = guess;
+    System.arraycopy(patterns, 0, feedback, currentRound * boards, boards);
+    for (int b = 0; b < boards; b++) {
+      if (GuessRow.hits(patterns[b], guess.length()) == guess.length()) {
+        solvedBoards |= 1 << b;
+      }
+    }
+    currentRound++;
+  }
+
+  public String getGuessWord(int round) { return guessWords[round]; }
+  public int getFeedback(int round) { return feedback[round * targetWords.length]; }
+  public int getFeedback(int round, int board) { return feedback[round * targetWords.length + board]; }
+
+  public int getBoardCount() { return targetWords.length; }
+  public int getWordLength() { return targetWords[0].length(); }
+
+  public boolean isSolved(int board) { return (solvedBoards & (1 << board)) != 0; }
+  public int getSolvedCount() { return Integer.bitCount(solvedBoards); }
+  public boolean isAllSolved() { return getSolvedCount() == targetWords.length; }
+
+  // Expanded view for the JSON response
+  public List<List<GuessResult>> getGuesses() {
+    return getGuesses(0);
+  }
+
+  /** Rows shown on one board: every guess up to and including the one that solved it. */
+  public List<List<GuessResult>> getGuesses(int board) {
+    List<List<GuessResult>> guesses = new ArrayList<>(currentRound);
+    for (int i = 0; i < currentRound; i++) {
+      int pattern = getFeedback(i, board);
+      guesses.add(GuessResult.fromPattern(guessWords[i], pattern));
+      if (GuessRow.hits(pattern, guessWords[i].length()) == guessWords[i].length()) {
+        break;
+      }
+    }
+    return guesses;
+  }
+
+  public int[] getCandidates() { return candidates; }
+  public int getCandidateRound() { return candidateRound; }
+  public long getCandidateList() { return candidateList; }
+  public void setCandidates(int[] candidates, int candidateRound, long candidateList) {
+    this.candidates = candidates;
+    this.candidateRound = candidateRound;
+    this.candidateList = candidateList;
+  }
+
+  public int[] getTargetMasks() { return targetMasks; }
+  public void setTargetMasks(int[] targetMasks) { this.targetMasks = targetMasks; }
+
   // Getters and setters
   public String getGameId() { return gameId; }
   public void setGameId(String gameId) { this.gameId = gameId; }
-  public String getTargetWord() { return targetWord; }
-  public void setTargetWord(String targetWord) { this.targetWord = targetWord; }
-  public List<List<GuessResult>> getGuesses() { return guesses; }
-  public void setGuesses(List<List<GuessResult>> guesses) { this.guesses = guesses; }
+  // The first board's target: the only one in classic games
+  public String getTargetWord() { return targetWords[0]; }
+  public String[] getTargetWords() { return targetWords; }
   public int getCurrentRound() { return currentRound; }
-  public void setCurrentRound(int currentRound) { this.currentRound = currentRound; }
   public int getMaxRounds() { return maxRounds; }
   public void setMaxRounds(int maxRounds) { this.maxRounds = maxRounds; }
   public boolean isGameOver() { return gameOver; }
   public void setGameOver(boolean gameOver) { this.gameOver = gameOver; }
   public boolean isWon() { return won; }
   public void setWon(boolean won) { this.won = won; }
+  public int getPuzzle() { return puzzle; }
+  public void setPuzzle(int puzzle) { this.puzzle = puzzle; }
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+  public ReentrantLock lock() { return lock; }
 }
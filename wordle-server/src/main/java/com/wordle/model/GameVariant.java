@@ -0,0 +1,73 @@
+package com.wordle.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Rules of a game: word length, how many boards are played at once (each with
+ * its own target, every guess scored on all of them) and the round limit.
+ * Classic Wordle is 5 letters on one board in 6 rounds; Quordle-style games
+ * play 4 or more boards and win when every board is solved.
+ */
+public final class GameVariant {
+
+  public static final int MIN_LENGTH = 4;
+  public static final int MAX_LENGTH = 11;
+  public static final int MAX_BOARDS = 32;
+  // Enough for the default limit of the largest games, so stores can size for it
+  public static final int MAX_ROUNDS = 40;
+  // Rounds allowed beyond one per board when none are given: 6 for classic, 9 for 4 boards
+  private static final int SPARE_ROUNDS = 5;
+
+  public static final GameVariant CLASSIC = new GameVariant(5, 1, 6);
+
+  private final int length;
+  private final int boards;
+  private final int maxRounds;
+
+  private GameVariant(int length, int boards, int maxRounds) {
+    this.length = length;
+    this.boards = boards;
+    this.maxRounds = maxRounds;
+  }
+
+  /**
+   * A variant with the given word length and board count. A round limit of
+   * 0 or less means the default for that many boards; larger limits are
+   * capped at {@link #MAX_ROUNDS}.
+   */
+  @JsonCreator
+  public static GameVariant of(@JsonProperty("length") int length, @JsonProperty("boards") int boards,
+                               @JsonProperty("maxRounds") int maxRounds) {
+    if (length < MIN_LENGTH || length > MAX_LENGTH) {
+      throw new IllegalArgumentException("Word length must be " + MIN_LENGTH + "-" + MAX_LENGTH);
+    }
+    if (boards < 1 || boards > MAX_BOARDS) {
+      throw new IllegalArgumentException("Boards must be 1-" + MAX_BOARDS);
+    }
+    int rounds = maxRounds > 0 ? Math.min(maxRounds, MAX_ROUNDS) : boards + SPARE_ROUNDS;
+    if (length == CLASSIC.length && boards == CLASSIC.boards && rounds == CLASSIC.maxRounds) {
+      return CLASSIC;
+    }
+    return new GameVariant(length, boards, rounds);
+  }
+
+  public int getLength() { return length; }
+  public int getBoards() { return boards; }
+  public int getMaxRounds() { return maxRounds; }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof GameVariant v && v.length == length && v.boards == boards && v.maxRounds == maxRounds;
+  }
+
+  @Override
+  public int hashCode() {
+    return (length * 31 + boards) * 31 + maxRounds;
+  }
+
+  @Override
+  public String toString() {
+    return length + " letters x " + boards + (boards == 1 ? " board" : " boards") + ", " + maxRounds + " rounds";
+  }
+}
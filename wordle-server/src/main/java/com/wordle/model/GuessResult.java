@@ -2,6 +2,8 @@ package com.wordle.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.util.List;
+
 public class GuessResult {
   private char letter;
   private LetterStatus status;
@@ -12,7 +14,16 @@ public class GuessResult {
     @JsonProperty("PRESENT")
     PRESENT, // Correct letter in wrong position
     @JsonProperty("MISS")
-    MISS     // Letter not in word
+    MISS;    // Letter not in word
+
+    // Decodes a 2-bit status as produced by GuessEvaluator (0 miss, 1 present, 2 hit)
+    public static LetterStatus fromCode(int code) {
+      switch (code) {
+        case 2: return HIT;
+        case 1: return PRESENT;
+        default: return MISS;
+      }
+    }
   }
 
   public GuessResult() {}
@@ -22,6 +33,11 @@ public class GuessResult {
     this.status = status;
   }
 
+  // View of a guess scored as a packed 2-bit-per-position pattern; tiles are built as they are read
+  public static List<GuessResult> fromPattern(String guess, int pattern) {
+    return new GuessRow(guess, pattern);
+  }
+
   // Getters and setters
   public char getLetter() { return letter; }
   public void setLetter(char letter) { this.letter = letter; }
@@ -0,0 +1,59 @@
+package com.wordle.model;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * One scored guess as a read-only list of tiles. Only the word and its packed
+ * feedback are stored. Default JSON still renders one object per tile, and
+ * compact encodings can write the row straight from the packed form.
+ */
+public final class GuessRow extends AbstractList<GuessResult> implements RandomAccess {
+
+  // Mark per 2-bit status code, as in GuessEvaluator: miss, present, hit
+  private static final char[] MARKS = {'M', 'P', 'H', 'M'};
+
+  private final String word;
+  private final int pattern;
+
+  public GuessRow(String word, int pattern) {
+    this.word = word;
+    this.pattern = pattern;
+  }
+
+  @Override
+  public GuessResult get(int index) {
+    return new GuessResult(word.charAt(index), GuessResult.LetterStatus.fromCode(code(index)));
+  }
+
+  @Override
+  public int size() {
+    return word.length();
+  }
+
+  public String getWord() { return word; }
+
+  public int getPattern() { return pattern; }
+
+  private int code(int index) {
+    return (pattern >>> (index << 1)) & 3;
+  }
+
+  /** Number of green tiles in a packed pattern of {@code length} positions. */
+  public static int hits(int pattern, int length) {
+    // A hit is code 2: the high bit of its position, with the low bit clear
+    int high = 0xAAAAAAAA >>> (32 - (length << 1));
+    return Integer.bitCount(pattern & high & ~(pattern << 1));
+  }
+
+  /** Writes the row as {@code WORD:MARKS}, e.g. {@code CRANE:MPHMM}, into {@code out} at {@code offset}; returns the length. */
+  public int encode(char[] out, int offset) {
+    int n = word.length();
+    word.getChars(0, n, out, offset);
+    out[offset + n] = ':';
+    for (int i = 0; i < n; i++) {
+      out[offset + n + 1 + i] = MARKS[code(i)];
+    }
+    return 2 * n + 1;
+  }
+}
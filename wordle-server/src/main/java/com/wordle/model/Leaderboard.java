@@ -0,0 +1,155 @@
+package com.wordle.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Live standings of a room's current game, updated one finish at a time.
+ * Players who solved rank first, fewest rounds first, then by solve time;
+ * players who ran out of rounds follow in the order they finished.
+ *
+ * The ordering key only has {@link GameVariant#MAX_ROUNDS} + 1 distinct values
+ * ahead of the finish time, so standings are kept as one append-only bucket
+ * per value plus prefix counts. Recording a finish, a player's rank and the
+ * k-th player are all O(buckets), however many players the room holds, and
+ * earlier finishers move down implicitly when someone overtakes them.
+ *
+ * Writes happen under the room's lock. Each write publishes a new immutable
+ * {@link Snapshot}, so readers never lock and always see a consistent order.
+ */
+public class Leaderboard {
+
+  // Bucket r < MAX_ROUNDS: solved in r + 1 rounds. Last bucket: out of rounds.
+  private static final int BUCKETS = GameVariant.MAX_ROUNDS + 1;
+  private static final int LOST = GameVariant.MAX_ROUNDS;
+
+  private static final class Snapshot {
+    static final Snapshot EMPTY = new Snapshot(new Player[BUCKETS][0], new int[BUCKETS]);
+
+    final Player[][] buckets;
+    final int[] counts;
+    // offsets[b]: players ranked ahead of bucket b
+    final int[] offsets;
+    final int total;
+
+    Snapshot(Player[][] buckets, int[] counts) {
+      this.buckets = buckets;
+      this.counts = counts;
+      this.offsets = new int[BUCKETS];
+      int sum = 0;
+      for (int b = 0; b < BUCKETS; b++) {
+        offsets[b] = sum;
+        sum += counts[b];
+      }
+      this.total = sum;
+    }
+  }
+
+  private volatile Snapshot snapshot = Snapshot.EMPTY;
+  // playerId -> bucket << 32 | index within the bucket
+  private final Map<String, Long> placements = new ConcurrentHashMap<>();
+
+  private static int bucketOf(Player player) {
+    return player.isHasWon() ? Math.min(player.getCurrentRound(), GameVariant.MAX_ROUNDS) - 1 : LOST;
+  }
+
+  /** Records a player who just finished and returns their current rank (1-based). */
+  public int record(Player player) {
+    Snapshot s = snapshot;
+    int b = bucketOf(player);
+    int index = s.counts[b];
+
+    // Slots past a snapshot's count are invisible to its readers, so appending in place is safe
+    Player[][] buckets = s.buckets.clone();
+    Player[] bucket = buckets[b];
+    if (index == bucket.length) {
+      bucket = Arrays.copyOf(bucket, Math.max(16, index * 2));
+      buckets[b] = bucket;
+    }
+    bucket[index] = player;
+    int[] counts = s.counts.clone();
+    counts[b]++;
+
+    Snapshot next = new Snapshot(buckets, counts);
+    snapshot = next;
+    placements.put(player.getPlayerId(), ((long) b << 32) | index);
+    return next.offsets[b] + index + 1;
+  }
+
+  /** Current rank of a finished player, or 0 if they have not finished. */
+  public int rankOf(String playerId) {
+    Snapshot s = snapshot;
+    Long placement = placements.get(playerId);
+    if (placement == null) {
+      return 0;
+    }
+    int b = (int) (placement >>> 32);
+    int index = (int) (long) placement;
+    return index < s.counts[b] ? s.offsets[b] + index + 1 : 0;
+  }
+
+  /** The player at {@code rank} (1-based), or null if fewer players have finished. */
+  public Player select(int rank) {
+    Snapshot s = snapshot;
+    int i = rank - 1;
+    if (i < 0 || i >= s.total) {
+      return null;
+    }
+    int b = BUCKETS - 1;
+    while (s.offsets[b] > i) {
+      b--;
+    }
+    return s.buckets[b][i - s.offsets[b]];
+  }
+
+  public int getFinishedCount() { return snapshot.total; }
+
+  public int getWinnerCount() {
+    Snapshot s = snapshot;
+    return s.total - s.counts[LOST];
+  }
+
+  /** The first {@code limit} standings, best first. */
+  public List<Player> top(int limit) {
+    List<Player> top = new ArrayList<>(Math.min(limit, snapshot.total));
+    forEach(limit, (player, rank) -> top.add(player));
+    return top;
+  }
+
+  /** Visits every finished player with their current rank, best first. */
+  public void forEach(ObjIntConsumer<Player> action) {
+    forEach(Integer.MAX_VALUE, action);
+  }
+
+  private void forEach(int limit, ObjIntConsumer<Player> action) {
+    Snapshot s = snapshot;
+    int rank = 0;
+    for (int b = 0; b < BUCKETS; b++) {
+      Player[] bucket = s.buckets[b];
+      for (int i = 0; i < s.counts[b]; i++) {
+        if (rank == limit) {
+          return;
+        }
+        action.accept(bucket[i], ++rank);
+      }
+    }
+  }
+
+  /** Points for a rank: 10, 7 and 5 for the podium, 2 for every other finisher. */
+  public static int pointsFor(int rank) {
+    if (rank <= 0) return 0;
+    if (rank == 1) return 10;
+    if (rank == 2) return 7;
+    if (rank == 3) return 5;
+    return 2;
+  }
+
+  public void reset() {
+    snapshot = Snapshot.EMPTY;
+    placements.clear();
+  }
+}
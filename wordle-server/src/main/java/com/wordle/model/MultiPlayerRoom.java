@@ -1,23 +1,61 @@
 package com.wordle.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.time.LocalDateTime;
 import java.util.*;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mutations are serialized per room by MultiPlayerService (it synchronizes on
+ * the room instance). Reads, including JSON serialization, take no lock: the
+ * player list is copy-on-write and scalar state is volatile, so readers see a
+ * consistent snapshot and never block writers.
+ *
+ * Players are also indexed by ID, and the number of finished players is
+ * counted as they finish, so per-guess lookups and end-of-game checks do not
+ * scan the player list.
+ */
 public class MultiPlayerRoom {
   private String roomId;
   private String roomName;
   private String creatorId;
   private List<Player> players;
+  private Map<String, Player> playersById = new ConcurrentHashMap<>();
+  // Written under the room's lock, by playerFinished and resetFinished
+  private volatile int finishedCount;
   private int maxPlayers;
-  private RoomStatus status;
-  private String currentWord;
+  private volatile RoomStatus status;
+  private volatile String currentWord;
+  // Every board's target; currentWord is the first
+  private volatile List<String> currentWords;
+  // Scoring cache for the current targets, see GuessEvaluator#letterMasks
+  private volatile int[] targetMasks;
+  private GameVariant variant = GameVariant.CLASSIC;
   private LocalDateTime createdAt;
-  private String winnerId;
+  // Whoever ranks first on the leaderboard, once they have solved
+  private volatile String winnerId;
+  private RoomMode mode = RoomMode.CLASSIC;
+  private volatile LocalDateTime startedAt;
+  // Set while the room is being handed to another node; it takes no changes meanwhile
+  private volatile boolean handingOff;
+  private final Leaderboard leaderboard = new Leaderboard();
+  // Player of each guess of the current game, in the order guesses were accepted; written under the room's lock
+  private final List<String> guessOrder = new ArrayList<>();
+  // Bumped on every change; players record the room version of their last change
+  private final AtomicLong version = new AtomicLong();
 
   public enum RoomStatus {
     WAITING, IN_PROGRESS, FINISHED
   }
 
+  // BATTLE_ROYALE rooms hold thousands of players: no per-guess broadcasts, ranks assigned as players finish
+  public enum RoomMode {
+    CLASSIC, BATTLE_ROYALE
+  }
+
   public MultiPlayerRoom() {}
 
   public MultiPlayerRoom(String roomId, String roomName, String creatorId, int maxPlayers) {
@@ -25,7 +63,7 @@ public class MultiPlayerRoom {
     this.roomName = roomName;
     this.creatorId = creatorId;
     this.maxPlayers = maxPlayers;
-    this.players = new ArrayList<>();
+    this.players = new CopyOnWriteArrayList<>();
     this.status = RoomStatus.WAITING;
     this.createdAt = LocalDateTime.now();
   }
@@ -41,7 +79,24 @@ public class MultiPlayerRoom {
   public void setCreatorId(String creatorId) { this.creatorId = creatorId; }
 
   public List<Player> getPlayers() { return players; }
-  public void setPlayers(List<Player> players) { this.players = players; }
+  public void setPlayers(List<Player> players) {
+    this.players = players;
+    Map<String, Player> byId = new ConcurrentHashMap<>();
+    for (Player player : players) {
+      byId.put(player.getPlayerId(), player);
+    }
+    this.playersById = byId;
+  }
+
+  public Player getPlayer(String playerId) {
+    return playerId == null ? null : playersById.get(playerId);
+  }
+
+  // Index first, so a reader that finds the player in the list can also look it up
+  public void addPlayer(Player player) {
+    playersById.put(player.getPlayerId(), player);
+    players.add(player);
+  }
 
   public int getMaxPlayers() { return maxPlayers; }
   public void setMaxPlayers(int maxPlayers) { this.maxPlayers = maxPlayers; }
@@ -52,16 +107,83 @@ public class MultiPlayerRoom {
   public String getCurrentWord() { return currentWord; }
   public void setCurrentWord(String currentWord) { this.currentWord = currentWord; }
 
+  public List<String> getCurrentWords() { return currentWords; }
+
+  // Targets of a new game, one per board; the first is also the currentWord
+  public void setCurrentWords(List<String> currentWords) {
+    this.currentWords = currentWords;
+    this.targetMasks = null;
+    this.currentWord = currentWords != null && !currentWords.isEmpty() ? currentWords.get(0) : null;
+  }
+
+  @JsonIgnore
+  public int[] getTargetMasks() { return targetMasks; }
+  public void setTargetMasks(int[] targetMasks) { this.targetMasks = targetMasks; }
+
+  public GameVariant getVariant() { return variant; }
+  public void setVariant(GameVariant variant) { this.variant = variant; }
+
   public LocalDateTime getCreatedAt() { return createdAt; }
   public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
   public String getWinnerId() { return winnerId; }
   public void setWinnerId(String winnerId) { this.winnerId = winnerId; }
 
+  public RoomMode getMode() { return mode; }
+  public void setMode(RoomMode mode) { this.mode = mode; }
+
+  public LocalDateTime getStartedAt() { return startedAt; }
+  public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+  @JsonIgnore
+  public boolean isHandingOff() { return handingOff; }
+  public void setHandingOff(boolean handingOff) { this.handingOff = handingOff; }
+
+  @JsonIgnore
+  public Leaderboard getLeaderboard() { return leaderboard; }
+
+  @JsonIgnore
+  public List<String> getGuessOrder() { return guessOrder; }
+
+  public void guessAccepted(Player player) {
+    guessOrder.add(player.getPlayerId());
+  }
+
+  public long getVersion() { return version.get(); }
+  public void setVersion(long version) { this.version.set(version); }
+
+  public long markChanged() {
+    return version.incrementAndGet();
+  }
+
+  public long markChanged(Player player) {
+    long v = version.incrementAndGet();
+    player.setVersion(v);
+    return v;
+  }
+
   public boolean isFull() {
     return players.size() >= maxPlayers;
   }
 
+  public void playerFinished() {
+    finishedCount++;
+  }
+
+  public void resetFinished() {
+    finishedCount = 0;
+    leaderboard.reset();
+    guessOrder.clear();
+  }
+
+  public int getFinishedCount() {
+    return finishedCount;
+  }
+
+  public boolean allPlayersFinished() {
+    return finishedCount >= players.size();
+  }
+
   public boolean canStart() {
     return players.size() >= 2 && status == RoomStatus.WAITING;
   }
@@ -2,24 +2,47 @@ package com.wordle.model;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Player {
   private String playerId;
   private String username;
+  // Skill of a server-side bot; null for people
+  private BotLevel bot;
+  // Written under the room's lock; copy-on-write and volatile so JSON reads need no lock
   private List<String> guesses;
-  private List<List<GuessResult>> guessResults;
-  private boolean hasWon;
-  private LocalDateTime winTime;
-  private int rank;
-  private int points;
+  // 2-bit-per-position feedback for each entry in guesses, on each board: feedback[round * boards + board]
+  private volatile int[] feedback;
+  // Rules of the current game, set when it starts
+  private volatile int boards = 1;
+  private volatile int maxRounds = GameVariant.CLASSIC.getMaxRounds();
+  // Bit b set once board b is solved
+  private volatile int solvedBoards;
+  private volatile boolean hasWon;
+  private volatile LocalDateTime winTime;
+  private volatile int rank;
+  private volatile int points;
+  private volatile long version;
+  // Most green letters in any one row so far, for summarized opponent views
+  private volatile int bestHits;
+
+  // Bot strategies, weakest first
+  public enum BotLevel {
+    // A random answer still consistent with every clue
+    RANDOM,
+    // The consistent answer whose letters are most common among those left
+    FREQUENCY,
+    // The consistent answer that splits those left most evenly: the most expected information
+    ENTROPY
+  }
 
   public Player() {}
 
   public Player(String playerId, String username) {
     this.playerId = playerId;
     this.username = username;
-    this.guesses = new ArrayList<>();
-    this.guessResults = new ArrayList<>();
+    this.guesses = new CopyOnWriteArrayList<>();
+    this.feedback = new int[maxRounds];
     this.hasWon = false;
     this.rank = 0;
     this.points = 0;
@@ -35,8 +58,99 @@ public class Player {
   public List<String> getGuesses() { return guesses; }
   public void setGuesses(List<String> guesses) { this.guesses = guesses; }
 
-  public List<List<GuessResult>> getGuessResults() { return guessResults; }
-  public void setGuessResults(List<List<GuessResult>> guessResults) { this.guessResults = guessResults; }
+  // Expanded view for the JSON response; multi-board games use boardResults
+  public List<List<GuessResult>> getGuessResults() {
+    return boards == 1 ? getGuessResults(0) : null;
+  }
+
+  // Each board's rows, up to the guess that solved it; null in single-board games
+  public List<List<List<GuessResult>>> getBoardResults() {
+    int n = boards;
+    if (n == 1) {
+      return null;
+    }
+    List<List<List<GuessResult>>> results = new ArrayList<>(n);
+    for (int b = 0; b < n; b++) {
+      results.add(getGuessResults(b));
+    }
+    return results;
+  }
+
+  public List<List<GuessResult>> getGuessResults(int board) {
+    // Feedback is stored before the guess is appended, so every guess seen here has its feedback.
+    // The bound only matters when a new game resizes the board while this runs.
+    Object[] snapshot = guesses.toArray();
+    int[] codes = feedback;
+    int n = boards;
+    int rows = Math.min(snapshot.length, codes.length / n);
+    List<List<GuessResult>> results = new ArrayList<>(rows);
+    for (int i = 0; i < rows && board < n; i++) {
+      String guess = (String) snapshot[i];
+      int pattern = codes[i * n + board];
+      results.add(GuessResult.fromPattern(guess, pattern));
+      if (GuessRow.hits(pattern, guess.length()) == guess.length()) {
+        break;
+      }
+    }
+    return results;
+  }
+
+  public int getFeedback(int round) { return feedback[round * boards]; }
+
+  public int getFeedback(int round, int board) { return feedback[round * boards + board]; }
+
+  public void addGuess(String guess, int pattern) {
+    addGuess(guess, new int[] {pattern});
+  }
+
+  /** Records a guess and its pattern on each board of the current game. */
+  public void addGuess(String guess, int[] patterns) {
+    int n = boards;
+    int round = guesses.size();
+    int[] codes = feedback;
+    if ((round + 1) * n > codes.length) {
+      codes = Arrays.copyOf(codes, Math.max(round * 2, 1) * n);
+    }
+    System.arraycopy(patterns, 0, codes, round * n, n);
+    feedback = codes;
+    int solved = solvedBoards;
+    for (int b = 0; b < n; b++) {
+      int hits = GuessRow.hits(patterns[b], guess.length());
+      if (hits > bestHits) {
+        bestHits = hits;
+      }
+      if (hits == guess.length()) {
+        solved |= 1 << b;
+      }
+    }
+    solvedBoards = solved;
+    guesses.add(guess);
+  }
+
+  /** Clears the board for a new game played by {@code variant}'s rules. */
+  public void reset(GameVariant variant) {
+    guesses.clear();
+    boards = variant.getBoards();
+    maxRounds = variant.getMaxRounds();
+    feedback = new int[maxRounds * boards];
+    solvedBoards = 0;
+    bestHits = 0;
+    hasWon = false;
+    winTime = null;
+    rank = 0;
+    points = 0;
+  }
+
+  public BotLevel getBot() { return bot; }
+  public void setBot(BotLevel bot) { this.bot = bot; }
+
+  public int getBoards() { return boards; }
+
+  public int getMaxRounds() { return maxRounds; }
+
+  public int getSolvedCount() { return Integer.bitCount(solvedBoards); }
+
+  public boolean isAllSolved() { return getSolvedCount() == boards; }
 
   public boolean isHasWon() { return hasWon; }
   public void setHasWon(boolean hasWon) { this.hasWon = hasWon; }
@@ -50,9 +164,13 @@ public class Player {
   public int getPoints() { return points; }
   public void setPoints(int points) { this.points = points; }
 
-  // Add this method to your Player class
+  public int getBestHits() { return bestHits; }
+
+  public long getVersion() { return version; }
+  public void setVersion(long version) { this.version = version; }
+
   public boolean isFinished() {
-    return this.hasWon || this.guesses.size() >= 6;
+    return this.hasWon || this.guesses.size() >= maxRounds;
   }
 
   public int getCurrentRound() {
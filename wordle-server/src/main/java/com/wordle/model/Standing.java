@@ -0,0 +1,43 @@
+package com.wordle.model;
+
+/**
+ * A player's totals across every multiplayer game they finished. Immutable:
+ * each finished game replaces the player's standing with a new one.
+ */
+public class Standing {
+  private final String playerId;
+  private final String username;
+  private final long points;
+  private final int games;
+  private final int wins;
+  private final int podiums;
+  // Rounds used across solved games, for the average
+  private final long solvedRounds;
+
+  public Standing(String playerId, String username, long points, int games, int wins, int podiums, long solvedRounds) {
+    this.playerId = playerId;
+    this.username = username;
+    this.points = points;
+    this.games = games;
+    this.wins = wins;
+    this.podiums = podiums;
+    this.solvedRounds = solvedRounds;
+  }
+
+  /** This standing plus one finished game. */
+  public Standing plus(Player player, int rank, int points) {
+    boolean solved = player.isHasWon();
+    return new Standing(playerId, player.getUsername(), this.points + points, games + 1,
+            wins + (rank == 1 ? 1 : 0), podiums + (rank <= 3 ? 1 : 0),
+            solvedRounds + (solved ? player.getCurrentRound() : 0));
+  }
+
+  // Getters
+  public String getPlayerId() { return playerId; }
+  public String getUsername() { return username; }
+  public long getPoints() { return points; }
+  public int getGames() { return games; }
+  public int getWins() { return wins; }
+  public int getPodiums() { return podiums; }
+  public long getSolvedRounds() { return solvedRounds; }
+}
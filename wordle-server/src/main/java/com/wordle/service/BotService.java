@@ -0,0 +1,246 @@
+package com.wordle.service;
+
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-side bot players for multiplayer rooms. A bot joins a room like a
+ * person and plays every game the room starts through
+ * {@link MultiPlayerService#processGuess}, so its guesses are checked,
+ * scored, journaled and broadcast like anyone else's. How well it plays is
+ * its {@link Player.BotLevel}, see {@link BotStrategy}.
+ *
+ * Bots never run on request threads. Their moves wait in a queue by due time
+ * and run on a small dedicated scheduler: every tick, each worker runs due
+ * moves until its time budget for the tick is spent and leaves the rest for
+ * the next tick. However many bots are playing, they use at most
+ * threads x budget / tick of the CPU; beyond that their moves run late.
+ */
+@Service
+public class BotService {
+
+  private static final Logger log = LoggerFactory.getLogger(BotService.class);
+
+  private final MultiPlayerService multiPlayerService;
+  private final GameEngine engine;
+  private final int maxBots;
+  private final int threads;
+  private final long tickMillis;
+  private final long budgetNanos;
+  private final long thinkNanos;
+
+  private final DelayQueue<Bot> due = new DelayQueue<>();
+  // Room and player ID of every bot with a move queued, so no bot is queued twice
+  private final Set<String> playing = ConcurrentHashMap.newKeySet();
+  // Shared opening guesses, see BotStrategy
+  private final Map<String, Integer> openings = new ConcurrentHashMap<>();
+  private final LongAdder moves = new LongAdder();
+  // How long past its due time the last move ran: grows once bots need more than their budget
+  private volatile long lagNanos;
+  private ScheduledExecutorService workers;
+
+  // A bot in a game. Only the worker running its current move touches its state.
+  private static final class Bot implements Delayed {
+    final String roomId;
+    final String playerId;
+    final Player.BotLevel level;
+    volatile long dueAt;
+    // Game the strategy was built for, by its start time
+    LocalDateTime game;
+    BotStrategy strategy;
+
+    Bot(String roomId, String playerId, Player.BotLevel level) {
+      this.roomId = roomId;
+      this.playerId = playerId;
+      this.level = level;
+    }
+
+    String key() {
+      return key(roomId, playerId);
+    }
+
+    static String key(String roomId, String playerId) {
+      return roomId + '/' + playerId;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed o) {
+      return Long.compare(dueAt, ((Bot) o).dueAt);
+    }
+  }
+
+  public BotService(MultiPlayerService multiPlayerService, GameEngine engine,
+                    @Value("${wordle.bots.max:10000}") int maxBots,
+                    @Value("${wordle.bots.threads:1}") int threads,
+                    @Value("${wordle.bots.tick:100ms}") Duration tick,
+                    @Value("${wordle.bots.tick-budget:20ms}") Duration budget,
+                    @Value("${wordle.bots.think-time:3s}") Duration thinkTime) {
+    this.multiPlayerService = multiPlayerService;
+    this.engine = engine;
+    this.maxBots = maxBots;
+    this.threads = Math.max(1, threads);
+    this.tickMillis = Math.max(1, tick.toMillis());
+    this.budgetNanos = Math.min(budget.toNanos(), tick.toNanos());
+    this.thinkNanos = thinkTime.toNanos();
+  }
+
+  @PostConstruct
+  public void start() {
+    AtomicInteger count = new AtomicInteger();
+    workers = Executors.newScheduledThreadPool(threads, r -> {
+      Thread t = new Thread(r, "bot-worker-" + count.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    });
+    for (int i = 0; i < threads; i++) {
+      workers.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+    multiPlayerService.onGameStarted(this::schedule);
+    // Games recovered from the journal before this service was listening
+    for (String roomId : multiPlayerService.getRoomIds()) {
+      MultiPlayerRoom room = multiPlayerService.getRoom(roomId);
+      if (room != null && room.getStatus() == MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+        schedule(room);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (workers != null) {
+      workers.shutdownNow();
+    }
+  }
+
+  /**
+   * Adds a bot of {@code level} to a waiting room; it plays every game the
+   * room starts from then on. Every bot in a room counts against the limit,
+   * playing or not, until its room is gone. Adds are serialized so the limit
+   * holds exactly.
+   */
+  public synchronized MultiPlayerRoom addBot(String roomId, Player.BotLevel level) {
+    if (multiPlayerService.getBotCount() >= maxBots) {
+      throw new IllegalArgumentException("Too many bots");
+    }
+    String botId = "bot-" + UUID.randomUUID().toString().substring(0, 8);
+    String name = level.name().charAt(0) + level.name().substring(1).toLowerCase() + " Bot "
+            + botId.substring(4, 8).toUpperCase();
+    return multiPlayerService.joinRoom(roomId, botId, name, level);
+  }
+
+  // Queues the first move of every bot in a game that has just started
+  private void schedule(MultiPlayerRoom room) {
+    List<Player> players = room.getPlayers();
+    for (Player player : players) {
+      if (player.getBot() == null || !playing.add(Bot.key(room.getRoomId(), player.getPlayerId()))) {
+        continue;
+      }
+      Bot bot = new Bot(room.getRoomId(), player.getPlayerId(), player.getBot());
+      bot.dueAt = System.nanoTime() + thinkTime();
+      due.add(bot);
+    }
+  }
+
+  // Half to one and a half times the configured think time, so bots in a room don't move in lockstep
+  private long thinkTime() {
+    return thinkNanos / 2 + ThreadLocalRandom.current().nextLong(thinkNanos + 1);
+  }
+
+  // One worker's share of a tick: due moves until the budget is spent
+  void tick() {
+    long deadline = System.nanoTime() + budgetNanos;
+    Bot bot;
+    while (System.nanoTime() < deadline && (bot = due.poll()) != null) {
+      lagNanos = System.nanoTime() - bot.dueAt;
+      boolean more;
+      try {
+        more = move(bot);
+      } catch (RuntimeException e) {
+        log.warn("Bot {} in room {} failed", bot.playerId, bot.roomId, e);
+        more = false;
+      }
+      if (more) {
+        bot.dueAt = System.nanoTime() + thinkTime();
+        due.add(bot);
+      } else {
+        playing.remove(bot.key());
+      }
+    }
+  }
+
+  // Plays one guess; false once the bot has nothing left to play
+  private boolean move(Bot bot) {
+    MultiPlayerRoom room = multiPlayerService.getRoom(bot.roomId);
+    if (room == null || room.getStatus() != MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+      return false;
+    }
+    Player player = room.getPlayer(bot.playerId);
+    if (player == null || player.isFinished()) {
+      return false;
+    }
+
+    WordIndex words = engine.words(room.getVariant().getLength());
+    if (bot.strategy == null || bot.strategy.words() != words || !room.getStartedAt().equals(bot.game)) {
+      // First move of a game, or the list was reloaded: relearn every clue so far
+      bot.strategy = new BotStrategy(bot.level, words, player.getBoards(), openings);
+      bot.game = room.getStartedAt();
+    }
+    List<String> guesses = player.getGuesses();
+    int[] patterns = new int[player.getBoards()];
+    for (int round = bot.strategy.rounds(); round < guesses.size(); round++) {
+      for (int b = 0; b < patterns.length; b++) {
+        patterns[b] = player.getFeedback(round, b);
+      }
+      bot.strategy.learn(WordIndex.pack(guesses.get(round), words.length()), patterns);
+    }
+
+    String guess = words.wordAt(bot.strategy.next(ThreadLocalRandom.current()));
+    try {
+      multiPlayerService.processGuess(bot.roomId, bot.playerId, guess);
+      moves.increment();
+    } catch (IllegalArgumentException e) {
+      // The game ended or the room moved since the checks above; the next move finds out
+      log.debug("Bot {} guess {} rejected: {}", bot.playerId, guess, e.getMessage());
+    }
+    return true;
+  }
+
+  public int getPlayingCount() {
+    return playing.size();
+  }
+
+  public long getMoveCount() {
+    return moves.sum();
+  }
+
+  public double getLagSeconds() {
+    return Math.max(0, lagNanos) / 1e9;
+  }
+}
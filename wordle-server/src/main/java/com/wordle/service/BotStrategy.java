@@ -0,0 +1,266 @@
+package com.wordle.service;
+
+import com.wordle.model.Player;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * What a bot knows of one game, and how it picks its next guess.
+ *
+ * It keeps the answers still consistent with every clue on each board,
+ * narrowed as guesses are learned. Every guess is one of those answers, so
+ * bots play by hard-mode rules and only the choice among them differs by
+ * {@link Player.BotLevel}. RANDOM and FREQUENCY bots aim at the unsolved
+ * board with the fewest answers left; ENTROPY bots weigh every unsolved board.
+ *
+ * Before the first clue every answer is possible, so all bots of a level
+ * would work out the same opening guess. It is worked out once per list and
+ * level and shared through the {@code openings} map.
+ */
+final class BotStrategy {
+
+  // Entropy scores guesses against answers, at most this many of each: the cost of a move stays bounded
+  static final int ENTROPY_LIMIT = 256;
+
+  private static final int ALPHABET = 26;
+
+  private final Player.BotLevel level;
+  private final WordIndex words;
+  private final int length;
+  // Answer indices still possible on each board; null while that is every answer
+  private final int[][] candidates;
+  private final Map<String, Integer> openings;
+  private int solved;
+  private int rounds;
+
+  BotStrategy(Player.BotLevel level, WordIndex words, int boards, Map<String, Integer> openings) {
+    this.level = level;
+    this.words = words;
+    this.length = words.length();
+    this.candidates = new int[boards][];
+    this.openings = openings;
+  }
+
+  WordIndex words() { return words; }
+
+  /** Guesses learned so far. */
+  int rounds() { return rounds; }
+
+  int remaining(int board) {
+    return size(candidates[board]);
+  }
+
+  /** Narrows every unsolved board by a guess and its pattern on each board. */
+  void learn(long guess, int[] patterns) {
+    int allHit = GuessEvaluator.allHit(length);
+    for (int b = 0; b < candidates.length; b++) {
+      if ((solved & (1 << b)) != 0) {
+        continue;
+      }
+      if (patterns[b] == allHit) {
+        solved |= 1 << b;
+        candidates[b] = new int[0];
+      } else {
+        candidates[b] = filter(candidates[b], guess, patterns[b]);
+      }
+    }
+    rounds++;
+  }
+
+  /** Index in the word list of the next guess. */
+  int next(Random random) {
+    int[] target = null;
+    int fewest = Integer.MAX_VALUE;
+    for (int b = 0; b < candidates.length; b++) {
+      int left = size(candidates[b]);
+      if ((solved & (1 << b)) == 0 && left > 0 && left < fewest) {
+        fewest = left;
+        target = candidates[b];
+      }
+    }
+    if (fewest == Integer.MAX_VALUE) {
+      // Nothing consistent left, e.g. the list changed under the game: any answer will do
+      return random.nextInt(words.answerCount());
+    }
+    if (fewest == 1) {
+      return at(target, 0);
+    }
+    if (level == Player.BotLevel.RANDOM) {
+      return at(target, random.nextInt(fewest));
+    }
+    if (target == null) {
+      // Every board is still open, so the best opening on one board is the best on all of them
+      return openings.computeIfAbsent(words.key() + '/' + words.checksum() + '/' + level,
+              key -> level == Player.BotLevel.ENTROPY ? entropy(new int[][] {null}) : frequency(null));
+    }
+    if (level == Player.BotLevel.ENTROPY) {
+      int[][] open = new int[Integer.bitCount(unsolvedMask())][];
+      for (int b = 0, i = 0; b < candidates.length; b++) {
+        if ((solved & (1 << b)) == 0) {
+          open[i++] = candidates[b];
+        }
+      }
+      return entropy(open);
+    }
+    return frequency(target);
+  }
+
+  private int unsolvedMask() {
+    int all = candidates.length == Integer.SIZE ? -1 : (1 << candidates.length) - 1;
+    return all & ~solved;
+  }
+
+  private int size(int[] c) {
+    return c == null ? words.answerCount() : c.length;
+  }
+
+  private static int at(int[] c, int i) {
+    return c == null ? i : c[i];
+  }
+
+  private int[] filter(int[] c, long guess, int pattern) {
+    int n = size(c);
+    int[] kept = new int[n];
+    int k = 0;
+    for (int i = 0; i < n; i++) {
+      int idx = at(c, i);
+      if (GuessEvaluator.evaluate(guess, words.codeAt(idx), length) == pattern) {
+        kept[k++] = idx;
+      }
+    }
+    return Arrays.copyOf(kept, k);
+  }
+
+  // The candidate whose distinct letters appear in the most candidates
+  private int frequency(int[] c) {
+    int[] scores = letterScores(c);
+    int best = 0;
+    for (int i = 1; i < scores.length; i++) {
+      if (scores[i] > scores[best]) {
+        best = i;
+      }
+    }
+    return at(c, best);
+  }
+
+  // For each candidate, how many candidates share each of its distinct letters, summed
+  private int[] letterScores(int[] c) {
+    int n = size(c);
+    int[] letters = new int[n];
+    int[] counts = new int[ALPHABET];
+    for (int i = 0; i < n; i++) {
+      long code = words.codeAt(at(c, i));
+      int mask = 0;
+      for (int p = 0; p < length; p++) {
+        mask |= 1 << (int) (code % ALPHABET);
+        code /= ALPHABET;
+      }
+      letters[i] = mask;
+      for (int m = mask; m != 0; m &= m - 1) {
+        counts[Integer.numberOfTrailingZeros(m)]++;
+      }
+    }
+    int[] scores = new int[n];
+    for (int i = 0; i < n; i++) {
+      for (int m = letters[i]; m != 0; m &= m - 1) {
+        scores[i] += counts[Integer.numberOfTrailingZeros(m)];
+      }
+    }
+    return scores;
+  }
+
+  /*
+   * The candidate with the most expected information about the answers on
+   * the given boards. On one board, the entropy of a guess is
+   * log n - (1/n) * sum(k log k) over the groups of answers that would give
+   * the same pattern, so the best guess has the smallest mean of k log k,
+   * and across boards the smallest total of those means. Patterns are sorted
+   * to find the groups, since those of long words are too sparse to count in
+   * an array.
+   *
+   * The work is bounded by sharing ENTROPY_LIMIT guesses and ENTROPY_LIMIT
+   * answers among the boards: each board offers its candidates with the best
+   * letter scores as guesses and an evenly spaced sample as answers. All the
+   * answers are scored against a guess in one batched call, like the boards
+   * of a multi-board game.
+   */
+  private int entropy(int[][] boards) {
+    int share = Math.max(1, ENTROPY_LIMIT / boards.length);
+    int[] guesses = new int[0];
+    long[] answers = new long[0];
+    int[] ends = new int[boards.length];
+    for (int b = 0; b < boards.length; b++) {
+      int[] c = boards[b];
+      int n = size(c);
+      int[] offered = shortlist(c, share);
+      int from = guesses.length;
+      guesses = Arrays.copyOf(guesses, from + offered.length);
+      System.arraycopy(offered, 0, guesses, from, offered.length);
+
+      int sample = Math.min(n, share);
+      int start = answers.length;
+      answers = Arrays.copyOf(answers, start + sample);
+      for (int a = 0; a < sample; a++) {
+        answers[start + a] = words.codeAt(at(c, (int) ((long) a * n / sample)));
+      }
+      ends[b] = answers.length;
+    }
+
+    int[] masks = GuessEvaluator.letterMasks(answers, length);
+    int[] patterns = new int[answers.length];
+    int best = guesses[0];
+    double bestScore = Double.MAX_VALUE;
+    for (int guess : guesses) {
+      GuessEvaluator.evaluate(words.codeAt(guess), length, masks, patterns);
+      double score = 0;
+      int from = 0;
+      for (int b = 0; b < boards.length; b++) {
+        int to = ends[b];
+        Arrays.sort(patterns, from, to);
+        double sum = 0;
+        int run = 1;
+        for (int a = from + 1; a <= to; a++) {
+          if (a < to && patterns[a] == patterns[a - 1]) {
+            run++;
+          } else {
+            sum += run * Math.log(run);
+            run = 1;
+          }
+        }
+        score += sum / (to - from);
+        from = to;
+      }
+      if (score < bestScore) {
+        bestScore = score;
+        best = guess;
+      }
+    }
+    return best;
+  }
+
+  // Candidates to try as guesses: all of them, or the limit with the best letter scores
+  private int[] shortlist(int[] c, int limit) {
+    int n = size(c);
+    if (n <= limit) {
+      int[] all = new int[n];
+      for (int i = 0; i < n; i++) {
+        all[i] = at(c, i);
+      }
+      return all;
+    }
+    // Sort by score, best first, as longs of (score, position)
+    int[] scores = letterScores(c);
+    long[] ranked = new long[n];
+    for (int i = 0; i < n; i++) {
+      ranked[i] = (long) -scores[i] << 32 | i;
+    }
+    Arrays.sort(ranked);
+    int[] top = new int[limit];
+    for (int i = 0; i < top.length; i++) {
+      top[i] = at(c, (int) ranked[i]);
+    }
+    return top;
+  }
+}
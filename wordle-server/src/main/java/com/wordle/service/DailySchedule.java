@@ -0,0 +1,95 @@
+package com.wordle.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+
+/**
+ * The daily puzzle schedule: a fixed shuffle of the possible answers,
+ * computed from a configured seed. Puzzle 1 falls on the epoch date, and
+ * every server with the same word list and seed serves the same word on the
+ * same day. The schedule repeats after one pass through the answers, and is
+ * recomputed if the word list is reloaded.
+ */
+@Component
+public class DailySchedule {
+
+  private final WordDictionary dictionary;
+  private final long seed;
+  private final LocalDate epoch;
+  private final ZoneId zone;
+  private volatile Plan plan;
+
+  // A shuffle and the list whose indices it holds
+  private static final class Plan {
+    final WordIndex words;
+    final int[] order;
+
+    Plan(WordIndex words, int[] order) {
+      this.words = words;
+      this.order = order;
+    }
+  }
+
+  public DailySchedule(WordDictionary dictionary,
+                       @Value("${wordle.daily.seed:20250101}") long seed,
+                       @Value("${wordle.daily.epoch:2025-01-01}") String epoch,
+                       @Value("${wordle.daily.zone:UTC}") String zone) {
+    this.dictionary = dictionary;
+    this.seed = seed;
+    this.epoch = LocalDate.parse(epoch);
+    this.zone = ZoneId.of(zone);
+  }
+
+  @PostConstruct
+  public void init() {
+    plan = plan(dictionary.snapshot());
+  }
+
+  private Plan plan(WordIndex words) {
+    // Fisher-Yates with java.util.Random, whose sequence is fixed by its spec
+    int[] o = new int[words.answerCount()];
+    for (int i = 0; i < o.length; i++) {
+      o[i] = i;
+    }
+    Random random = new Random(seed);
+    for (int i = o.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int t = o[i];
+      o[i] = o[j];
+      o[j] = t;
+    }
+    return new Plan(words, o);
+  }
+
+  /** Number of today's puzzle, starting at 1 on the epoch date. */
+  public int today() {
+    return puzzleOn(LocalDate.now(zone));
+  }
+
+  public int puzzleOn(LocalDate date) {
+    return (int) ChronoUnit.DAYS.between(epoch, date) + 1;
+  }
+
+  public LocalDate dateOf(int puzzle) {
+    return epoch.plusDays(puzzle - 1L);
+  }
+
+  public String wordFor(int puzzle) {
+    if (puzzle < 1) {
+      throw new IllegalArgumentException("No puzzle before " + epoch);
+    }
+    Plan p = plan;
+    WordIndex words = dictionary.snapshot();
+    if (p.words != words) {
+      p = plan(words);
+      plan = p;
+    }
+    return words.wordAt(p.order[(puzzle - 1) % p.order.length]);
+  }
+}
@@ -0,0 +1,163 @@
+package com.wordle.service;
+
+import com.wordle.dto.DailyStatsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live global results for daily puzzles: games started and finished, solve
+ * rate, the guess-count distribution and the most common opening words.
+ *
+ * Everyone plays the same word, so every submission lands on the same
+ * counters. They are {@link LongAdder}s, which stripe increments across
+ * cells under contention instead of retrying one CAS. Opening words are
+ * counted in an array indexed by dictionary position, so a popular opener
+ * costs an array read and a striped increment, with no hashing or map locks.
+ * Each puzzle keeps the word list it started with, so a reload cannot shift
+ * its positions.
+ * Readers get a snapshot rebuilt at most once per refresh interval.
+ */
+@Component
+public class DailyStats {
+
+  public static final int ROUNDS = 6;
+  private static final int TOP_FIRST_GUESSES = 10;
+
+  private final WordDictionary dictionary;
+  private final DailySchedule schedule;
+  private final int retention;
+  private final long refreshMillis;
+  private final Map<Integer, Puzzle> puzzles = new ConcurrentHashMap<>();
+
+  public DailyStats(WordDictionary dictionary, DailySchedule schedule,
+                    @Value("${wordle.daily.retention:7}") int retention,
+                    @Value("${wordle.daily.stats-refresh:1s}") Duration refresh) {
+    this.dictionary = dictionary;
+    this.schedule = schedule;
+    this.retention = retention;
+    this.refreshMillis = refresh.toMillis();
+  }
+
+  private final class Puzzle {
+    final int number;
+    final LongAdder started = new LongAdder();
+    final LongAdder finished = new LongAdder();
+    final LongAdder[] solvedIn = new LongAdder[ROUNDS];
+    final WordIndex words = dictionary.snapshot();
+    final AtomicReferenceArray<LongAdder> firstGuesses = new AtomicReferenceArray<>(words.size());
+    volatile DailyStatsResponse snapshot;
+
+    Puzzle(int number) {
+      this.number = number;
+      for (int i = 0; i < ROUNDS; i++) {
+        solvedIn[i] = new LongAdder();
+      }
+    }
+
+    LongAdder firstGuess(int index) {
+      LongAdder adder = firstGuesses.get(index);
+      if (adder == null) {
+        firstGuesses.compareAndSet(index, null, new LongAdder());
+        adder = firstGuesses.get(index);
+      }
+      return adder;
+    }
+  }
+
+  // Null for puzzles outside the retention window
+  private Puzzle puzzle(int number) {
+    Puzzle p = puzzles.get(number);
+    if (p == null) {
+      int today = schedule.today();
+      if (number > today || number <= today - retention) {
+        return null;
+      }
+      p = puzzles.computeIfAbsent(number, Puzzle::new);
+      // A new puzzle has begun: drop the ones past retention
+      puzzles.keySet().removeIf(n -> n <= number - retention);
+    }
+    return p;
+  }
+
+  public void started(int number) {
+    Puzzle p = puzzle(number);
+    if (p != null) {
+      p.started.increment();
+    }
+  }
+
+  public void firstGuess(int number, String word) {
+    Puzzle p = puzzle(number);
+    if (p == null) {
+      return;
+    }
+    int index = p.words.indexOf(word);
+    if (index >= 0) {
+      p.firstGuess(index).increment();
+    }
+  }
+
+  public void finished(int number, boolean won, int rounds) {
+    Puzzle p = puzzle(number);
+    if (p == null) {
+      return;
+    }
+    p.finished.increment();
+    if (won && rounds >= 1 && rounds <= ROUNDS) {
+      p.solvedIn[rounds - 1].increment();
+    }
+  }
+
+  /** Stats for a puzzle, at most one refresh interval old; null once it has aged out. */
+  public DailyStatsResponse snapshot(int number) {
+    Puzzle p = puzzle(number);
+    if (p == null) {
+      return null;
+    }
+    DailyStatsResponse cached = p.snapshot;
+    long now = System.currentTimeMillis();
+    if (cached != null && now - cached.getUpdatedAt() < refreshMillis) {
+      return cached;
+    }
+
+    long[] distribution = new long[ROUNDS];
+    long solved = 0;
+    for (int i = 0; i < ROUNDS; i++) {
+      distribution[i] = p.solvedIn[i].sum();
+      solved += distribution[i];
+    }
+
+    // Min-heap of the most common openers seen so far
+    PriorityQueue<DailyStatsResponse.GuessCount> top =
+            new PriorityQueue<>((a, b) -> Long.compare(a.getCount(), b.getCount()));
+    for (int i = 0; i < p.firstGuesses.length(); i++) {
+      LongAdder adder = p.firstGuesses.get(i);
+      if (adder == null) {
+        continue;
+      }
+      long count = adder.sum();
+      if (top.size() < TOP_FIRST_GUESSES) {
+        top.add(new DailyStatsResponse.GuessCount(p.words.wordAt(i), count));
+      } else if (count > top.peek().getCount()) {
+        top.poll();
+        top.add(new DailyStatsResponse.GuessCount(p.words.wordAt(i), count));
+      }
+    }
+    List<DailyStatsResponse.GuessCount> topFirstGuesses = new ArrayList<>(top);
+    topFirstGuesses.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+
+    DailyStatsResponse built = new DailyStatsResponse(p.number, schedule.dateOf(p.number), p.started.sum(),
+            p.finished.sum(), solved, distribution, topFirstGuesses, now);
+    p.snapshot = built;
+    return built;
+  }
+}
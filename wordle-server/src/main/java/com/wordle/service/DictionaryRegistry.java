@@ -0,0 +1,247 @@
+package com.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Every word list the server knows, keyed by language and word length
+ * ({@code en-5}), each one a memory-mapped {@link WordIndex}.
+ *
+ * Lists live in wordle.dictionary.dir as {@code <key>.wdx} index files.
+ * The bundled English list is prebuilt by the build and copied there when
+ * missing. Operators can also drop in text lists, {@code <key>.answers.txt}
+ * plus an optional {@code <key>.allowed.txt}; these are indexed once, and
+ * again only when they change, so a normal start parses no text.
+ *
+ * The directory is checked every reload interval, or on {@link #reload()}.
+ * Changed lists are mapped first and then published together in one new
+ * immutable map, so a reader sees either the old list or the new one in
+ * full, never a mix.
+ */
+@Component
+public class DictionaryRegistry {
+
+  private static final Logger log = LoggerFactory.getLogger(DictionaryRegistry.class);
+
+  private static final String BUNDLED_INDEX = "classpath:dictionaries/en-5.wdx";
+  private static final String BUNDLED_TEXT = "classpath:wordlist.txt";
+  private static final String ANSWERS = ".answers.txt";
+  private static final String ALLOWED = ".allowed.txt";
+
+  private final ResourceLoader resourceLoader;
+  private final Path dir;
+  private final String defaultKey;
+  private final Duration reloadInterval;
+  private final List<Consumer<WordIndex>> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile Map<String, WordIndex> dictionaries = Map.of();
+  // Last modified time and size of each index file when it was mapped
+  private final Map<String, String> stamps = new HashMap<>();
+  private ScheduledExecutorService reloader;
+
+  public DictionaryRegistry(ResourceLoader resourceLoader,
+                            @Value("${wordle.dictionary.dir:${java.io.tmpdir}/wordle-dictionaries}") String dir,
+                            @Value("${wordle.dictionary.default:en-5}") String defaultKey,
+                            @Value("${wordle.dictionary.reload-interval:10s}") Duration reloadInterval) {
+    this.resourceLoader = resourceLoader;
+    this.dir = Path.of(dir);
+    this.defaultKey = defaultKey;
+    this.reloadInterval = reloadInterval;
+  }
+
+  @PostConstruct
+  public void init() throws IOException {
+    Files.createDirectories(dir);
+    installBundled();
+    reload();
+    if (!dictionaries.containsKey(defaultKey)) {
+      throw new IllegalStateException("Default dictionary " + defaultKey + " not found in " + dir);
+    }
+
+    if (!reloadInterval.isZero()) {
+      reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "dictionary-reload");
+        t.setDaemon(true);
+        return t;
+      });
+      reloader.scheduleWithFixedDelay(() -> {
+        try {
+          reload();
+        } catch (Exception e) {
+          log.warn("Dictionary reload failed", e);
+        }
+      }, reloadInterval.toMillis(), reloadInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (reloader != null) {
+      reloader.shutdownNow();
+    }
+  }
+
+  // Copies the prebuilt English index in, or indexes the bundled text if this build has none
+  private void installBundled() throws IOException {
+    Path target = dir.resolve(WordIndex.key("en", WordDictionary.WORD_LENGTH) + WordIndex.SUFFIX);
+    if (Files.exists(target)) {
+      return;
+    }
+    Resource prebuilt = resourceLoader.getResource(BUNDLED_INDEX);
+    if (prebuilt.exists()) {
+      Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+      try (InputStream in = prebuilt.getInputStream()) {
+        Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+      }
+      Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      return;
+    }
+    Resource text = resourceLoader.getResource(BUNDLED_TEXT);
+    if (text.exists()) {
+      log.info("No prebuilt dictionary index on the classpath, indexing {}", BUNDLED_TEXT);
+      try (InputStream in = text.getInputStream()) {
+        List<String> words = Arrays.asList(new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\\R"));
+        WordIndex.write(target, "en", WordDictionary.WORD_LENGTH, words, List.of());
+      }
+    }
+  }
+
+  /**
+   * Indexes new or changed text lists, then maps every index file that
+   * changed since the last check and publishes them at once. Lists whose
+   * files are removed are dropped, except the default.
+   */
+  public synchronized void reload() throws IOException {
+    compileTextLists();
+
+    Map<String, WordIndex> next = new HashMap<>(dictionaries);
+    List<WordIndex> changed = new ArrayList<>();
+    Set<String> present = new HashSet<>();
+    for (Path file : list(WordIndex.SUFFIX)) {
+      String key = stripSuffix(file, WordIndex.SUFFIX);
+      present.add(key);
+      String stamp = stamp(file);
+      if (stamp.equals(stamps.get(key))) {
+        continue;
+      }
+      try {
+        WordIndex index = WordIndex.open(file);
+        if (!index.key().equals(key)) {
+          throw new IllegalArgumentException("File holds " + index.key());
+        }
+        next.put(key, index);
+        stamps.put(key, stamp);
+        changed.add(index);
+      } catch (IOException | IllegalArgumentException e) {
+        // Often a copy still in progress: keep the old list and look again next time
+        log.warn("Skipping dictionary {}: {}", file.getFileName(), e.getMessage());
+      }
+    }
+    boolean removed = next.keySet().removeIf(key -> !present.contains(key) && !key.equals(defaultKey));
+    stamps.keySet().retainAll(next.keySet());
+    if (changed.isEmpty() && !removed) {
+      return;
+    }
+
+    dictionaries = Map.copyOf(next);
+    for (WordIndex index : changed) {
+      log.info("Loaded dictionary {}", index);
+      for (Consumer<WordIndex> listener : listeners) {
+        listener.accept(index);
+      }
+    }
+  }
+
+  private void compileTextLists() throws IOException {
+    for (Path answers : list(ANSWERS)) {
+      String key = stripSuffix(answers, ANSWERS);
+      int dash = key.lastIndexOf('-');
+      Path allowed = dir.resolve(key + ALLOWED);
+      Path index = dir.resolve(key + WordIndex.SUFFIX);
+      FileTime source = Files.getLastModifiedTime(answers);
+      if (Files.exists(allowed) && Files.getLastModifiedTime(allowed).compareTo(source) > 0) {
+        source = Files.getLastModifiedTime(allowed);
+      }
+      if (Files.exists(index) && Files.getLastModifiedTime(index).compareTo(source) >= 0) {
+        continue;
+      }
+      try {
+        if (dash <= 0) {
+          throw new IllegalArgumentException("name must be <language>-<length>");
+        }
+        WordIndex.write(index, key.substring(0, dash), Integer.parseInt(key.substring(dash + 1)),
+                Files.readAllLines(answers, StandardCharsets.UTF_8),
+                Files.exists(allowed) ? Files.readAllLines(allowed, StandardCharsets.UTF_8) : List.of());
+        log.info("Indexed word lists for {}", key);
+      } catch (IOException | IllegalArgumentException e) {
+        log.warn("Cannot index word lists {}: {}", answers.getFileName(), e.getMessage());
+      }
+    }
+  }
+
+  private List<Path> list(String suffix) throws IOException {
+    try (Stream<Path> paths = Files.list(dir)) {
+      return paths.filter(p -> p.getFileName().toString().endsWith(suffix)).sorted().toList();
+    }
+  }
+
+  private static String stripSuffix(Path file, String suffix) {
+    String name = file.getFileName().toString();
+    return name.substring(0, name.length() - suffix.length());
+  }
+
+  private static String stamp(Path file) throws IOException {
+    return Files.getLastModifiedTime(file).toMillis() + ":" + Files.size(file);
+  }
+
+  /** Called with every list that was loaded or replaced, after it is published. */
+  public void addListener(Consumer<WordIndex> listener) {
+    listeners.add(listener);
+  }
+
+  /** The list for a language and word length, or null. */
+  public WordIndex get(String language, int length) {
+    return dictionaries.get(WordIndex.key(language, length));
+  }
+
+  public WordIndex get(String key) {
+    return dictionaries.get(key);
+  }
+
+  public WordIndex getDefault() {
+    return dictionaries.get(defaultKey);
+  }
+
+  public String getDefaultKey() {
+    return defaultKey;
+  }
+
+  /** All lists, ordered by key. */
+  public List<WordIndex> getAll() {
+    List<WordIndex> all = new ArrayList<>(dictionaries.values());
+    all.sort(Comparator.comparing(WordIndex::key));
+    return all;
+  }
+}
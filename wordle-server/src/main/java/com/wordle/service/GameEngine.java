@@ -0,0 +1,137 @@
+package com.wordle.service;
+
+import com.wordle.model.GameState;
+import com.wordle.model.GameVariant;
+import com.wordle.model.MultiPlayerRoom;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Game rules shared by single-player games and rooms, for every
+ * {@link GameVariant}: which word list a variant plays, drawing its targets,
+ * checking a guess and scoring it on every board.
+ *
+ * A variant of length n plays the {@code <language>-n} list of the
+ * {@link DictionaryRegistry}, in the default list's language. Classic games
+ * play the default list itself, through {@link WordDictionary}.
+ */
+@Component
+public class GameEngine {
+
+  /** {@link #check} result for a guess that is not the right number of letters A-Z. */
+  public static final long BAD_FORMAT = -1;
+  /** {@link #check} result for a well-formed guess that is not in the word list. */
+  public static final long NOT_IN_LIST = -2;
+
+  private final DictionaryRegistry registry;
+  private final WordDictionary dictionary;
+  private final GameMetrics metrics;
+
+  public GameEngine(DictionaryRegistry registry, WordDictionary dictionary, GameMetrics metrics) {
+    this.registry = registry;
+    this.dictionary = dictionary;
+    this.metrics = metrics;
+  }
+
+  /** The word list for {@code length}-letter games; throws if there is none. */
+  public WordIndex words(int length) {
+    if (length == WordDictionary.WORD_LENGTH) {
+      return dictionary.snapshot();
+    }
+    WordIndex words = registry.get(registry.getDefault().language(), length);
+    if (words == null) {
+      throw new IllegalArgumentException("No " + length + "-letter word list");
+    }
+    return words;
+  }
+
+  /** Checks that {@code variant} can be played: its list exists and has an answer for every board. */
+  public void validate(GameVariant variant) {
+    WordIndex words = words(variant.getLength());
+    if (words.answerCount() < variant.getBoards()) {
+      throw new IllegalArgumentException("Not enough " + variant.getLength() + "-letter answers for "
+              + variant.getBoards() + " boards");
+    }
+  }
+
+  /** Distinct random answers, one per board. */
+  public String[] drawTargets(GameVariant variant) {
+    validate(variant);
+    WordIndex words = words(variant.getLength());
+    int boards = variant.getBoards();
+    String[] targets = new String[boards];
+    long[] drawn = new long[boards];
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int b = 0; b < boards; b++) {
+      long code;
+      boolean repeat;
+      do {
+        code = words.codeAt(random.nextInt(words.answerCount()));
+        repeat = false;
+        for (int i = 0; i < b; i++) {
+          repeat |= drawn[i] == code;
+        }
+      } while (repeat);
+      drawn[b] = code;
+      targets[b] = WordIndex.unpack(code, variant.getLength());
+    }
+    return targets;
+  }
+
+  /**
+   * Packs an upper-case guess and looks it up in the {@code length}-letter
+   * list: its code, or {@link #BAD_FORMAT} or {@link #NOT_IN_LIST}.
+   */
+  public long check(String guess, int length) {
+    long code = WordIndex.pack(guess, length);
+    if (code < 0) {
+      return BAD_FORMAT;
+    }
+    return metrics.lookup(words(length), code) ? code : NOT_IN_LIST;
+  }
+
+  /** Patterns of a checked guess on each board of a game, board order. */
+  public int[] score(GameState game, long guess) {
+    String[] targets = game.getTargetWords();
+    if (targets.length == 1) {
+      return new int[] {GuessEvaluator.evaluate(guess, WordIndex.pack(targets[0], targets[0].length()),
+              targets[0].length())};
+    }
+    int[] masks = game.getTargetMasks();
+    if (masks == null) {
+      masks = letterMasks(List.of(targets));
+      game.setTargetMasks(masks);
+    }
+    int[] patterns = new int[targets.length];
+    GuessEvaluator.evaluate(guess, game.getWordLength(), masks, patterns);
+    return patterns;
+  }
+
+  /** Patterns of a checked guess on each board of a room's current game; the caller holds the room's lock. */
+  public int[] score(MultiPlayerRoom room, long guess) {
+    List<String> targets = room.getCurrentWords();
+    int length = targets.get(0).length();
+    if (targets.size() == 1) {
+      return new int[] {GuessEvaluator.evaluate(guess, WordIndex.pack(targets.get(0), length), length)};
+    }
+    int[] masks = room.getTargetMasks();
+    if (masks == null) {
+      masks = letterMasks(targets);
+      room.setTargetMasks(masks);
+    }
+    int[] patterns = new int[targets.size()];
+    GuessEvaluator.evaluate(guess, length, masks, patterns);
+    return patterns;
+  }
+
+  private static int[] letterMasks(List<String> targets) {
+    int length = targets.get(0).length();
+    long[] codes = new long[targets.size()];
+    for (int b = 0; b < codes.length; b++) {
+      codes[b] = WordIndex.pack(targets.get(b), length);
+    }
+    return GuessEvaluator.letterMasks(codes, length);
+  }
+}
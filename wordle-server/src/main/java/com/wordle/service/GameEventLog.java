@@ -0,0 +1,62 @@
+package com.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled log of game events on the {@code com.wordle.events} logger. Fields
+ * are in the message for text logs and attached as key-value pairs for the
+ * JSON logs of the prod profile. The level and sample checks come first, so
+ * an event that is not logged costs no allocation or string building.
+ */
+@Component
+public class GameEventLog {
+
+  private static final Logger log = LoggerFactory.getLogger("com.wordle.events");
+
+  private final double sampleRate;
+
+  public GameEventLog(@Value("${wordle.logging.event-sample-rate:0.01}") double sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  private boolean sampled() {
+    return log.isInfoEnabled()
+            && (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+  }
+
+  public void guess(String mode, String id, String playerId, int round, String outcome) {
+    if (!sampled()) {
+      return;
+    }
+    log.atInfo()
+            .setMessage("guess mode={} id={} player={} round={} outcome={}")
+            .addArgument(mode).addArgument(id).addArgument(playerId).addArgument(round).addArgument(outcome)
+            .addKeyValue("event", "guess")
+            .addKeyValue("mode", mode)
+            .addKeyValue("id", id)
+            .addKeyValue("playerId", playerId)
+            .addKeyValue("round", round)
+            .addKeyValue("outcome", outcome)
+            .log();
+  }
+
+  public void gameEnded(String mode, String id, boolean won, int rounds) {
+    if (!sampled()) {
+      return;
+    }
+    log.atInfo()
+            .setMessage("game ended mode={} id={} won={} rounds={}")
+            .addArgument(mode).addArgument(id).addArgument(won).addArgument(rounds)
+            .addKeyValue("event", "game_ended")
+            .addKeyValue("mode", mode)
+            .addKeyValue("id", id)
+            .addKeyValue("won", won)
+            .addKeyValue("rounds", rounds)
+            .log();
+  }
+}
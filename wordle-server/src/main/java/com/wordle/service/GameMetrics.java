@@ -0,0 +1,79 @@
+package com.wordle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game-level meters recorded from the services. Meters are registered once
+ * and held in fields, so the hot paths never look anything up by name.
+ */
+@Component
+public class GameMetrics {
+
+  // A lookup takes tens of nanoseconds, so only 1 in 64 is timed
+  private static final int LOOKUP_SAMPLE_MASK = 63;
+
+  private final Counter singleGuesses;
+  private final Counter singleInvalid;
+  private final Counter roomGuesses;
+  private final Counter roomInvalid;
+  private final Timer lookupTimer;
+  private final DistributionSummary fanout;
+
+  public GameMetrics(MeterRegistry registry) {
+    this.singleGuesses = guessCounter(registry, "single", "accepted");
+    this.singleInvalid = guessCounter(registry, "single", "invalid");
+    this.roomGuesses = guessCounter(registry, "multi", "accepted");
+    this.roomInvalid = guessCounter(registry, "multi", "invalid");
+    this.lookupTimer = Timer.builder("wordle.dictionary.lookup")
+            .description("Word list membership check (sampled)")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(10))
+            .maximumExpectedValue(Duration.ofMillis(1))
+            .register(registry);
+    this.fanout = DistributionSummary.builder("wordle.rooms.fanout")
+            .description("Players a room event is broadcast to")
+            .baseUnit("players")
+            .publishPercentileHistogram()
+            .maximumExpectedValue(1024.0)
+            .register(registry);
+  }
+
+  private static Counter guessCounter(MeterRegistry registry, String mode, String outcome) {
+    return Counter.builder("wordle.guesses")
+            .description("Guesses submitted")
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .register(registry);
+  }
+
+  /** Whether a packed word is in {@code words}, timing a sample of the calls. */
+  public boolean lookup(WordIndex words, long code) {
+    if ((ThreadLocalRandom.current().nextInt() & LOOKUP_SAMPLE_MASK) != 0) {
+      return words.indexOf(code) >= 0;
+    }
+    long start = System.nanoTime();
+    boolean found = words.indexOf(code) >= 0;
+    lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    return found;
+  }
+
+  public void guess(boolean multiplayer, boolean valid) {
+    if (multiplayer) {
+      (valid ? roomGuesses : roomInvalid).increment();
+    } else {
+      (valid ? singleGuesses : singleInvalid).increment();
+    }
+  }
+
+  public void fanout(int recipients) {
+    fanout.record(recipients);
+  }
+}
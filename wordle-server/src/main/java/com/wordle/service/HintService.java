@@ -0,0 +1,228 @@
+package com.wordle.service;
+
+import com.wordle.dto.HintResponse;
+import com.wordle.model.GameState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ranks next guesses by expected information (entropy of the feedback
+ * distribution over the remaining candidate answers).
+ *
+ * Candidates are narrowed incrementally and cached on the {@link GameState}.
+ * Each request works on one snapshot of the word list; cached candidates
+ * from a list that has since been reloaded are rebuilt from scratch.
+ * Scoring runs on a dedicated, size-bounded fork-join pool so hint traffic
+ * cannot take over the cores serving the guess endpoints.
+ */
+@Service
+public class HintService {
+
+  private static final int PATTERNS = 243;
+  private static final int WORDS_PER_TASK = 256;
+  private static final double EPSILON = 1e-9;
+  public static final int MAX_SUGGESTIONS = 20;
+
+  private final WordDictionary dictionary;
+  private final PatternMatrix patterns;
+  private final ForkJoinPool pool;
+  private volatile Opening opening;
+
+  // Scores before any guess, and the list they were computed for
+  private static final class Opening {
+    final WordIndex words;
+    final double[] scores;
+
+    Opening(WordIndex words, double[] scores) {
+      this.words = words;
+      this.scores = scores;
+    }
+  }
+
+  public HintService(WordDictionary dictionary, PatternMatrix patterns,
+                     @Value("${wordle.hints.parallelism:0}") int parallelism) {
+    this.dictionary = dictionary;
+    this.patterns = patterns;
+    int threads = parallelism > 0 ? parallelism
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    this.pool = new ForkJoinPool(threads);
+  }
+
+  public HintResponse suggest(GameState game, int limit) {
+    WordIndex words = dictionary.snapshot();
+    int[] candidates = candidates(game, words);
+    double[] scores = game.getCurrentRound() == 0 ? opening(words) : score(words, candidates);
+    boolean[] possible = mark(words, candidates);
+    int[] top = top(scores, possible, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+
+    List<HintResponse.Suggestion> suggestions = new ArrayList<>(top.length);
+    for (int idx : top) {
+      suggestions.add(new HintResponse.Suggestion(words.wordAt(idx), scores[idx], possible[idx]));
+    }
+    return new HintResponse(game.getGameId(), candidates.length, suggestions);
+  }
+
+  /** Remaining candidate answers for a game, filtered only by guesses not yet applied. */
+  public int[] candidates(GameState game, WordIndex words) {
+    game.lock().lock();
+    try {
+      int[] candidates = game.getCandidates();
+      int round = game.getCandidateRound();
+      if (candidates == null || game.getCandidateList() != words.checksum()) {
+        candidates = answers(words);
+        round = 0;
+      }
+      for (; round < game.getCurrentRound(); round++) {
+        int packed = WordDictionary.pack(game.getGuessWord(round));
+        int guess = words.indexOf(packed);
+        candidates = guess >= 0
+                ? filter(words, candidates, guess, GuessEvaluator.toBase3(game.getFeedback(round)))
+                : filterByWord(words, candidates, packed, game.getFeedback(round));
+      }
+      game.setCandidates(candidates, round, words.checksum());
+      return candidates;
+    } finally {
+      game.lock().unlock();
+    }
+  }
+
+  /** Keeps the candidates that would have produced {@code pattern} (base 3) for word {@code guess}. */
+  public int[] filter(WordIndex words, int[] candidates, int guess, int pattern) {
+    int[] kept = new int[candidates.length];
+    int n = 0;
+    for (int answer : candidates) {
+      if (patterns.pattern(words, guess, answer) == pattern) {
+        kept[n++] = answer;
+      }
+    }
+    return Arrays.copyOf(kept, n);
+  }
+
+  // For a guess that a reload removed from the list: evaluates the word itself
+  private static int[] filterByWord(WordIndex words, int[] candidates, int packedGuess, int feedback) {
+    int[] kept = new int[candidates.length];
+    int n = 0;
+    for (int answer : candidates) {
+      if (GuessEvaluator.evaluate(packedGuess, (int) words.codeAt(answer)) == feedback) {
+        kept[n++] = answer;
+      }
+    }
+    return Arrays.copyOf(kept, n);
+  }
+
+  /** Expected information, in bits, of every allowed word as the next guess. */
+  public double[] score(WordIndex words, int[] candidates) {
+    double[] scores = new double[words.size()];
+    pool.invoke(new ScoreRange(words, candidates, scores, 0, scores.length));
+    return scores;
+  }
+
+  private double[] opening(WordIndex words) {
+    Opening o = opening;
+    if (o == null || o.words != words) {
+      synchronized (this) {
+        o = opening;
+        if (o == null || o.words != words) {
+          o = new Opening(words, score(words, answers(words)));
+          opening = o;
+        }
+      }
+    }
+    return o.scores;
+  }
+
+  private static int[] answers(WordIndex words) {
+    int[] all = new int[words.answerCount()];
+    for (int i = 0; i < all.length; i++) {
+      all[i] = i;
+    }
+    return all;
+  }
+
+  private static boolean[] mark(WordIndex words, int[] candidates) {
+    boolean[] marked = new boolean[words.size()];
+    for (int c : candidates) {
+      marked[c] = true;
+    }
+    return marked;
+  }
+
+  // Highest entropy first; on ties prefer words that can still be the answer
+  private static int[] top(double[] scores, boolean[] possible, int limit) {
+    int[] best = new int[Math.min(limit, scores.length)];
+    int filled = 0;
+    for (int idx = 0; idx < scores.length; idx++) {
+      if (filled == best.length && !better(idx, best[filled - 1], scores, possible)) {
+        continue;
+      }
+      int pos = filled < best.length ? filled++ : best.length - 1;
+      while (pos > 0 && better(idx, best[pos - 1], scores, possible)) {
+        best[pos] = best[pos - 1];
+        pos--;
+      }
+      best[pos] = idx;
+    }
+    return best;
+  }
+
+  private static boolean better(int a, int b, double[] scores, boolean[] possible) {
+    double diff = scores[a] - scores[b];
+    if (Math.abs(diff) > EPSILON) {
+      return diff > 0;
+    }
+    return possible[a] && !possible[b];
+  }
+
+  private final class ScoreRange extends RecursiveAction {
+    private final WordIndex words;
+    private final int[] candidates;
+    private final double[] scores;
+    private final int from;
+    private final int to;
+
+    ScoreRange(WordIndex words, int[] candidates, double[] scores, int from, int to) {
+      this.words = words;
+      this.candidates = candidates;
+      this.scores = scores;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > WORDS_PER_TASK) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new ScoreRange(words, candidates, scores, from, mid), new ScoreRange(words, candidates, scores, mid, to));
+        return;
+      }
+      int[] histogram = new int[PATTERNS];
+      double total = candidates.length;
+      for (int guess = from; guess < to; guess++) {
+        Arrays.fill(histogram, 0);
+        for (int answer : candidates) {
+          histogram[patterns.pattern(words, guess, answer)]++;
+        }
+        double entropy = 0;
+        for (int count : histogram) {
+          if (count > 0) {
+            double p = count / total;
+            entropy -= p * Math.log(p);
+          }
+        }
+        scores[guess] = entropy / Math.log(2);
+      }
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+}
@@ -0,0 +1,246 @@
+package com.wordle.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.dto.LobbyRoom;
+import com.wordle.model.MultiPlayerRoom;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Joinable rooms (waiting and not full), kept sorted by age and by fill level
+ * as rooms are created, joined, started and removed, so listing never scans
+ * the room map.
+ *
+ * Each room is listed as a {@link LobbyRoom} taken when it was last
+ * indexed, so a page costs the same whether its rooms hold 2 players or
+ * 5000. Serialized pages are cached per index version. The lobby polls far more
+ * often than rooms change, so most listings return cached bytes without
+ * taking the lock or touching Jackson. Only the first {@value #CACHED_PAGES}
+ * pages that hold rooms are cached, so clients asking for arbitrary pages
+ * and sizes cannot grow the cache.
+ *
+ * In cluster mode the index also lists rooms held by other nodes, as those
+ * nodes report them, so every node serves the same lobby. A room this node
+ * holds always wins over another node's listing of it, and a node can only
+ * drop the listings it made.
+ */
+@Component
+public class LobbyIndex {
+
+  public enum Sort { NEWEST, OLDEST, FILL }
+
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 200;
+  static final int CACHED_PAGES = 5;
+
+  private static final Comparator<Entry> BY_AGE = Comparator.comparingLong(e -> e.seq);
+  private static final Comparator<Entry> BY_FILL =
+          Comparator.<Entry>comparingInt(e -> -e.players).thenComparing(BY_AGE);
+
+  private final ObjectMapper objectMapper;
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final TreeSet<Entry> byAge = new TreeSet<>(BY_AGE);
+  private final TreeSet<Entry> byFill = new TreeSet<>(BY_FILL);
+  private long nextSeq;
+  private volatile long version;
+  private volatile Pages pages = new Pages(0);
+  // Told of every change to this node's own rooms, with the new listing or null once dropped
+  private volatile BiConsumer<String, LobbyRoom> localListener = (roomId, room) -> {};
+
+  public LobbyIndex(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  private static final class Entry {
+    final LobbyRoom room;
+    final String node; // The node holding the room, or null for this one
+    final long seq;
+    final int players;
+
+    Entry(LobbyRoom room, String node, long seq) {
+      this.room = room;
+      this.node = node;
+      this.seq = seq;
+      this.players = room.getPlayerCount();
+    }
+  }
+
+  private static final class Pages {
+    final long version;
+    final Map<String, Page> cache = new ConcurrentHashMap<>();
+
+    Pages(long version) {
+      this.version = version;
+    }
+  }
+
+  public static final class Page {
+    private final List<LobbyRoom> rooms;
+    private final int total;
+    private final long version;
+    private final byte[] json;
+
+    Page(List<LobbyRoom> rooms, int total, long version, byte[] json) {
+      this.rooms = rooms;
+      this.total = total;
+      this.version = version;
+      this.json = json;
+    }
+
+    public List<LobbyRoom> getRooms() { return rooms; }
+    public int getTotal() { return total; }
+    public long getVersion() { return version; }
+    // Serialized rooms array; shared between callers, so never modify it
+    public byte[] getJson() { return json; }
+  }
+
+  // A room moving to another node is listed again by its new owner
+  private static boolean joinable(MultiPlayerRoom room) {
+    return room.getStatus() == MultiPlayerRoom.RoomStatus.WAITING && !room.isFull() && !room.isHandingOff();
+  }
+
+  /** Re-indexes a room on this node after any change; drops it once it is no longer joinable. */
+  public synchronized void update(MultiPlayerRoom room) {
+    LobbyRoom listed = joinable(room) ? new LobbyRoom(room) : null;
+    if (set(room.getRoomId(), null, listed)) {
+      localListener.accept(room.getRoomId(), listed);
+    }
+  }
+
+  /** Drops a room that has left this node. */
+  public synchronized void remove(String roomId) {
+    Entry old = entries.get(roomId);
+    if (old != null && old.node == null) {
+      set(roomId, null, null);
+      localListener.accept(roomId, null);
+    }
+  }
+
+  /**
+   * Lists a room held by {@code node}, or drops that node's listing of it if
+   * {@code room} is null. A newer listing from another node replaces the old
+   * one, since rooms move to new owners.
+   */
+  public synchronized void update(String node, String roomId, LobbyRoom room) {
+    Entry old = entries.get(roomId);
+    if (room != null ? old == null || old.node != null : old != null && node.equals(old.node)) {
+      set(roomId, node, room);
+    }
+  }
+
+  /** Replaces everything listed for {@code node} with {@code rooms}; empty once the node is gone. */
+  public synchronized void replace(String node, Collection<LobbyRoom> rooms) {
+    List<String> dropped = new ArrayList<>();
+    for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+      if (node.equals(entry.getValue().node)) {
+        dropped.add(entry.getKey());
+      }
+    }
+    for (String roomId : dropped) {
+      set(roomId, node, null);
+    }
+    for (LobbyRoom room : rooms) {
+      update(node, room.getRoomId(), room);
+    }
+  }
+
+  /** The listings of this node's own rooms, for telling another node about them. */
+  public synchronized List<LobbyRoom> localRooms() {
+    List<LobbyRoom> rooms = new ArrayList<>();
+    for (Entry entry : entries.values()) {
+      if (entry.node == null) {
+        rooms.add(entry.room);
+      }
+    }
+    return rooms;
+  }
+
+  /** Calls {@code listener}, under the index's lock, on every change to this node's own rooms; must not block. */
+  public void onLocalChange(BiConsumer<String, LobbyRoom> listener) {
+    this.localListener = listener;
+  }
+
+  // Caller holds the lock. Lists or drops one room, keeping its place in age order; true if anything changed.
+  private boolean set(String roomId, String node, LobbyRoom room) {
+    Entry old = entries.remove(roomId);
+    if (old != null) {
+      byAge.remove(old);
+      byFill.remove(old);
+    }
+    if (room != null) {
+      Entry entry = new Entry(room, node, old != null ? old.seq : nextSeq++);
+      entries.put(roomId, entry);
+      byAge.add(entry);
+      byFill.add(entry);
+    } else if (old == null) {
+      return false;
+    }
+    version++;
+    return true;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public int size() {
+    return byAge.size();
+  }
+
+  public Page page(Sort sort, int page, int size) {
+    int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    // Clamped first, so the offset cannot overflow
+    page = Math.max(0, Math.min(page, Integer.MAX_VALUE / limit));
+    int offset = page * limit;
+    String key = sort.name() + ':' + offset + ':' + limit;
+
+    Pages cached = pages;
+    if (cached.version != version) {
+      cached = new Pages(version);
+      pages = cached;
+    }
+    Page hit = cached.cache.get(key);
+    if (hit != null) {
+      return hit;
+    }
+
+    List<LobbyRoom> rooms = new ArrayList<>(limit);
+    int total;
+    long at;
+    synchronized (this) {
+      at = version;
+      total = byAge.size();
+      Iterator<Entry> it = sort == Sort.NEWEST ? byAge.descendingIterator()
+              : sort == Sort.OLDEST ? byAge.iterator() : byFill.iterator();
+      for (int i = 0; i < offset && it.hasNext(); i++) {
+        it.next();
+      }
+      while (rooms.size() < limit && it.hasNext()) {
+        rooms.add(it.next().room);
+      }
+    }
+
+    Page built;
+    try {
+      built = new Page(List.copyOf(rooms), total, at, objectMapper.writeValueAsBytes(rooms));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to serialize lobby page", e);
+    }
+    // Only cache if no change slipped in while the page was being built
+    if (cached.version == at && page < CACHED_PAGES && (offset < total || page == 0)) {
+      cached.cache.put(key, built);
+    }
+    return built;
+  }
+}
@@ -1,220 +1,446 @@
 package com.wordle.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wordle.dto.RoomSummary;
+import com.wordle.journal.EventJournal;
+import com.wordle.journal.JournalEvent;
 import com.wordle.model.*;
+import com.wordle.store.LifecycleCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 public class MultiPlayerService {
 
-  private final Map<String, MultiPlayerRoom> rooms = new ConcurrentHashMap<>();
-  private final WordleService wordleService;
+  private static final Logger log = LoggerFactory.getLogger(MultiPlayerService.class);
+  private static final String MODE = "multi";
+
+  private final Cache<String, MultiPlayerRoom> roomCache;
+  private final Map<String, MultiPlayerRoom> rooms;
+  private final GameEngine engine;
+  private final RoomEventPublisher eventPublisher;
+  private final EventJournal journal;
+  private final GameMetrics metrics;
+  private final GameEventLog events;
+  private final LobbyIndex lobby;
+  private final RankingService rankings;
+
+  private final int battleRoyaleMaxPlayers;
+  private final Duration battleRoyaleDuration;
+  private final Duration tickInterval;
+  private final int leaderboardSize;
+  // Battle royale rooms changed since the last tick, and those with a game running
+  private final Set<String> dirtyRooms = ConcurrentHashMap.newKeySet();
+  private final Set<String> battleRoyaleGames = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean lobbyDirty = new AtomicBoolean();
+  // Lobby version last pushed; rooms on other nodes move it without going through this service
+  private volatile long publishedLobbyVersion = -1;
+  private final List<Consumer<MultiPlayerRoom>> startListeners = new CopyOnWriteArrayList<>();
+  // Bots in rooms on this node: counted as they join, uncounted when their room goes
+  private final AtomicInteger bots = new AtomicInteger();
+  private ScheduledExecutorService ticker;
+  private volatile Predicate<String> ownership = roomId -> true;
+
+  public MultiPlayerService(GameEngine engine, RoomEventPublisher eventPublisher, EventJournal journal,
+                            GameMetrics metrics, GameEventLog events, LobbyIndex lobby, RankingService rankings,
+                            @Value("${wordle.rooms.max-size:10000}") long maxRooms,
+                            @Value("${wordle.rooms.idle-ttl:30m}") Duration idleTtl,
+                            @Value("${wordle.rooms.finished-ttl:10m}") Duration finishedTtl,
+                            @Value("${wordle.rooms.battle-royale.max-players:5000}") int battleRoyaleMaxPlayers,
+                            @Value("${wordle.rooms.battle-royale.duration:10m}") Duration battleRoyaleDuration,
+                            @Value("${wordle.rooms.battle-royale.tick:500ms}") Duration tickInterval,
+                            @Value("${wordle.rooms.battle-royale.leaderboard-size:20}") int leaderboardSize) {
+    this.engine = engine;
+    this.eventPublisher = eventPublisher;
+    this.journal = journal;
+    this.metrics = metrics;
+    this.events = events;
+    this.lobby = lobby;
+    this.rankings = rankings;
+    this.battleRoyaleMaxPlayers = battleRoyaleMaxPlayers;
+    this.battleRoyaleDuration = battleRoyaleDuration;
+    this.tickInterval = tickInterval;
+    this.leaderboardSize = leaderboardSize;
+    // Expired, evicted or handed-off rooms leave the lobby; a replace is the same room moving to its finished TTL
+    this.roomCache = LifecycleCache.build(maxRooms, idleTtl, finishedTtl,
+            room -> room.getStatus() == MultiPlayerRoom.RoomStatus.FINISHED,
+            (roomId, room, cause) -> {
+              if (cause != RemovalCause.REPLACED) {
+                lobby.remove(roomId);
+                if (room != null) {
+                  bots.addAndGet(-(int) room.getPlayers().stream().filter(p -> p.getBot() != null).count());
+                }
+              }
+            });
+    this.rooms = roomCache.asMap();
+  }
+
+  @PostConstruct
+  public void startTicker() {
+    ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread t = new Thread(r, "room-broadcast-tick");
+      t.setDaemon(true);
+      return t;
+    });
+    long period = tickInterval.toMillis();
+    ticker.scheduleWithFixedDelay(this::tick, period, period, TimeUnit.MILLISECONDS);
+  }
 
-  public MultiPlayerService(WordleService wordleService) {
-    this.wordleService = wordleService;
+  @PreDestroy
+  public void stopTicker() {
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
   }
 
   public MultiPlayerRoom createRoom(String creatorId, String roomName, int maxPlayers, String username) {
-    String roomId = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    return createRoom(creatorId, roomName, maxPlayers, username, MultiPlayerRoom.RoomMode.CLASSIC);
+  }
+
+  public MultiPlayerRoom createRoom(String creatorId, String roomName, int maxPlayers, String username,
+                                   MultiPlayerRoom.RoomMode mode) {
+    return createRoom(creatorId, roomName, maxPlayers, username, mode, GameVariant.CLASSIC);
+  }
+
+  /** Creates a room whose games are played by {@code variant}'s rules. */
+  public MultiPlayerRoom createRoom(String creatorId, String roomName, int maxPlayers, String username,
+                                   MultiPlayerRoom.RoomMode mode, GameVariant variant) {
+    engine.validate(variant);
+    Predicate<String> owns = ownership;
+    String roomId;
+    int attempts = 0;
+    do {
+      roomId = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    } while (!owns.test(roomId) && ++attempts < 256);
+    return createRoom(roomId, creatorId, roomName, maxPlayers, username, mode, variant, 0);
+  }
+
+  // A room counting its versions on from {@code version}: 0 when new, its old version when handed over
+  private MultiPlayerRoom createRoom(String roomId, String creatorId, String roomName, int maxPlayers, String username,
+                                     MultiPlayerRoom.RoomMode mode, GameVariant variant, long version) {
+    if (mode == MultiPlayerRoom.RoomMode.BATTLE_ROYALE) {
+      maxPlayers = Math.max(2, Math.min(maxPlayers, battleRoyaleMaxPlayers));
+    }
     MultiPlayerRoom room = new MultiPlayerRoom(roomId, roomName, creatorId, maxPlayers);
+    room.setMode(mode);
+    room.setVariant(variant);
+    room.setVersion(version);
 
     Player creator = new Player(creatorId, username);
-    room.getPlayers().add(creator);
+    room.addPlayer(creator);
+    room.markChanged(creator);
 
     rooms.put(roomId, room);
+    lobby.update(room);
+    journal.append(JournalEvent.roomCreated(roomId, roomName, creatorId, username, maxPlayers, mode.name(), variant));
+    publishLobbyUpdate();
     return room;
   }
 
   public MultiPlayerRoom joinRoom(String roomId, String playerId, String username) {
+    return joinRoom(roomId, playerId, username, null);
+  }
+
+  /** Joins a waiting room; {@code bot} is the skill of a server-side bot, or null for a person. */
+  public MultiPlayerRoom joinRoom(String roomId, String playerId, String username, Player.BotLevel bot) {
     MultiPlayerRoom room = rooms.get(roomId);
     if (room == null) {
       throw new IllegalArgumentException("Room not found");
     }
 
-    if (room.isFull()) {
-      throw new IllegalArgumentException("Room is full");
-    }
-
-    if (room.getStatus() != MultiPlayerRoom.RoomStatus.WAITING) {
-      throw new IllegalArgumentException("Game already in progress");
-    }
+    boolean joined = false;
+    synchronized (room) {
+      checkStillHere(room);
+      if (room.isFull()) {
+        throw new IllegalArgumentException("Room is full");
+      }
 
-    // Check if player already in room
-    boolean playerExists = room.getPlayers().stream()
-            .anyMatch(p -> p.getPlayerId().equals(playerId));
+      if (room.getStatus() != MultiPlayerRoom.RoomStatus.WAITING) {
+        throw new IllegalArgumentException("Game already in progress");
+      }
 
-    if (!playerExists) {
-      Player player = new Player(playerId, username);
-      room.getPlayers().add(player);
+      // Check if player already in room
+      if (room.getPlayer(playerId) == null) {
+        Player player = new Player(playerId, username);
+        player.setBot(bot);
+        room.addPlayer(player);
+        room.markChanged(player);
+        if (bot != null) {
+          bots.incrementAndGet();
+        }
+        lobby.update(room);
+        joined = true;
+        journal.append(JournalEvent.playerJoined(roomId, playerId, username, bot));
+
+        if (isBattleRoyale(room)) {
+          // Joins are announced by the next tick, not one broadcast per player
+          dirtyRooms.add(roomId);
+          lobbyDirty.set(true);
+          return room;
+        }
 
+        Map<String, Object> joinData = new HashMap<>();
+        joinData.put("type", "PLAYER_JOINED");
+        joinData.put("playerId", playerId);
+        joinData.put("room", sanitizeRoomForClient(room));
+        eventPublisher.publishRoomEvent(room, joinData);
+      }
     }
 
+    if (joined) {
+      publishLobbyUpdate();
+    }
     return room;
   }
 
   public void startGame(String roomId) {
     MultiPlayerRoom room = rooms.get(roomId);
-    if (room == null || !room.canStart()) {
+    if (room == null) {
       throw new IllegalArgumentException("Cannot start game");
     }
+    startGame(roomId, List.of(engine.drawTargets(room.getVariant())), LocalDateTime.now());
+  }
 
-    // Get random word
-    List<String> wordList = wordleService.getWordList();
-    String targetWord = wordList.get(new Random().nextInt(wordList.size()));
-    System.out.println(String.format("targetWord is %s", targetWord));
-    room.setCurrentWord(targetWord);
-    room.setStatus(MultiPlayerRoom.RoomStatus.IN_PROGRESS);
-
-    // Reset all players
-    room.getPlayers().forEach(player -> {
-      player.getGuesses().clear();
-      player.getGuessResults().clear();
-      player.setHasWon(false);
-      player.setWinTime(null);
-      player.setRank(0);
-      player.setPoints(0);
-    });
+  // A game started at {@code startedAt}: now, or the original time when replayed
+  private void startGame(String roomId, List<String> targetWords, LocalDateTime startedAt) {
+    MultiPlayerRoom room = rooms.get(roomId);
+    if (room == null) {
+      throw new IllegalArgumentException("Cannot start game");
+    }
 
-    // Broadcast game started (without revealing the word)
-    Map<String, Object> gameData = new HashMap<>();
-    gameData.put("type", "GAME_STARTED");
-    gameData.put("room", sanitizeRoomForClient(room));
+    synchronized (room) {
+      checkStillHere(room);
+      if (!room.canStart()) {
+        throw new IllegalArgumentException("Cannot start game");
+      }
+
+      log.debug("Room {} target words are {}", roomId, targetWords);
+      room.setCurrentWords(targetWords);
+      room.setWinnerId(null);
+
+      // Reset all players before the game becomes visible as started
+      room.getPlayers().forEach(player -> {
+        player.reset(room.getVariant());
+        room.markChanged(player);
+      });
+      room.resetFinished();
+      room.setStartedAt(startedAt);
+      room.setStatus(MultiPlayerRoom.RoomStatus.IN_PROGRESS);
+      room.markChanged();
+      lobby.update(room);
+      journal.append(JournalEvent.gameStarted(roomId, targetWords));
+
+      // Broadcast game started (without revealing the word)
+      Map<String, Object> gameData = new HashMap<>();
+      gameData.put("type", "GAME_STARTED");
+      if (isBattleRoyale(room)) {
+        battleRoyaleGames.add(roomId);
+        gameData.put("summary", new RoomSummary(room, leaderboardSize, null));
+      } else {
+        gameData.put("room", sanitizeRoomForClient(room));
+      }
+      eventPublisher.publishRoomEvent(room, gameData);
+    }
+    publishLobbyUpdate();
+    startListeners.forEach(listener -> listener.accept(room));
+  }
+
+  /** Calls {@code listener} after every game start, including starts replayed from the journal. */
+  public void onGameStarted(Consumer<MultiPlayerRoom> listener) {
+    startListeners.add(listener);
   }
 
   public void processGuess(String roomId, String playerId, String guess) {
+    processGuess(roomId, playerId, guess, LocalDateTime.now(), Origin.LIVE);
+  }
+
+  // Where a change comes from. Replayed and imported changes are not metered, since they were counted
+  // when first made, and imported game ends are not ranked, since the node that finished the game did that.
+  private enum Origin { LIVE, JOURNAL, HANDOFF }
+
+  // A guess accepted at {@code at}: now, or the original time when replayed
+  private void processGuess(String roomId, String playerId, String guess, LocalDateTime at, Origin origin) {
     MultiPlayerRoom room = rooms.get(roomId);
     if (room == null) {
       throw new IllegalArgumentException("Room not found");
     }
 
-    if (room.getStatus() != MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
-      throw new IllegalArgumentException("Game not in progress");
-    }
+    synchronized (room) {
+      checkStillHere(room);
+      if (room.getStatus() != MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+        throw new IllegalArgumentException("Game not in progress");
+      }
 
-    Player player = room.getPlayers().stream()
-            .filter(p -> p.getPlayerId().equals(playerId))
-            .findFirst()
-            .orElseThrow(() -> new IllegalArgumentException("Player not found"));
+      Player player = room.getPlayer(playerId);
+      if (player == null) {
+        throw new IllegalArgumentException("Player not found");
+      }
 
-    if (player.isFinished()) {
-      throw new IllegalArgumentException("Player already finished");
-    }
+      if (player.isFinished()) {
+        throw new IllegalArgumentException("Player already finished");
+      }
 
-    // Validate guess
-    guess = guess.toUpperCase().trim();
-    if (guess.length() != 5 || !guess.matches("[A-Z]+")) {
-      throw new IllegalArgumentException("Guess must be exactly 5 letters");
-    }
+      // Validate guess
+      guess = guess.toUpperCase().trim();
+      int length = room.getVariant().getLength();
+      long code = engine.check(guess, length);
+      if (code == GameEngine.BAD_FORMAT) {
+        if (origin == Origin.LIVE) {
+          metrics.guess(true, false);
+          events.guess(MODE, roomId, playerId, player.getCurrentRound(), "bad_format");
+        }
+        throw new IllegalArgumentException("Guess must be exactly " + length + " letters");
+      }
 
-    if (!wordleService.getWordList().contains(guess)) {
-      throw new IllegalArgumentException("Invalid word");
-    }
+      if (code == GameEngine.NOT_IN_LIST) {
+        if (origin == Origin.LIVE) {
+          metrics.guess(true, false);
+          events.guess(MODE, roomId, playerId, player.getCurrentRound(), "not_in_list");
+        }
+        throw new IllegalArgumentException("Invalid word");
+      }
+      if (origin == Origin.LIVE) {
+        metrics.guess(true, true);
+      }
 
-    // Process the guess
-    List<GuessResult> result = evaluateGuess(room.getCurrentWord(), guess);
-    player.getGuesses().add(guess);
-    player.getGuessResults().add(result);
+      // Process the guess on every board
+      int[] patterns = engine.score(room, code);
+      player.addGuess(guess, patterns);
+      room.guessAccepted(player);
+      journal.append(JournalEvent.roomGuess(roomId, playerId, player.getCurrentRound() - 1, guess));
+      if (origin == Origin.LIVE) {
+        events.guess(MODE, roomId, playerId, player.getCurrentRound() - 1, "accepted");
+      }
 
-    // Check if player won
-    boolean won = guess.equals(room.getCurrentWord());
-    if (won) {
-      player.setHasWon(true);
-      player.setWinTime(LocalDateTime.now());
+      // Check if player won
+      boolean won = player.isAllSolved();
+      if (won) {
+        player.setHasWon(true);
+        player.setWinTime(at);
+      }
+      if (player.isFinished()) {
+        room.playerFinished();
+        room.getLeaderboard().record(player);
+        // The winner is whoever ranks first: fewest rounds, then first to solve
+        Player leader = room.getLeaderboard().select(1);
+        room.setWinnerId(leader != null && leader.isHasWon() ? leader.getPlayerId() : null);
+      }
+      room.markChanged(player);
 
-      // If this is the first winner
-      if (room.getWinnerId() == null) {
-        room.setWinnerId(playerId);
+      if (isBattleRoyale(room)) {
+        // The guesser gets the result in the HTTP response; everyone else sees the next tick
+        dirtyRooms.add(roomId);
+        checkGameEnd(room, origin);
+        return;
       }
+
+      // Broadcast guess result
+      Map<String, Object> guessData = new HashMap<>();
+      guessData.put("type", "GUESS_RESULT");
+      guessData.put("playerId", playerId);
+      guessData.put("guess", guess);
+      guessData.put("result", patterns.length == 1 ? GuessResult.fromPattern(guess, patterns[0]) : rows(guess, patterns));
+      guessData.put("room", sanitizeRoomForClient(room));
+      eventPublisher.publishRoomEvent(room, guessData);
+
+      // Check if game should end
+      checkGameEnd(room, origin);
     }
+  }
 
-    // Check if game should end
-    checkGameEnd(room);
+  // One row per board for a guess scored on several boards
+  private static List<List<GuessResult>> rows(String guess, int[] patterns) {
+    List<List<GuessResult>> rows = new ArrayList<>(patterns.length);
+    for (int pattern : patterns) {
+      rows.add(GuessResult.fromPattern(guess, pattern));
+    }
+    return rows;
+  }
 
-    // Broadcast guess result
-    Map<String, Object> guessData = new HashMap<>();
-    guessData.put("type", "GUESS_RESULT");
-    guessData.put("playerId", playerId);
-    guessData.put("guess", guess);
-    guessData.put("result", result);
-    guessData.put("room", sanitizeRoomForClient(room));
+  // Caller holds the room's lock; a room being handed to another node, or already gone, must not take more changes
+  private void checkStillHere(MultiPlayerRoom room) {
+    if (rooms.get(room.getRoomId()) != room) {
+      throw new IllegalArgumentException("Room not found");
+    }
+    if (room.isHandingOff()) {
+      throw new IllegalArgumentException("Room is moving to another node, try again");
+    }
+  }
 
+  private static boolean isBattleRoyale(MultiPlayerRoom room) {
+    return room.getMode() == MultiPlayerRoom.RoomMode.BATTLE_ROYALE;
   }
 
-  private void checkGameEnd(MultiPlayerRoom room) {
+  // Caller holds the room's lock. Battle royale games run until everyone finishes or time runs out.
+  private void checkGameEnd(MultiPlayerRoom room, Origin origin) {
     boolean hasWinner = room.getWinnerId() != null;
-    boolean allFinished = room.getPlayers().stream().allMatch(Player::isFinished);
-
-    if (hasWinner || allFinished) {
-      room.setStatus(MultiPlayerRoom.RoomStatus.FINISHED);
-      calculateRanks(room);
-
-      Map<String, Object> endData = new HashMap<>();
-      endData.put("type", "GAME_ENDED");
-      endData.put("room", room); // Include full room with word revealed
-      endData.put("targetWord", room.getCurrentWord());
+    boolean allFinished = room.allPlayersFinished();
 
+    if (allFinished || (hasWinner && !isBattleRoyale(room))) {
+      finishGame(room, origin);
     }
   }
 
-  private void calculateRanks(MultiPlayerRoom room) {
-    List<Player> finishedPlayers = room.getPlayers().stream()
-            .filter(Player::isFinished)
-            .sorted((a, b) -> {
-              if (a.isHasWon() && !b.isHasWon()) return -1;
-              if (!a.isHasWon() && b.isHasWon()) return 1;
-              if (a.isHasWon() && b.isHasWon()) {
-                return a.getWinTime().compareTo(b.getWinTime());
-              }
-              return Integer.compare(a.getCurrentRound(), b.getCurrentRound());
-            })
-            .toList();
-
-    for (int i = 0; i < finishedPlayers.size(); i++) {
-      Player player = finishedPlayers.get(i);
-      player.setRank(i + 1);
-
-      // Award points
-      if (i == 0) player.setPoints(10);
-      else if (i == 1) player.setPoints(7);
-      else if (i == 2) player.setPoints(5);
-      else player.setPoints(2);
-    }
-  }
-
-  private List<GuessResult> evaluateGuess(String targetWord, String guess) {
-    List<GuessResult> result = new ArrayList<>();
-    char[] target = targetWord.toCharArray();
-    char[] guessChars = guess.toCharArray();
-    boolean[] targetUsed = new boolean[5];
-    boolean[] guessUsed = new boolean[5];
-
-    // First pass: exact matches
-    for (int i = 0; i < 5; i++) {
-      if (guessChars[i] == target[i]) {
-        result.add(new GuessResult(guessChars[i], GuessResult.LetterStatus.HIT));
-        targetUsed[i] = true;
-        guessUsed[i] = true;
-      } else {
-        result.add(new GuessResult(guessChars[i], GuessResult.LetterStatus.MISS));
+  // Caller holds the room's lock
+  private void finishGame(MultiPlayerRoom room, Origin origin) {
+    boolean hasWinner = room.getWinnerId() != null;
+    room.setStatus(MultiPlayerRoom.RoomStatus.FINISHED);
+    // Live ranks become final; players still mid-game when it ends go unranked
+    room.getLeaderboard().forEach((player, rank) -> {
+      int points = Leaderboard.pointsFor(rank);
+      player.setRank(rank);
+      player.setPoints(points);
+      room.markChanged(player);
+      // Bots are ranked in the room but kept off the global standings
+      if (player.getBot() == null && origin != Origin.HANDOFF) {
+        rankings.record(player, rank, points);
       }
+    });
+    if (isBattleRoyale(room)) {
+      battleRoyaleGames.remove(room.getRoomId());
+    }
+    room.markChanged();
+    lobby.update(room);
+    // Re-put so the entry moves to the shorter finished-room TTL
+    rooms.replace(room.getRoomId(), room);
+    journal.append(JournalEvent.gameEnded(room.getRoomId(), room.getWinnerId()));
+    if (origin == Origin.LIVE) {
+      events.gameEnded(MODE, room.getRoomId(), hasWinner,
+              room.getPlayers().stream().mapToInt(Player::getCurrentRound).max().orElse(0));
     }
 
-    // Second pass: present letters
-    for (int i = 0; i < 5; i++) {
-      if (!guessUsed[i]) {
-        for (int j = 0; j < 5; j++) {
-          if (!targetUsed[j] && guessChars[i] == target[j]) {
-            result.set(i, new GuessResult(guessChars[i], GuessResult.LetterStatus.PRESENT));
-            targetUsed[j] = true;
-            break;
-          }
-        }
-      }
+    Map<String, Object> endData = new HashMap<>();
+    endData.put("type", "GAME_ENDED");
+    if (isBattleRoyale(room)) {
+      endData.put("summary", new RoomSummary(room, leaderboardSize, null));
+    } else {
+      endData.put("room", room); // Include full room with word revealed
+    }
+    endData.put("targetWord", room.getCurrentWord());
+    if (room.getVariant().getBoards() > 1) {
+      endData.put("targetWords", room.getCurrentWords());
     }
-    return result;
+    eventPublisher.publishRoomEvent(room, endData);
   }
 
   private MultiPlayerRoom sanitizeRoomForClient(MultiPlayerRoom room) {
@@ -225,19 +451,298 @@ public class MultiPlayerService {
     sanitized.setPlayers(room.getPlayers());
     sanitized.setMaxPlayers(room.getMaxPlayers());
     sanitized.setStatus(room.getStatus());
+    sanitized.setMode(room.getMode());
+    sanitized.setVariant(room.getVariant());
     sanitized.setCreatedAt(room.getCreatedAt());
     sanitized.setWinnerId(room.getWinnerId());
+    sanitized.setVersion(room.getVersion());
     // Don't include currentWord
     return sanitized;
   }
 
+  // Journal replay; guesses are applied only if the player is still at the recorded round
+  public void apply(JournalEvent event) {
+    apply(event, Origin.JOURNAL);
+  }
+
+  /**
+   * Rebuilds a room handed over by its previous owner from its exported
+   * events. A game that already ended there is not added to the standings
+   * again; this node's own journal replay later does, like any other room.
+   */
+  public void importRoom(List<JournalEvent> events) {
+    for (JournalEvent event : events) {
+      apply(event, Origin.HANDOFF);
+    }
+  }
+
+  private void apply(JournalEvent event, Origin origin) {
+    MultiPlayerRoom room = rooms.get(event.getId());
+    switch (event.getType()) {
+      case ROOM_CREATED:
+        if (room == null) {
+          createRoom(event.getId(), event.getPlayerId(), event.getWord(), event.getMaxPlayers(), event.getUsername(),
+                  event.getMode() != null ? MultiPlayerRoom.RoomMode.valueOf(event.getMode()) : MultiPlayerRoom.RoomMode.CLASSIC,
+                  event.getVariant(), event.getVersion() != null ? event.getVersion() : 0);
+        }
+        break;
+      case PLAYER_JOINED:
+        if (room != null && room.getStatus() == MultiPlayerRoom.RoomStatus.WAITING) {
+          joinRoom(event.getId(), event.getPlayerId(), event.getUsername(),
+                  event.getBot() != null ? Player.BotLevel.valueOf(event.getBot()) : null);
+        }
+        break;
+      case GAME_STARTED:
+        if (room != null && room.getStatus() == MultiPlayerRoom.RoomStatus.WAITING) {
+          startGame(event.getId(), event.getTargets(), timeOf(event));
+        }
+        break;
+      case ROOM_GUESS:
+        if (room != null && room.getStatus() == MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+          Player player = room.getPlayer(event.getPlayerId());
+          if (player != null && player.getCurrentRound() == event.getRound()) {
+            processGuess(event.getId(), event.getPlayerId(), event.getWord(), timeOf(event), origin);
+          }
+        }
+        break;
+      case ROOM_REMOVED:
+        removeRoom(event.getId());
+        break;
+      case GAME_ENDED:
+        // Timed-out battle royale games end without every player finishing
+        if (room != null) {
+          synchronized (room) {
+            if (room.getStatus() == MultiPlayerRoom.RoomStatus.IN_PROGRESS) {
+              finishGame(room, origin);
+            }
+          }
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private static LocalDateTime timeOf(JournalEvent event) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getTs()), ZoneId.systemDefault());
+  }
+
+  private static long millisOf(LocalDateTime time) {
+    return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+
+  /**
+   * Minimal events that recreate every live room, for journal snapshots.
+   * Guesses go in the order they were accepted, and a winning guess carries
+   * its solve time, so replay rebuilds the same leaderboard and winner. The
+   * room's version and game start time travel too: versions on the copy
+   * count on from the original's, so clients polling with an old
+   * {@code since} still get what changed.
+   */
+  public void exportEvents(Consumer<JournalEvent> sink) {
+    for (MultiPlayerRoom room : rooms.values()) {
+      exportRoom(room, sink);
+    }
+  }
+
+  /** Events that recreate one room, as for snapshots; false if the room is not here. */
+  public boolean exportRoom(String roomId, Consumer<JournalEvent> sink) {
+    MultiPlayerRoom room = rooms.get(roomId);
+    if (room == null) {
+      return false;
+    }
+    exportRoom(room, sink);
+    return true;
+  }
+
+  private void exportRoom(MultiPlayerRoom room, Consumer<JournalEvent> sink) {
+    synchronized (room) {
+      String roomId = room.getRoomId();
+      List<Player> players = room.getPlayers();
+      if (players.isEmpty()) {
+        return;
+      }
+      Player creator = players.get(0);
+      JournalEvent created = JournalEvent.roomCreated(roomId, room.getRoomName(), creator.getPlayerId(),
+              creator.getUsername(), room.getMaxPlayers(), room.getMode().name(), room.getVariant());
+      created.setVersion(room.getVersion());
+      sink.accept(created);
+      for (int i = 1; i < players.size(); i++) {
+        Player player = players.get(i);
+        sink.accept(JournalEvent.playerJoined(roomId, player.getPlayerId(), player.getUsername(), player.getBot()));
+      }
+      if (room.getStatus() == MultiPlayerRoom.RoomStatus.WAITING) {
+        return;
+      }
+
+      JournalEvent started = JournalEvent.gameStarted(roomId, room.getCurrentWords());
+      started.setTs(millisOf(room.getStartedAt()));
+      sink.accept(started);
+      Map<String, Integer> rounds = new HashMap<>();
+      for (String playerId : room.getGuessOrder()) {
+        Player player = room.getPlayer(playerId);
+        int round = rounds.merge(playerId, 1, Integer::sum) - 1;
+        List<String> guesses = player.getGuesses();
+        JournalEvent guess = JournalEvent.roomGuess(roomId, playerId, round, guesses.get(round));
+        if (player.isHasWon() && round == guesses.size() - 1) {
+          guess.setTs(millisOf(player.getWinTime()));
+        }
+        sink.accept(guess);
+      }
+      if (room.getStatus() == MultiPlayerRoom.RoomStatus.FINISHED) {
+        sink.accept(JournalEvent.gameEnded(roomId, room.getWinnerId()));
+      }
+    }
+  }
+
+  /**
+   * Exports a room for another node and freezes it: until
+   * {@link #finishHandoff} it rejects changes, so the export stays complete
+   * while it is sent without holding the room's lock. False if the room is
+   * not here or is already being handed off.
+   */
+  public boolean startHandoff(String roomId, Consumer<JournalEvent> sink) {
+    MultiPlayerRoom room = rooms.get(roomId);
+    if (room == null) {
+      return false;
+    }
+    synchronized (room) {
+      if (rooms.get(roomId) != room || room.isHandingOff()) {
+        return false;
+      }
+      exportRoom(room, sink);
+      room.setHandingOff(true);
+      lobby.update(room);
+      return true;
+    }
+  }
+
+  /** Drops a room its new owner has taken, or unfreezes it if the handoff failed. */
+  public void finishHandoff(String roomId, boolean handedOver) {
+    MultiPlayerRoom room = rooms.get(roomId);
+    if (room == null) {
+      return;
+    }
+    synchronized (room) {
+      if (handedOver) {
+        removeRoom(roomId);
+      } else {
+        room.setHandingOff(false);
+        lobby.update(room);
+      }
+    }
+  }
+
+  /** Drops a room from this node, e.g. once it has been handed to another node. */
+  public void removeRoom(String roomId) {
+    if (rooms.remove(roomId) == null) {
+      return;
+    }
+    dirtyRooms.remove(roomId);
+    battleRoyaleGames.remove(roomId);
+    journal.append(JournalEvent.roomRemoved(roomId));
+    lobbyDirty.set(true);
+  }
+
+  public List<String> getRoomIds() {
+    return new ArrayList<>(rooms.keySet());
+  }
+
+  /**
+   * Restricts new room IDs to those {@code owns} accepts, so in cluster mode a
+   * room is always created on the node that owns it.
+   */
+  public void setRoomOwnership(Predicate<String> owns) {
+    this.ownership = owns;
+  }
+
+  /**
+   * Broadcast tick for battle royale rooms: one summary per changed room
+   * instead of a message per join or guess, so fan-out stays bounded by
+   * rooms x ticks however many players are guessing. Also ends games that
+   * have run past their time limit, and pushes lobby changes not yet pushed,
+   * such as rooms listed or dropped by other nodes.
+   */
+  void tick() {
+    try {
+      for (String roomId : battleRoyaleGames) {
+        MultiPlayerRoom room = rooms.get(roomId);
+        if (room == null) {
+          battleRoyaleGames.remove(roomId);
+          continue;
+        }
+        LocalDateTime startedAt = room.getStartedAt();
+        if (startedAt != null && startedAt.plus(battleRoyaleDuration).isBefore(LocalDateTime.now())) {
+          synchronized (room) {
+            if (room.getStatus() == MultiPlayerRoom.RoomStatus.IN_PROGRESS && !room.isHandingOff()) {
+              finishGame(room, Origin.LIVE);
+            }
+          }
+        }
+      }
+
+      for (String roomId : dirtyRooms) {
+        dirtyRooms.remove(roomId);
+        MultiPlayerRoom room = rooms.get(roomId);
+        if (room == null) {
+          continue;
+        }
+        Map<String, Object> tickData = new HashMap<>();
+        tickData.put("type", "ROOM_TICK");
+        tickData.put("summary", new RoomSummary(room, leaderboardSize, null));
+        eventPublisher.publishRoomEvent(room, tickData);
+      }
+
+      if (lobbyDirty.getAndSet(false) || lobby.getVersion() != publishedLobbyVersion) {
+        publishLobbyUpdate();
+      }
+    } catch (RuntimeException e) {
+      log.warn("Room broadcast tick failed", e);
+    }
+  }
+
+  /** Summary of a room for one player: top of the leaderboard, counts, and that player's own board. */
+  public RoomSummary getRoomSummary(String roomId, String playerId, int top) {
+    MultiPlayerRoom room = rooms.get(roomId);
+    if (room == null) {
+      return null;
+    }
+    Player me = playerId != null ? room.getPlayer(playerId) : null;
+    return new RoomSummary(room, Math.max(0, Math.min(top, 100)), me);
+  }
+
+  private void publishLobbyUpdate() {
+    Map<String, Object> lobbyData = new HashMap<>();
+    lobbyData.put("type", "ROOMS_UPDATED");
+    LobbyIndex.Page page = getAvailableRooms(LobbyIndex.Sort.NEWEST, 0, LobbyIndex.DEFAULT_PAGE_SIZE);
+    lobbyData.put("rooms", page.getRooms());
+    lobbyData.put("total", page.getTotal());
+    publishedLobbyVersion = page.getVersion();
+    eventPublisher.publishLobbyEvent(lobbyData);
+  }
+
   public MultiPlayerRoom getRoom(String roomId) {
     return rooms.get(roomId);
   }
 
-  public List<MultiPlayerRoom> getAvailableRooms() {
-    return rooms.values().stream()
-            .filter(room -> room.getStatus() == MultiPlayerRoom.RoomStatus.WAITING && !room.isFull())
-            .toList();
+  /** Bots in the rooms this node holds. */
+  public int getBotCount() {
+    return bots.get();
+  }
+
+  public long getActiveRoomCount() {
+    return roomCache.estimatedSize();
+  }
+
+  public long getEvictionCount() {
+    return roomCache.stats().evictionCount();
+  }
+
+  public long getLobbyVersion() {
+    return lobby.getVersion();
+  }
+
+  public LobbyIndex.Page getAvailableRooms(LobbyIndex.Sort sort, int page, int size) {
+    return lobby.page(sort, page, size);
   }
 }
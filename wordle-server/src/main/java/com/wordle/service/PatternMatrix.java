@@ -0,0 +1,209 @@
+package com.wordle.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Feedback pattern for every (guess, answer) pair of the default word list,
+ * one base-3 byte per pair, keyed by {@link WordIndex} indices.
+ *
+ * The matrix is built in parallel with fork-join and kept in a memory-mapped
+ * file, so a restart with the same word list maps it back instead of
+ * recomputing it. A reloaded word list gets a new matrix, built aside and
+ * swapped in when complete. Lookups for a list without a ready matrix fall
+ * back to {@link GuessEvaluator}.
+ */
+@Component
+public class PatternMatrix {
+
+  private static final Logger log = LoggerFactory.getLogger(PatternMatrix.class);
+
+  private static final int MAGIC = 0x57504D31; // "WPM1"
+  private static final int HEADER_SIZE = 24;
+  private static final int ROWS_PER_TASK = 64;
+
+  // A built matrix and the list whose indices it uses
+  private static final class Matrix {
+    final WordIndex words;
+    final MappedByteBuffer buffer;
+    final int answers;
+
+    Matrix(WordIndex words, MappedByteBuffer buffer) {
+      this.words = words;
+      this.buffer = buffer;
+      this.answers = words.answerCount();
+    }
+  }
+
+  private final WordDictionary dictionary;
+  private final boolean enabled;
+  private final Path file;
+
+  private ExecutorService builder;
+  private volatile Matrix matrix;
+
+  public PatternMatrix(WordDictionary dictionary,
+                       @Value("${wordle.patterns.enabled:false}") boolean enabled,
+                       @Value("${wordle.patterns.file:${java.io.tmpdir}/wordle-patterns.bin}") String file) {
+    this.dictionary = dictionary;
+    this.enabled = enabled;
+    this.file = Path.of(file);
+  }
+
+  @PostConstruct
+  public void init() {
+    if (!enabled) {
+      return;
+    }
+    builder = Executors.newSingleThreadExecutor(r -> {
+      Thread t = new Thread(r, "pattern-matrix-builder");
+      t.setDaemon(true);
+      return t;
+    });
+    dictionary.onReload(words -> builder.execute(() -> load(words)));
+    builder.execute(() -> load(dictionary.snapshot()));
+  }
+
+  private void load(WordIndex words) {
+    if (words != dictionary.snapshot()) {
+      // Replaced again while queued; the newer list has its own build queued
+      return;
+    }
+    try {
+      MappedByteBuffer buffer = open(words);
+      if (buffer == null) {
+        buffer = build(words);
+      }
+      matrix = new Matrix(words, buffer);
+    } catch (Exception e) {
+      log.error("Failed to build pattern matrix for {}", words, e);
+    }
+  }
+
+  private static long length(WordIndex words) {
+    long length = HEADER_SIZE + (long) words.size() * words.answerCount();
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Dictionary too large for a mapped pattern matrix: " + words);
+    }
+    return length;
+  }
+
+  // The existing file, if it is a complete matrix for this list
+  private MappedByteBuffer open(WordIndex words) throws IOException {
+    if (!Files.exists(file) || Files.size(file) != length(words)) {
+      return null;
+    }
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length(words));
+      boolean valid = buffer.getInt(0) == MAGIC
+              && buffer.getInt(4) == words.size()
+              && buffer.getLong(8) == words.checksum()
+              && buffer.getInt(16) == 1
+              && buffer.getInt(20) == words.answerCount();
+      return valid ? buffer : null;
+    }
+  }
+
+  // Builds into a new file and moves it over the old one, which readers may still have mapped
+  private MappedByteBuffer build(WordIndex words) throws IOException {
+    long start = System.nanoTime();
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    MappedByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length(words));
+    }
+    ForkJoinPool.commonPool().invoke(new BuildRows(words, buffer, 0, words.size()));
+    buffer.putInt(0, MAGIC);
+    buffer.putInt(4, words.size());
+    buffer.putLong(8, words.checksum());
+    buffer.putInt(20, words.answerCount());
+    buffer.force();
+    buffer.putInt(16, 1);
+    buffer.force();
+    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    log.info("Pattern matrix for {} built in {} ms", words, (System.nanoTime() - start) / 1_000_000);
+    return buffer;
+  }
+
+  private static final class BuildRows extends RecursiveAction {
+    private final WordIndex words;
+    private final MappedByteBuffer buffer;
+    private final int from;
+    private final int to;
+
+    BuildRows(WordIndex words, MappedByteBuffer buffer, int from, int to) {
+      this.words = words;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > ROWS_PER_TASK) {
+        int mid = (from + to) >>> 1;
+        invokeAll(new BuildRows(words, buffer, from, mid), new BuildRows(words, buffer, mid, to));
+        return;
+      }
+      int answers = words.answerCount();
+      int[] codes = new int[answers];
+      for (int a = 0; a < answers; a++) {
+        codes[a] = (int) words.codeAt(a);
+      }
+      byte[] row = new byte[answers];
+      for (int g = from; g < to; g++) {
+        int guess = (int) words.codeAt(g);
+        for (int a = 0; a < answers; a++) {
+          row[a] = (byte) GuessEvaluator.toBase3(GuessEvaluator.evaluate(guess, codes[a]));
+        }
+        buffer.put(HEADER_SIZE + g * answers, row);
+      }
+    }
+  }
+
+  /** Whether lookups for {@code words} are served from a built matrix. */
+  public boolean isReady(WordIndex words) {
+    Matrix m = matrix;
+    return m != null && m.words == words;
+  }
+
+  /**
+   * Base-3 feedback code (0-242) of guessing word {@code guess} when the
+   * answer is {@code answer}, both indices into {@code words}.
+   */
+  public int pattern(WordIndex words, int guess, int answer) {
+    Matrix m = matrix;
+    if (m == null || m.words != words) {
+      return GuessEvaluator.toBase3(GuessEvaluator.evaluate((int) words.codeAt(guess), (int) words.codeAt(answer)));
+    }
+    return m.buffer.get(HEADER_SIZE + guess * m.answers + answer) & 0xFF;
+  }
+
+  @PreDestroy
+  public void close() {
+    matrix = null;
+    if (builder != null) {
+      builder.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.wordle.service;
+
+import com.wordle.model.Player;
+import com.wordle.model.Standing;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Cumulative standings across multiplayer games: points, games, wins and
+ * podiums per player, plus a global order by points.
+ *
+ * Standings are immutable and swapped per player inside
+ * {@link ConcurrentHashMap#compute}, which serializes updates to one player
+ * without blocking others. The global order is a concurrent skip list, so
+ * top-N and rank reads never lock. Standings are kept in memory and rebuilt
+ * by journal replay for rooms that are still live.
+ */
+@Service
+public class RankingService {
+
+  private static final Comparator<Standing> ORDER = Comparator
+          .comparingLong(Standing::getPoints).reversed()
+          .thenComparing(Comparator.comparingInt(Standing::getWins).reversed())
+          .thenComparing(Standing::getPlayerId);
+
+  private final Map<String, Standing> standings = new ConcurrentHashMap<>();
+  private final NavigableSet<Standing> ordered = new ConcurrentSkipListSet<>(ORDER);
+
+  /** Adds one finished game to a player's standing. */
+  public Standing record(Player player, int rank, int points) {
+    return standings.compute(player.getPlayerId(), (id, old) -> {
+      Standing base = old != null ? old : new Standing(id, player.getUsername(), 0, 0, 0, 0, 0);
+      Standing next = base.plus(player, rank, points);
+      // Insert before removing, so concurrent readers see the player at least once
+      ordered.add(next);
+      if (old != null) {
+        ordered.remove(old);
+      }
+      return next;
+    });
+  }
+
+  public Standing getStanding(String playerId) {
+    return standings.get(playerId);
+  }
+
+  /** Global rank by points (1-based), or 0 for a player with no finished games. O(rank). */
+  public int rankOf(String playerId) {
+    Standing standing = standings.get(playerId);
+    return standing != null ? ordered.headSet(standing).size() + 1 : 0;
+  }
+
+  public List<Standing> top(int limit) {
+    List<Standing> top = new ArrayList<>(Math.min(limit, 100));
+    for (Standing standing : ordered) {
+      if (top.size() == limit) {
+        break;
+      }
+      top.add(standing);
+    }
+    return top;
+  }
+
+  public int size() {
+    return standings.size();
+  }
+}
@@ -0,0 +1,59 @@
+package com.wordle.service;
+
+import com.wordle.model.MultiPlayerRoom;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Pushes room events to STOMP subscribers. Each payload is serialized once
+ * and the broker fans it out to every subscriber of the room's topic.
+ *
+ * The broker only reaches clients connected to this node. In cluster mode a
+ * relay also sends room events to the other nodes, which publish them to
+ * their own subscribers, so a client can follow any room from any node.
+ */
+@Component
+public class RoomEventPublisher {
+
+  public static final String LOBBY_TOPIC = "/topic/lobby";
+  public static final String ROOM_TOPIC_PREFIX = "/topic/rooms/";
+
+  private final SimpMessagingTemplate messagingTemplate;
+  private final GameMetrics metrics;
+  private volatile BiConsumer<String, Map<String, Object>> relay = (topic, event) -> {};
+
+  public RoomEventPublisher(SimpMessagingTemplate messagingTemplate, GameMetrics metrics) {
+    this.messagingTemplate = messagingTemplate;
+    this.metrics = metrics;
+  }
+
+  public void publishRoomEvent(MultiPlayerRoom room, Map<String, Object> event) {
+    metrics.fanout(room.getPlayers().size());
+    String topic = ROOM_TOPIC_PREFIX + room.getRoomId();
+    messagingTemplate.convertAndSend(topic, event);
+    relay.accept(topic, event);
+  }
+
+  /** Publishes a room event relayed from the node holding the room. */
+  public void publishRelayed(String topic, Object event) {
+    if (!topic.startsWith(ROOM_TOPIC_PREFIX)) {
+      throw new IllegalArgumentException("Not a room topic: " + topic);
+    }
+    messagingTemplate.convertAndSend(topic, event);
+  }
+
+  /**
+   * Also hands every room event to {@code relay}, on the publishing thread and
+   * usually under the room's lock, so it must copy what it needs and not block.
+   */
+  public void setRelay(BiConsumer<String, Map<String, Object>> relay) {
+    this.relay = relay;
+  }
+
+  public void publishLobbyEvent(Map<String, Object> event) {
+    messagingTemplate.convertAndSend(LOBBY_TOPIC, event);
+  }
+}
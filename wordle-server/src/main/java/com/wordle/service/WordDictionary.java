@@ -0,0 +1,144 @@
+package com.wordle.service;
+
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * The default word list, shared by the single and multiplayer services:
+ * 5-letter words, wordle.dictionary.default in the {@link DictionaryRegistry}.
+ * Words are packed as base-26 ints and looked up in the list's
+ * memory-mapped table, so membership checks are O(1) and never allocate.
+ *
+ * The list can be replaced by a reload at any time. Each call reads the
+ * current list, so callers that combine several calls through word indices
+ * take one {@link #snapshot()} and use that throughout.
+ */
+@Component
+public class WordDictionary {
+
+  public static final int WORD_LENGTH = 5;
+
+  private final DictionaryRegistry registry;
+  private final List<Consumer<WordIndex>> listeners = new CopyOnWriteArrayList<>();
+  private volatile WordIndex words;
+
+  public WordDictionary(DictionaryRegistry registry) {
+    this.registry = registry;
+  }
+
+  @PostConstruct
+  public void init() {
+    WordIndex initial = registry.getDefault();
+    if (initial.length() != WORD_LENGTH) {
+      throw new IllegalStateException("Default dictionary " + initial.key() + " must have " + WORD_LENGTH + "-letter words");
+    }
+    words = initial;
+    registry.addListener(index -> {
+      if (index.key().equals(registry.getDefaultKey())) {
+        words = index;
+        for (Consumer<WordIndex> listener : listeners) {
+          listener.accept(index);
+        }
+      }
+    });
+  }
+
+  /** Called with the new list each time the default list is reloaded. */
+  public void onReload(Consumer<WordIndex> listener) {
+    listeners.add(listener);
+  }
+
+  /** The current list; its indices stay valid for as long as the caller holds it. */
+  public WordIndex snapshot() {
+    return words;
+  }
+
+  /**
+   * Packs a 5-letter upper-case word into a base-26 int, or returns -1 if the
+   * input is not exactly five letters A-Z.
+   */
+  public static int pack(String word) {
+    if (word == null || word.length() != WORD_LENGTH) {
+      return -1;
+    }
+    int code = 0;
+    for (int i = 0; i < WORD_LENGTH; i++) {
+      int c = word.charAt(i) - 'A';
+      if (c < 0 || c >= 26) {
+        return -1;
+      }
+      code = code * 26 + c;
+    }
+    return code;
+  }
+
+  /** Returns the letter (0-25) at {@code position} of a packed word. */
+  public static int letterAt(int code, int position) {
+    for (int i = WORD_LENGTH - 1; i > position; i--) {
+      code /= 26;
+    }
+    return code % 26;
+  }
+
+  public static String unpack(int code) {
+    char[] chars = new char[WORD_LENGTH];
+    for (int i = WORD_LENGTH - 1; i >= 0; i--) {
+      chars[i] = (char) ('A' + code % 26);
+      code /= 26;
+    }
+    return new String(chars);
+  }
+
+  /** Dictionary index of a packed word, or -1 if it is not an allowed guess. */
+  public int indexOf(int code) {
+    return words.indexOf(code);
+  }
+
+  public int indexOf(String word) {
+    return indexOf(pack(word));
+  }
+
+  public boolean contains(String word) {
+    return indexOf(word) >= 0;
+  }
+
+  public boolean contains(int code) {
+    return indexOf(code) >= 0;
+  }
+
+  /** Number of allowed guesses; the first {@link #answerCount()} of them are possible answers. */
+  public int size() {
+    return words.size();
+  }
+
+  public int answerCount() {
+    return words.answerCount();
+  }
+
+  public String wordAt(int index) {
+    return words.wordAt(index);
+  }
+
+  public int packedAt(int index) {
+    return (int) words.codeAt(index);
+  }
+
+  /** Identifies this exact word list, so files keyed by dictionary index can be validated. */
+  public long checksum() {
+    return words.checksum();
+  }
+
+  /** A random possible answer. */
+  public String randomWord() {
+    return words.randomAnswer();
+  }
+
+  /** Read-only view over the allowed guesses, answers first; no copy is made. */
+  public List<String> asList() {
+    return words.asList();
+  }
+}
@@ -0,0 +1,288 @@
+package com.wordle.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One word list, memory-mapped from a prebuilt binary index file, so a
+ * dictionary costs almost no heap and opening it parses nothing.
+ *
+ * A list has one language and one word length. Its words are the allowed
+ * guesses, with the possible answers first: indices below
+ * {@link #answerCount()} are answers. Words are stored as base-26 codes,
+ * and an open-addressed table maps a code back to its index.
+ *
+ * File layout: a 64-byte header (magic, format, length, word count, answer
+ * count, table capacity, checksum, language), then one long code per word,
+ * then the table as one int index per slot (-1 for empty).
+ *
+ * Instances never change. A reload maps a new file, and readers that still
+ * hold the old instance keep a consistent view of it.
+ */
+public final class WordIndex {
+
+  private static final int MAGIC = 0x57445831; // "WDX1"
+  private static final int FORMAT = 1;
+  private static final int HEADER_SIZE = 64;
+  private static final int LANGUAGE_BYTES = 8;
+  private static final int EMPTY = -1;
+
+  /** Longest word whose base-26 code fits in a long. */
+  public static final int MAX_LENGTH = 13;
+  public static final String SUFFIX = ".wdx";
+
+  private final ByteBuffer buffer;
+  private final String language;
+  private final int length;
+  private final int size;
+  private final int answerCount;
+  private final int mask;
+  private final long checksum;
+  private final int tableOffset;
+  private final List<String> view;
+
+  private WordIndex(ByteBuffer buffer) {
+    this.buffer = buffer;
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+      throw new IllegalArgumentException("Not a word index");
+    }
+    this.length = buffer.getInt(8);
+    this.size = buffer.getInt(12);
+    this.answerCount = buffer.getInt(16);
+    int capacity = buffer.getInt(20);
+    this.checksum = buffer.getLong(24);
+    byte[] tag = new byte[LANGUAGE_BYTES];
+    buffer.get(32, tag);
+    this.language = new String(tag, StandardCharsets.US_ASCII).trim();
+    this.mask = capacity - 1;
+    this.tableOffset = HEADER_SIZE + 8 * size;
+
+    if (length < 1 || length > MAX_LENGTH || answerCount < 1 || answerCount > size
+            || Integer.bitCount(capacity) != 1 || capacity < size
+            || buffer.capacity() != tableOffset + 4L * capacity) {
+      throw new IllegalArgumentException("Corrupt or truncated word index");
+    }
+    this.view = new AbstractList<>() {
+      @Override
+      public String get(int index) {
+        return wordAt(index);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /** Maps an index file read-only. The mapping stays valid after the file is replaced. */
+  public static WordIndex open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new WordIndex(buffer);
+    }
+  }
+
+  /**
+   * Writes an index for {@code answers} plus the extra guesses in
+   * {@code allowed}, skipping words that are not {@code length} letters A-Z.
+   * The file is written aside and moved into place, so readers never see
+   * half of it.
+   */
+  public static void write(Path file, String language, int length,
+                           Collection<String> answers, Collection<String> allowed) throws IOException {
+    if (length < 1 || length > MAX_LENGTH) {
+      throw new IllegalArgumentException("Word length must be 1-" + MAX_LENGTH);
+    }
+    byte[] tag = language.getBytes(StandardCharsets.US_ASCII);
+    if (tag.length == 0 || tag.length > LANGUAGE_BYTES) {
+      throw new IllegalArgumentException("Language tag must be 1-" + LANGUAGE_BYTES + " characters");
+    }
+    Set<Long> codes = new LinkedHashSet<>();
+    addAll(codes, answers, length);
+    int answerCount = codes.size();
+    if (answerCount == 0) {
+      throw new IllegalArgumentException("No " + length + "-letter answers for " + language);
+    }
+    addAll(codes, allowed, length);
+
+    int n = codes.size();
+    int capacity = Integer.highestOneBit(Math.max(2, n * 2 - 1)) << 1;
+    ByteBuffer out = ByteBuffer.allocate(HEADER_SIZE + 8 * n + 4 * capacity);
+    out.putInt(0, MAGIC);
+    out.putInt(4, FORMAT);
+    out.putInt(8, length);
+    out.putInt(12, n);
+    out.putInt(16, answerCount);
+    out.putInt(20, capacity);
+    out.put(32, tag);
+
+    int table = HEADER_SIZE + 8 * n;
+    for (int slot = 0; slot < capacity; slot++) {
+      out.putInt(table + 4 * slot, EMPTY);
+    }
+    long h = n;
+    int i = 0;
+    for (long code : codes) {
+      out.putLong(HEADER_SIZE + 8 * i, code);
+      int slot = hash(code) & (capacity - 1);
+      while (out.getInt(table + 4 * slot) != EMPTY) {
+        slot = (slot + 1) & (capacity - 1);
+      }
+      out.putInt(table + 4 * slot, i);
+      h = h * 31 + code;
+      i++;
+    }
+    out.putLong(24, h);
+
+    Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+      channel.force(true);
+    }
+    Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void addAll(Set<Long> codes, Collection<String> words, int length) {
+    for (String word : words) {
+      long code = pack(word.trim().toUpperCase(Locale.ROOT), length);
+      if (code >= 0) {
+        codes.add(code);
+      }
+    }
+  }
+
+  /** Base-26 code of an upper-case word of exactly {@code length} letters A-Z, or -1. */
+  public static long pack(CharSequence word, int length) {
+    if (word == null || word.length() != length) {
+      return -1;
+    }
+    long code = 0;
+    for (int i = 0; i < length; i++) {
+      int c = word.charAt(i) - 'A';
+      if (c < 0 || c >= 26) {
+        return -1;
+      }
+      code = code * 26 + c;
+    }
+    return code;
+  }
+
+  public static String unpack(long code, int length) {
+    char[] chars = new char[length];
+    for (int i = length - 1; i >= 0; i--) {
+      chars[i] = (char) ('A' + code % 26);
+      code /= 26;
+    }
+    return new String(chars);
+  }
+
+  private static int hash(long code) {
+    long h = code * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /** Dictionary key: language and word length, e.g. {@code en-5}. */
+  public String key() {
+    return key(language, length);
+  }
+
+  public static String key(String language, int length) {
+    return language + "-" + length;
+  }
+
+  public String language() { return language; }
+  public int length() { return length; }
+  public int size() { return size; }
+  public int answerCount() { return answerCount; }
+
+  /** Identifies this exact list, so files keyed by its indices can be validated. */
+  public long checksum() { return checksum; }
+
+  /** Index of a word code, or -1 if it is not an allowed guess. */
+  public int indexOf(long code) {
+    if (code < 0) {
+      return -1;
+    }
+    int slot = hash(code) & mask;
+    int idx;
+    while ((idx = buffer.getInt(tableOffset + 4 * slot)) != EMPTY) {
+      if (buffer.getLong(HEADER_SIZE + 8 * idx) == code) {
+        return idx;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  public int indexOf(String word) {
+    return indexOf(pack(word, length));
+  }
+
+  public boolean contains(String word) {
+    return indexOf(word) >= 0;
+  }
+
+  public boolean isAnswer(int index) {
+    return index >= 0 && index < answerCount;
+  }
+
+  public long codeAt(int index) {
+    return buffer.getLong(HEADER_SIZE + 8 * index);
+  }
+
+  public String wordAt(int index) {
+    return unpack(codeAt(index), length);
+  }
+
+  public String randomAnswer() {
+    return wordAt(ThreadLocalRandom.current().nextInt(answerCount));
+  }
+
+  /** Read-only view of every allowed word, answers first; words are decoded on access. */
+  public List<String> asList() {
+    return view;
+  }
+
+  @Override
+  public String toString() {
+    return key() + " (" + answerCount + " answers, " + size + " words)";
+  }
+
+  /**
+   * Builds an index from text lists, one word per line:
+   * {@code WordIndex <language> <length> <answers.txt> [<allowed.txt>] <out.wdx>}.
+   * The build runs this to prebuild the bundled dictionary.
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 4 || args.length > 5) {
+      System.err.println("Usage: WordIndex <language> <length> <answers.txt> [<allowed.txt>] <out.wdx>");
+      System.exit(2);
+    }
+    List<String> answers = Files.readAllLines(Path.of(args[2]), StandardCharsets.UTF_8);
+    List<String> allowed = args.length == 5 ? Files.readAllLines(Path.of(args[3]), StandardCharsets.UTF_8) : List.of();
+    Path out = Path.of(args[args.length - 1]);
+    if (out.getParent() != null) {
+      Files.createDirectories(out.getParent());
+    }
+    write(out, args[0], Integer.parseInt(args[1]), answers, allowed);
+    System.out.println("Wrote " + open(out) + " to " + out);
+  }
+}
@@ -1,154 +1,237 @@
 package com.wordle.service;
 
+import com.wordle.journal.EventJournal;
+import com.wordle.journal.JournalEvent;
 import com.wordle.model.GameState;
-import com.wordle.model.GuessResult;
-import com.wordle.model.GuessResult.LetterStatus;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.ResourceLoader;
+import com.wordle.model.GameVariant;
+import com.wordle.store.GameStore;
+import com.wordle.store.StaleGameException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import jakarta.annotation.PostConstruct;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Service
 public class WordleService {
 
-  private final Map<String, GameState> games = new ConcurrentHashMap<>();
-  private List<String> wordList;
-  private final Random random = new Random();
-  private static final int DEFAULT_MAX_ROUNDS = 6;
-
-  private final ResourceLoader resourceLoader;
-
-  public WordleService(ResourceLoader resourceLoader) {
-    this.resourceLoader = resourceLoader;
+  private static final Logger log = LoggerFactory.getLogger(WordleService.class);
+  private static final String MODE = "single";
+
+  private final GameStore games;
+  private static final int MAX_SAVE_ATTEMPTS = 3;
+
+  private final WordDictionary dictionary;
+  private final GameEngine engine;
+  private final EventJournal journal;
+  private final GameMetrics metrics;
+  private final GameEventLog events;
+  private final DailySchedule schedule;
+  private final DailyStats dailyStats;
+
+  public WordleService(WordDictionary dictionary, GameEngine engine, GameStore games, EventJournal journal,
+                       GameMetrics metrics, GameEventLog events, DailySchedule schedule, DailyStats dailyStats) {
+    this.dictionary = dictionary;
+    this.engine = engine;
+    this.games = games;
+    this.journal = journal;
+    this.metrics = metrics;
+    this.events = events;
+    this.schedule = schedule;
+    this.dailyStats = dailyStats;
   }
 
-  @PostConstruct
-  public void init() throws Exception {
-    // load wordlist.txt from classpath
-    Resource r = resourceLoader.getResource("classpath:wordlist.txt");
-    try (BufferedReader br = new BufferedReader(
-            new InputStreamReader(r.getInputStream(), StandardCharsets.UTF_8))) {
-      wordList = br.lines()
-              .map(String::trim)
-              .filter(line -> line.length() == 5)
-              .map(String::toUpperCase)
-              .collect(Collectors.toUnmodifiableList());
-    }
-
-    if (wordList.isEmpty()) {
-      throw new IllegalStateException("wordlist.txt is empty or not found");
-    }
+  public String createNewGame(int maxRounds) {
+    return createNewGame(GameVariant.of(WordDictionary.WORD_LENGTH, 1, maxRounds));
   }
 
-  public String createNewGame(int maxRounds) {
+  /** Starts a game with {@code variant}'s word length, boards and round limit. */
+  public String createNewGame(GameVariant variant) {
     String gameId = UUID.randomUUID().toString();
-    String targetWord = wordList.get(random.nextInt(wordList.size()));
-    GameState gameState = new GameState(gameId, targetWord,
-            maxRounds > 0 ? maxRounds : DEFAULT_MAX_ROUNDS);
-    games.put(gameId, gameState);
+    String[] targetWords = engine.drawTargets(variant);
+    GameState gameState = new GameState(gameId, targetWords, variant.getMaxRounds());
+    games.put(gameState);
+    journal.append(JournalEvent.gameCreated(gameId, targetWords, gameState.getMaxRounds()));
     return gameId;
   }
 
+  /** Starts a game on today's puzzle; every player gets the same word. */
+  public GameState createDailyGame() {
+    int puzzle = schedule.today();
+    String gameId = UUID.randomUUID().toString();
+    GameState gameState = new GameState(gameId, schedule.wordFor(puzzle), DailyStats.ROUNDS);
+    gameState.setPuzzle(puzzle);
+    games.put(gameState);
+    journal.append(JournalEvent.gameCreated(gameId, gameState.getTargetWords(), gameState.getMaxRounds(), puzzle));
+    dailyStats.started(puzzle);
+    return gameState;
+  }
+
+  public int getTodaysPuzzle() {
+    return schedule.today();
+  }
+
   public GameState getGame(String gameId) {
     return games.get(gameId);
   }
 
   public GameState makeGuess(String gameId, String guess) {
-    System.out.println("=== SERVICE DEBUG ===");
-    System.out.println("Looking for game with ID: " + gameId);
-    System.out.println("Available games: " + games.keySet());
+    return makeGuess(gameId, guess, true);
+  }
 
+  // Replayed guesses are not metered: they were counted when first made
+  private GameState makeGuess(String gameId, String guess, boolean metered) {
     GameState gameState = games.get(gameId);
     if (gameState == null) {
-      System.out.println("ERROR: Game not found with ID: " + gameId);
+      log.debug("Guess for unknown game {}", gameId);
       return null;
     }
 
     if (gameState.isGameOver()) {
-      System.out.println("ERROR: Game is already over");
+      log.debug("Guess for finished game {}", gameId);
       return null;
     }
 
-    System.out.println("Game found, processing guess: " + guess);
-
     // Validate guess
     guess = guess.toUpperCase().trim();
-    if (guess.length() != 5 || !guess.matches("[A-Z]+")) {
-      System.out.println("ERROR: Invalid guess format");
-      throw new IllegalArgumentException("Guess must be exactly 5 letters");
+    long code = engine.check(guess, gameState.getWordLength());
+    if (code == GameEngine.BAD_FORMAT) {
+      if (metered) {
+        metrics.guess(false, false);
+        events.guess(MODE, gameId, null, gameState.getCurrentRound(), "bad_format");
+      }
+      throw new IllegalArgumentException("Guess must be exactly " + gameState.getWordLength() + " letters");
     }
 
-    if (!wordList.contains(guess)) {
-      System.out.println("ERROR: Word not in dictionary");
+    if (code == GameEngine.NOT_IN_LIST) {
+      if (metered) {
+        metrics.guess(false, false);
+        events.guess(MODE, gameId, null, gameState.getCurrentRound(), "not_in_list");
+      }
       throw new IllegalArgumentException("Invalid word");
     }
-
-    // Process the guess
-    List<GuessResult> result = processGuess(gameState.getTargetWord(), guess);
-    gameState.getGuesses().add(result);
-    gameState.setCurrentRound(gameState.getCurrentRound() + 1);
-
-    // Check win condition
-    if (guess.equals(gameState.getTargetWord())) {
-      gameState.setWon(true);
-      gameState.setGameOver(true);
-      System.out.println("Player won!");
-    } else if (gameState.getCurrentRound() >= gameState.getMaxRounds()) {
-      gameState.setGameOver(true);
-      System.out.println("Game over - max rounds reached");
+    if (metered) {
+      metrics.guess(false, true);
     }
 
-    System.out.println("Guess processed successfully");
-    return gameState;
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return applyGuess(gameState, guess, code, metered);
+      } catch (StaleGameException e) {
+        // Another node saved this game after we read it: start again from its copy
+        if (attempt == MAX_SAVE_ATTEMPTS) {
+          throw e;
+        }
+        gameState = games.get(gameId);
+        if (gameState == null) {
+          return null;
+        }
+      }
+    }
   }
 
-
-  private List<GuessResult> processGuess(String targetWord, String guess) {
-    List<GuessResult> result = new ArrayList<>();
-    char[] target = targetWord.toCharArray();
-    char[] guessChars = guess.toCharArray();
-    boolean[] targetUsed = new boolean[5];
-    boolean[] guessUsed = new boolean[5];
-
-    // First pass: find exact matches (HIT)
-    for (int i = 0; i < 5; i++) {
-      if (guessChars[i] == target[i]) {
-        result.add(new GuessResult(guessChars[i], LetterStatus.HIT));
-        targetUsed[i] = true;
-        guessUsed[i] = true;
-      } else {
-        result.add(new GuessResult(guessChars[i], LetterStatus.MISS)); // Placeholder
+  private GameState applyGuess(GameState gameState, String guess, long code, boolean metered) {
+    String gameId = gameState.getGameId();
+    gameState.lock().lock();
+    try {
+      if (gameState.isGameOver()) {
+        return null;
       }
-    }
 
-    // Second pass: find present letters (PRESENT)
-    for (int i = 0; i < 5; i++) {
-      if (!guessUsed[i]) {
-        for (int j = 0; j < 5; j++) {
-          if (!targetUsed[j] && guessChars[i] == target[j]) {
-            result.set(i, new GuessResult(guessChars[i], LetterStatus.PRESENT));
-            targetUsed[j] = true;
-            break;
-          }
+      // Process the guess on every board
+      gameState.addGuess(guess, engine.score(gameState, code));
+
+      // Check win condition
+      if (gameState.isAllSolved()) {
+        gameState.setWon(true);
+        gameState.setGameOver(true);
+      } else if (gameState.getCurrentRound() >= gameState.getMaxRounds()) {
+        gameState.setGameOver(true);
+      }
+      // Saved before anything is recorded, so a stale copy leaves no trace
+      games.put(gameState);
+
+      journal.append(JournalEvent.guessMade(gameId, gameState.getCurrentRound() - 1, guess));
+      if (metered) {
+        events.guess(MODE, gameId, null, gameState.getCurrentRound() - 1, "accepted");
+        if (gameState.isGameOver()) {
+          events.gameEnded(MODE, gameId, gameState.isWon(), gameState.getCurrentRound());
+        }
+      }
+      if (gameState.getPuzzle() > 0) {
+        if (gameState.getCurrentRound() == 1) {
+          dailyStats.firstGuess(gameState.getPuzzle(), guess);
+        }
+        if (gameState.isGameOver()) {
+          dailyStats.finished(gameState.getPuzzle(), gameState.isWon(), gameState.getCurrentRound());
         }
       }
+    } finally {
+      gameState.lock().unlock();
     }
 
-    return result;
+    return gameState;
   }
 
   public List<String> getWordList() {
-    return new ArrayList<>(wordList);
+    return dictionary.asList();
   }
 
   public void deleteGame(String gameId) {
     games.remove(gameId);
+    journal.append(JournalEvent.gameDeleted(gameId));
+  }
+
+  // Journal replay; guesses are applied only if the game is still at the recorded round
+  public void apply(JournalEvent event) {
+    switch (event.getType()) {
+      case GAME_CREATED:
+        if (games.get(event.getId()) == null) {
+          GameState created = new GameState(event.getId(), event.getTargets().toArray(new String[0]),
+                  event.getMaxRounds());
+          if (event.getPuzzle() != null) {
+            created.setPuzzle(event.getPuzzle());
+            dailyStats.started(event.getPuzzle());
+          }
+          games.put(created);
+        }
+        break;
+      case GUESS_MADE:
+        GameState gameState = games.get(event.getId());
+        if (gameState != null && gameState.getCurrentRound() == event.getRound()) {
+          makeGuess(event.getId(), event.getWord(), false);
+        }
+        break;
+      case GAME_DELETED:
+        games.remove(event.getId());
+        break;
+      default:
+        break;
+    }
+  }
+
+  // Minimal events that recreate every live game, for journal snapshots
+  public void exportEvents(Consumer<JournalEvent> sink) {
+    games.forEach(gameState -> {
+      gameState.lock().lock();
+      try {
+        sink.accept(JournalEvent.gameCreated(gameState.getGameId(), gameState.getTargetWords(),
+                gameState.getMaxRounds(), gameState.getPuzzle()));
+        for (int round = 0; round < gameState.getCurrentRound(); round++) {
+          sink.accept(JournalEvent.guessMade(gameState.getGameId(), round, gameState.getGuessWord(round)));
+        }
+      } finally {
+        gameState.lock().unlock();
+      }
+    });
+  }
+
+  public long getActiveGameCount() {
+    return games.size();
+  }
+
+  public long getEvictionCount() {
+    return games.evictionCount();
   }
 }
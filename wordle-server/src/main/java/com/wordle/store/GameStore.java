@@ -0,0 +1,26 @@
+package com.wordle.store;
+
+import com.wordle.model.GameState;
+
+import java.util.function.Consumer;
+
+/**
+ * Storage for single-player games. Callers write a game back with
+ * {@link #put} after every change; backends may hand out copies.
+ * Backends shared between nodes reject a put based on an outdated copy with
+ * {@link StaleGameException}.
+ */
+public interface GameStore {
+
+  GameState get(String gameId);
+
+  void put(GameState game);
+
+  void remove(String gameId);
+
+  long size();
+
+  long evictionCount();
+
+  void forEach(Consumer<GameState> action);
+}
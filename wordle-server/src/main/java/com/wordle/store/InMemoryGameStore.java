@@ -0,0 +1,55 @@
+package com.wordle.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.wordle.model.GameState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+// Default backend: live GameState objects on heap, bounded by LifecycleCache
+@Component
+@ConditionalOnProperty(name = "wordle.store.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryGameStore implements GameStore {
+
+  private final Cache<String, GameState> games;
+
+  public InMemoryGameStore(@Value("${wordle.games.max-size:100000}") long maxGames,
+                           @Value("${wordle.games.idle-ttl:30m}") Duration idleTtl,
+                           @Value("${wordle.games.finished-ttl:5m}") Duration finishedTtl) {
+    this.games = LifecycleCache.build(maxGames, idleTtl, finishedTtl, GameState::isGameOver);
+  }
+
+  @Override
+  public GameState get(String gameId) {
+    return games.getIfPresent(gameId);
+  }
+
+  @Override
+  public void put(GameState game) {
+    // Re-putting also refreshes the entry's TTL (e.g. moves it to the finished TTL)
+    games.put(game.getGameId(), game);
+  }
+
+  @Override
+  public void remove(String gameId) {
+    games.invalidate(gameId);
+  }
+
+  @Override
+  public long size() {
+    return games.estimatedSize();
+  }
+
+  @Override
+  public long evictionCount() {
+    return games.stats().evictionCount();
+  }
+
+  @Override
+  public void forEach(Consumer<GameState> action) {
+    games.asMap().values().forEach(action);
+  }
+}
@@ -0,0 +1,240 @@
+package com.wordle.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wordle.model.GameState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Games kept in a {@link KeyValueStore} shared by every node, so any node can
+ * serve any game and single-player traffic can be spread round-robin.
+ *
+ * A near cache of decoded games sits in front of the store. Its entries live
+ * for wordle.store.kv.near-ttl, so a read may briefly lag a write made on
+ * another node. A write never does: it names the version its copy was read
+ * at, and fails with {@link StaleGameException} if another node saved first.
+ *
+ * Writes are group-committed. A request thread queues its write and, if no
+ * other thread is writing, sends everything queued as one batch itself, so
+ * a lone write goes straight through while under load many guesses share
+ * each round trip to the store.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.store.type", havingValue = "kv")
+public class KeyValueGameStore implements GameStore {
+
+  private static final Logger log = LoggerFactory.getLogger(KeyValueGameStore.class);
+
+  private static final int MAX_BATCH = 256;
+  // Format 2 added boards; format 1 entries (one board) are still read
+  private static final byte FORMAT = 2;
+  private static final byte FORMAT_SINGLE = 1;
+  private static final int FLAG_GAME_OVER = 1;
+  private static final int FLAG_WON = 2;
+
+  private static final class PendingWrite {
+    final KeyValueStore.Write write;
+    final CompletableFuture<Long> version = new CompletableFuture<>();
+
+    PendingWrite(KeyValueStore.Write write) {
+      this.write = write;
+    }
+  }
+
+  private final KeyValueStore store;
+  private final Duration idleTtl;
+  private final Duration finishedTtl;
+  private final Cache<String, GameState> near;
+  private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  // Reused by the flushing thread, under flushLock
+  private final List<PendingWrite> batch = new ArrayList<>(MAX_BATCH);
+  private final List<KeyValueStore.Write> writes = new ArrayList<>(MAX_BATCH);
+
+  public KeyValueGameStore(KeyValueStore store,
+                           @Value("${wordle.store.kv.near-size:10000}") long nearSize,
+                           @Value("${wordle.store.kv.near-ttl:1s}") Duration nearTtl,
+                           @Value("${wordle.games.idle-ttl:30m}") Duration idleTtl,
+                           @Value("${wordle.games.finished-ttl:5m}") Duration finishedTtl) {
+    this.store = store;
+    this.idleTtl = idleTtl;
+    this.finishedTtl = finishedTtl;
+    this.near = Caffeine.newBuilder().maximumSize(nearSize).expireAfterWrite(nearTtl).build();
+  }
+
+  @Override
+  public GameState get(String gameId) {
+    return near.get(gameId, this::load);
+  }
+
+  private GameState load(String gameId) {
+    KeyValueStore.Entry entry = store.get(gameId);
+    return entry != null ? decode(gameId, entry) : null;
+  }
+
+  @Override
+  public void put(GameState game) {
+    String gameId = game.getGameId();
+    long version = write(new KeyValueStore.Write(gameId, encode(game), game.getVersion(),
+            game.isGameOver() ? finishedTtl : idleTtl));
+    if (version == KeyValueStore.STALE) {
+      near.invalidate(gameId);
+      throw new StaleGameException(gameId);
+    }
+    game.setVersion(version);
+    near.put(gameId, game);
+  }
+
+  @Override
+  public void remove(String gameId) {
+    store.remove(gameId);
+    near.invalidate(gameId);
+  }
+
+  @Override
+  public long size() {
+    return store.size();
+  }
+
+  @Override
+  public long evictionCount() {
+    return store.evictionCount();
+  }
+
+  @Override
+  public void forEach(Consumer<GameState> action) {
+    store.forEach((gameId, entry) -> action.accept(decode(gameId, entry)));
+  }
+
+  private long write(KeyValueStore.Write write) {
+    PendingWrite pending = new PendingWrite(write);
+    queue.add(pending);
+    // Whoever holds the lock flushes everything queued, and checks the queue again after
+    // releasing it, so a write queued while the lock was taken is never left behind
+    do {
+      if (!flushLock.tryLock()) {
+        break;
+      }
+      try {
+        flush();
+      } finally {
+        flushLock.unlock();
+      }
+    } while (!queue.isEmpty());
+
+    try {
+      return pending.version.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted saving game " + write.getKey(), e);
+    } catch (ExecutionException e) {
+      throw e.getCause() instanceof RuntimeException cause
+              ? cause : new IllegalStateException("Failed to save game " + write.getKey(), e.getCause());
+    }
+  }
+
+  private void flush() {
+    PendingWrite first;
+    while ((first = queue.poll()) != null) {
+      batch.add(first);
+      for (int i = 1; i < MAX_BATCH && (first = queue.poll()) != null; i++) {
+        batch.add(first);
+      }
+      for (PendingWrite pending : batch) {
+        writes.add(pending.write);
+      }
+      try {
+        long[] versions = store.write(writes);
+        for (int i = 0; i < versions.length; i++) {
+          batch.get(i).version.complete(versions[i]);
+        }
+      } catch (RuntimeException e) {
+        log.error("Failed to write batch of {} games", batch.size(), e);
+        for (PendingWrite pending : batch) {
+          pending.version.completeExceptionally(e);
+        }
+      } finally {
+        batch.clear();
+        writes.clear();
+      }
+    }
+  }
+
+  // Format 2: board count and targets, max rounds, flags, puzzle, then each guess word and its
+  // packed feedback on every board
+  static byte[] encode(GameState game) {
+    int boards = game.getBoardCount();
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(FORMAT);
+      out.writeByte(boards);
+      for (String target : game.getTargetWords()) {
+        out.writeUTF(target);
+      }
+      out.writeByte(game.getMaxRounds());
+      out.writeByte((game.isGameOver() ? FLAG_GAME_OVER : 0) | (game.isWon() ? FLAG_WON : 0));
+      out.writeInt(game.getPuzzle());
+      out.writeByte(game.getCurrentRound());
+      for (int i = 0; i < game.getCurrentRound(); i++) {
+        out.writeUTF(game.getGuessWord(i));
+        for (int b = 0; b < boards; b++) {
+          out.writeInt(game.getFeedback(i, b));
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static GameState decode(String gameId, KeyValueStore.Entry entry) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.getValue()))) {
+      int format = in.readByte();
+      if (format != FORMAT && format != FORMAT_SINGLE) {
+        throw new IllegalStateException("Unknown format " + format + " for game " + gameId);
+      }
+      String[] targets = new String[format == FORMAT ? in.readByte() : 1];
+      for (int b = 0; b < targets.length; b++) {
+        targets[b] = in.readUTF();
+      }
+      GameState game = new GameState(gameId, targets, in.readByte());
+      int flags = in.readByte();
+      game.setPuzzle(in.readInt());
+      int rounds = in.readByte();
+      for (int i = 0; i < rounds; i++) {
+        String guess = in.readUTF();
+        int[] patterns = new int[targets.length];
+        for (int b = 0; b < patterns.length; b++) {
+          patterns[b] = in.readInt();
+        }
+        game.addGuess(guess, patterns);
+      }
+      game.setGameOver((flags & FLAG_GAME_OVER) != 0);
+      game.setWon((flags & FLAG_WON) != 0);
+      game.setVersion(entry.getVersion());
+      return game;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
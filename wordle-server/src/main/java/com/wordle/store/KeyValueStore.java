@@ -0,0 +1,72 @@
+package com.wordle.store;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A key-value store shared by every server node, such as Redis or a
+ * replicated cache. Values are opaque bytes. Each key carries a version that
+ * the store bumps on every write, and every write names the version it
+ * expects, so two nodes can never overwrite each other's changes unseen.
+ * Writes are submitted in batches, one round trip per batch.
+ */
+public interface KeyValueStore {
+
+  /** The version of a key that does not exist; writing with it creates the key. */
+  long ABSENT = 0;
+
+  /** A write result for a write whose expected version did not match. */
+  long STALE = -1;
+
+  final class Entry {
+    private final byte[] value;
+    private final long version;
+
+    public Entry(byte[] value, long version) {
+      this.value = value;
+      this.version = version;
+    }
+
+    public byte[] getValue() { return value; }
+    public long getVersion() { return version; }
+  }
+
+  final class Write {
+    private final String key;
+    private final byte[] value;
+    private final long expectedVersion;
+    private final Duration ttl;
+
+    public Write(String key, byte[] value, long expectedVersion, Duration ttl) {
+      this.key = key;
+      this.value = value;
+      this.expectedVersion = expectedVersion;
+      this.ttl = ttl;
+    }
+
+    public String getKey() { return key; }
+    public byte[] getValue() { return value; }
+    public long getExpectedVersion() { return expectedVersion; }
+    public Duration getTtl() { return ttl; }
+  }
+
+  /** The current value and version of {@code key}, or null if it does not exist. */
+  Entry get(String key);
+
+  /**
+   * Applies each write whose expected version is still current, and expires
+   * the key after the write's TTL. Writes are independent: one stale write
+   * does not stop the others. Returns, per write, the key's new version or
+   * {@link #STALE}.
+   */
+  long[] write(List<Write> batch);
+
+  void remove(String key);
+
+  long size();
+
+  long evictionCount();
+
+  void forEach(BiConsumer<String, Entry> action);
+}
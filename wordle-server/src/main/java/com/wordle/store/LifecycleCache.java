@@ -0,0 +1,58 @@
+package com.wordle.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+
+/**
+ * Bounded store for games and rooms. Entries expire after an idle TTL, or a
+ * shorter one once finished, and the total count is capped with W-TinyLFU
+ * eviction. Expiry is tracked on Caffeine's timer wheel and swept by the
+ * system scheduler, so nothing ever scans the whole map.
+ */
+public final class LifecycleCache {
+
+  private LifecycleCache() {}
+
+  public static <V> Cache<String, V> build(long maximumSize, Duration idleTtl, Duration finishedTtl,
+                                    Predicate<V> finished) {
+    return build(maximumSize, idleTtl, finishedTtl, finished, null);
+  }
+
+  public static <V> Cache<String, V> build(long maximumSize, Duration idleTtl, Duration finishedTtl,
+                                    Predicate<V> finished, RemovalListener<String, V> listener) {
+    Caffeine<String, V> builder = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, V>() {
+              @Override
+              public long expireAfterCreate(String key, V value, long currentTime) {
+                return ttl(value);
+              }
+
+              @Override
+              public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                return ttl(value);
+              }
+
+              @Override
+              public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                return ttl(value);
+              }
+
+              private long ttl(V value) {
+                return (finished.test(value) ? finishedTtl : idleTtl).toNanos();
+              }
+            })
+            .scheduler(Scheduler.systemScheduler())
+            .recordStats();
+    if (listener != null) {
+      builder.removalListener(listener);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,105 @@
+package com.wordle.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Embedded stand-in for a shared key-value store, holding everything on this
+ * node's heap. It keeps the same versioning and TTL contract, so the
+ * {@code kv} game store runs unchanged on a single node and in tests. Several
+ * stores sharing one instance behave like nodes sharing a remote store.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.store.type", havingValue = "kv")
+public class LocalKeyValueStore implements KeyValueStore {
+
+  private static final class Stored {
+    final Entry entry;
+    final long ttlNanos;
+
+    Stored(Entry entry, long ttlNanos) {
+      this.entry = entry;
+      this.ttlNanos = ttlNanos;
+    }
+  }
+
+  private final Cache<String, Stored> entries;
+
+  public LocalKeyValueStore(@Value("${wordle.games.max-size:100000}") long maxEntries) {
+    this.entries = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new Expiry<String, Stored>() {
+              @Override
+              public long expireAfterCreate(String key, Stored value, long currentTime) {
+                return value.ttlNanos;
+              }
+
+              @Override
+              public long expireAfterUpdate(String key, Stored value, long currentTime, long currentDuration) {
+                return value.ttlNanos;
+              }
+
+              @Override
+              public long expireAfterRead(String key, Stored value, long currentTime, long currentDuration) {
+                // Like a remote store, only writes refresh the TTL
+                return currentDuration;
+              }
+            })
+            .scheduler(Scheduler.systemScheduler())
+            .recordStats()
+            .build();
+  }
+
+  @Override
+  public Entry get(String key) {
+    Stored stored = entries.getIfPresent(key);
+    return stored != null ? stored.entry : null;
+  }
+
+  @Override
+  public long[] write(List<Write> batch) {
+    long[] versions = new long[batch.size()];
+    for (int i = 0; i < versions.length; i++) {
+      Write write = batch.get(i);
+      long[] result = {STALE};
+      entries.asMap().compute(write.getKey(), (key, current) -> {
+        long version = current != null ? current.entry.getVersion() : ABSENT;
+        if (version != write.getExpectedVersion()) {
+          return current;
+        }
+        result[0] = version + 1;
+        return new Stored(new Entry(write.getValue(), version + 1), write.getTtl().toNanos());
+      });
+      versions[i] = result[0];
+    }
+    return versions;
+  }
+
+  @Override
+  public void remove(String key) {
+    entries.invalidate(key);
+  }
+
+  @Override
+  public long size() {
+    return entries.estimatedSize();
+  }
+
+  @Override
+  public long evictionCount() {
+    return entries.stats().evictionCount();
+  }
+
+  @Override
+  public void forEach(BiConsumer<String, Entry> action) {
+    entries.asMap().forEach((key, stored) -> action.accept(key, stored.entry));
+  }
+}
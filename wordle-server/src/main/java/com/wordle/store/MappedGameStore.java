@@ -0,0 +1,297 @@
+package com.wordle.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wordle.model.GameState;
+import com.wordle.service.WordIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Games stored as fixed-size records in a memory-mapped file, so millions of
+ * games cost little heap and survive a restart.
+ *
+ * Record layout (228 bytes): game id as two longs, packed target word, then
+ * max rounds, round count, flags and word length as bytes, then
+ * {@link #MAX_ROUNDS} packed guess words and their packed feedback, then the
+ * daily puzzle number. Records hold words rather than word list indices, so
+ * they stay valid when the list is reloaded. Words are packed as longs, so
+ * any word length fits, but a record has one board: multi-board games need
+ * the memory or kv store.
+ * The heap only holds the id-to-slot index, which applies the usual idle and
+ * finished TTLs, plus a small cache of recently used decoded games.
+ */
+@Component
+@ConditionalOnProperty(name = "wordle.store.type", havingValue = "mapped")
+public class MappedGameStore implements GameStore {
+
+  private static final Logger log = LoggerFactory.getLogger(MappedGameStore.class);
+
+  // Version 3 packs words as longs, with their length, for games of any word length
+  private static final int MAGIC = 0x57475333; // "WGS3"
+  private static final int HEADER_SIZE = 64;
+
+  /** Most rounds a record holds. */
+  public static final int MAX_ROUNDS = 16;
+
+  private static final int OFF_ID_MSB = 0;
+  private static final int OFF_ID_LSB = 8;
+  private static final int OFF_TARGET = 16;
+  private static final int OFF_MAX_ROUNDS = 24;
+  private static final int OFF_ROUNDS = 25;
+  private static final int OFF_FLAGS = 26;
+  private static final int OFF_LENGTH = 27;
+  private static final int OFF_GUESSES = 32;
+  private static final int OFF_FEEDBACK = OFF_GUESSES + 8 * MAX_ROUNDS;
+  private static final int OFF_PUZZLE = OFF_FEEDBACK + 4 * MAX_ROUNDS;
+  static final int RECORD_SIZE = OFF_PUZZLE + 4;
+
+  private static final int FLAG_IN_USE = 1;
+  private static final int FLAG_GAME_OVER = 2;
+  private static final int FLAG_WON = 4;
+
+  private final Path file;
+  private final int capacity;
+  private final Cache<String, Integer> index;
+  private final Cache<String, GameState> hot;
+  private final Deque<Integer> freeSlots = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger highWater = new AtomicInteger();
+
+  private FileChannel channel;
+  private MappedByteBuffer buffer;
+
+  public MappedGameStore(@Value("${wordle.store.file:${java.io.tmpdir}/wordle-games.bin}") String file,
+                         @Value("${wordle.store.capacity:1000000}") int capacity,
+                         @Value("${wordle.store.hot-size:10000}") long hotSize,
+                         @Value("${wordle.games.idle-ttl:30m}") Duration idleTtl,
+                         @Value("${wordle.games.finished-ttl:5m}") Duration finishedTtl) {
+    this.file = Path.of(file);
+    this.capacity = Math.min(capacity, (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE);
+    this.index = LifecycleCache.build(this.capacity, idleTtl, finishedTtl,
+            slot -> (flags(slot) & FLAG_GAME_OVER) != 0,
+            (gameId, slot, cause) -> {
+              if (cause != RemovalCause.REPLACED && slot != null) {
+                release(gameId, slot);
+              }
+            });
+    this.hot = Caffeine.newBuilder().maximumSize(hotSize).build();
+  }
+
+  @PostConstruct
+  public void open() throws IOException {
+    if (file.getParent() != null) {
+      Files.createDirectories(file.getParent());
+    }
+    channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * RECORD_SIZE);
+
+    boolean valid = buffer.getInt(0) == MAGIC
+            && buffer.getInt(4) == RECORD_SIZE
+            && buffer.getInt(8) == capacity;
+    if (!valid) {
+      // Different layout: start empty
+      for (int slot = 0; slot < capacity; slot++) {
+        buffer.put(offset(slot) + OFF_FLAGS, (byte) 0);
+      }
+      buffer.putInt(0, MAGIC);
+      buffer.putInt(4, RECORD_SIZE);
+      buffer.putInt(8, capacity);
+      return;
+    }
+
+    int used = -1;
+    for (int slot = 0; slot < capacity; slot++) {
+      if ((flags(slot) & FLAG_IN_USE) != 0) {
+        index.put(idAt(slot), slot);
+        used = slot;
+      }
+    }
+    for (int slot = 0; slot < used; slot++) {
+      if ((flags(slot) & FLAG_IN_USE) == 0) {
+        freeSlots.push(slot);
+      }
+    }
+    highWater.set(used + 1);
+    log.info("Restored {} games from {}", index.estimatedSize(), file);
+  }
+
+  @Override
+  public GameState get(String gameId) {
+    Integer slot = index.getIfPresent(gameId);
+    if (slot == null) {
+      hot.invalidate(gameId);
+      return null;
+    }
+    return hot.get(gameId, id -> read(id, slot));
+  }
+
+  @Override
+  public void put(GameState game) {
+    if (game.getMaxRounds() > MAX_ROUNDS) {
+      throw new IllegalArgumentException("maxRounds exceeds " + MAX_ROUNDS);
+    }
+    if (game.getBoardCount() > 1) {
+      throw new IllegalArgumentException("The mapped game store holds single-board games only");
+    }
+    String gameId = game.getGameId();
+    game.lock().lock();
+    try {
+      // Find or allocate the slot and write it under the entry's lock, so a release cannot interleave
+      index.asMap().compute(gameId, (id, current) -> {
+        int slot = current != null ? current : allocate();
+        try {
+          write(slot, game);
+        } catch (RuntimeException e) {
+          if (current == null) {
+            freeSlots.push(slot);
+          }
+          throw e;
+        }
+        return slot;
+      });
+    } finally {
+      game.lock().unlock();
+    }
+    hot.put(gameId, game);
+  }
+
+  @Override
+  public void remove(String gameId) {
+    index.invalidate(gameId);
+    hot.invalidate(gameId);
+  }
+
+  @Override
+  public long size() {
+    return index.estimatedSize();
+  }
+
+  @Override
+  public long evictionCount() {
+    return index.stats().evictionCount();
+  }
+
+  @Override
+  public void forEach(Consumer<GameState> action) {
+    for (String gameId : index.asMap().keySet()) {
+      GameState game = get(gameId);
+      if (game != null) {
+        action.accept(game);
+      }
+    }
+  }
+
+  private int allocate() {
+    Integer slot = freeSlots.poll();
+    if (slot != null) {
+      return slot;
+    }
+    int next = highWater.getAndIncrement();
+    if (next >= capacity) {
+      highWater.decrementAndGet();
+      throw new IllegalStateException("Game store is full");
+    }
+    return next;
+  }
+
+  /*
+   * Frees the slot of a removed game. Removal listeners run after the
+   * removal, so by now the game may have been stored again: the slot is only
+   * freed if the index no longer points the game at it and the record still
+   * holds that game.
+   */
+  private void release(String gameId, int slot) {
+    index.asMap().compute(gameId, (id, current) -> {
+      if (current == null) {
+        hot.invalidate(gameId);
+      }
+      if ((current == null || current != slot) && (flags(slot) & FLAG_IN_USE) != 0 && gameId.equals(idAt(slot))) {
+        buffer.put(offset(slot) + OFF_FLAGS, (byte) 0);
+        freeSlots.push(slot);
+      }
+      return current;
+    });
+  }
+
+  private String idAt(int slot) {
+    int base = offset(slot);
+    return new UUID(buffer.getLong(base + OFF_ID_MSB), buffer.getLong(base + OFF_ID_LSB)).toString();
+  }
+
+  private static int offset(int slot) {
+    return HEADER_SIZE + slot * RECORD_SIZE;
+  }
+
+  private int flags(int slot) {
+    return buffer.get(offset(slot) + OFF_FLAGS);
+  }
+
+  private void write(int slot, GameState game) {
+    int base = offset(slot);
+    UUID id = UUID.fromString(game.getGameId());
+    buffer.putLong(base + OFF_ID_MSB, id.getMostSignificantBits());
+    buffer.putLong(base + OFF_ID_LSB, id.getLeastSignificantBits());
+    int length = game.getWordLength();
+    buffer.putLong(base + OFF_TARGET, WordIndex.pack(game.getTargetWord(), length));
+    buffer.put(base + OFF_MAX_ROUNDS, (byte) game.getMaxRounds());
+    buffer.put(base + OFF_ROUNDS, (byte) game.getCurrentRound());
+    buffer.put(base + OFF_LENGTH, (byte) length);
+    buffer.putInt(base + OFF_PUZZLE, game.getPuzzle());
+    for (int i = 0; i < game.getCurrentRound(); i++) {
+      buffer.putLong(base + OFF_GUESSES + 8 * i, WordIndex.pack(game.getGuessWord(i), length));
+      buffer.putInt(base + OFF_FEEDBACK + 4 * i, game.getFeedback(i));
+    }
+    int flags = FLAG_IN_USE;
+    if (game.isGameOver()) flags |= FLAG_GAME_OVER;
+    if (game.isWon()) flags |= FLAG_WON;
+    buffer.put(base + OFF_FLAGS, (byte) flags);
+  }
+
+  private GameState read(String gameId, int slot) {
+    int base = offset(slot);
+    int length = buffer.get(base + OFF_LENGTH);
+    GameState game = new GameState(gameId,
+            WordIndex.unpack(buffer.getLong(base + OFF_TARGET), length),
+            buffer.get(base + OFF_MAX_ROUNDS));
+    game.setPuzzle(buffer.getInt(base + OFF_PUZZLE));
+    int rounds = buffer.get(base + OFF_ROUNDS);
+    for (int i = 0; i < rounds; i++) {
+      game.addGuess(WordIndex.unpack(buffer.getLong(base + OFF_GUESSES + 8 * i), length),
+              buffer.getInt(base + OFF_FEEDBACK + 4 * i));
+    }
+    int flags = flags(slot);
+    game.setGameOver((flags & FLAG_GAME_OVER) != 0);
+    game.setWon((flags & FLAG_WON) != 0);
+    return game;
+  }
+
+  @PreDestroy
+  public void close() throws IOException {
+    if (buffer != null) {
+      buffer.force();
+    }
+    if (channel != null) {
+      channel.close();
+    }
+  }
+}
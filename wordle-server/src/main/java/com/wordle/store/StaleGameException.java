@@ -0,0 +1,13 @@
+package com.wordle.store;
+
+/**
+ * Thrown by {@link GameStore#put} when the game changed in the store after
+ * this copy was read, typically on another node. Read the game again and
+ * retry the change.
+ */
+public class StaleGameException extends IllegalStateException {
+
+  public StaleGameException(String gameId) {
+    super("Game " + gameId + " was changed concurrently");
+  }
+}
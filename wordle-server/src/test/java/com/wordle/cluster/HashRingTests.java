@@ -0,0 +1,59 @@
+package com.wordle.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashRingTests {
+
+	private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+	private static final int KEYS = 30_000;
+
+	private static String key(int i) {
+		return String.format("%08X", i * 0x9E3779B1);
+	}
+
+	@Test
+	void sameMembersGiveTheSameRingInAnyOrder() {
+		HashRing ring = new HashRing(NODES, 128);
+		HashRing reversed = new HashRing(List.of(NODES.get(2), NODES.get(1), NODES.get(0)), 128);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(ring.owner(key(i)), reversed.owner(key(i)));
+		}
+	}
+
+	@Test
+	void keysSpreadEvenly() {
+		HashRing ring = new HashRing(NODES, 128);
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < KEYS; i++) {
+			counts.merge(ring.owner(key(i)), 1, Integer::sum);
+		}
+		for (String node : NODES) {
+			int share = counts.getOrDefault(node, 0);
+			assertTrue(share > KEYS / 3 * 0.8 && share < KEYS / 3 * 1.2, node + " owns " + share);
+		}
+	}
+
+	@Test
+	void addingANodeOnlyMovesKeysToIt() {
+		HashRing before = new HashRing(NODES, 128);
+		HashRing after = new HashRing(List.of(NODES.get(0), NODES.get(1), NODES.get(2), "http://d:8080"), 128);
+		int moved = 0;
+		for (int i = 0; i < KEYS; i++) {
+			String was = before.owner(key(i));
+			String now = after.owner(key(i));
+			if (!was.equals(now)) {
+				assertEquals("http://d:8080", now);
+				moved++;
+			}
+		}
+		// About a quarter, give or take the spread of 128 points per node
+		assertTrue(moved > KEYS / 4 * 0.6 && moved < KEYS / 4 * 1.4, "moved " + moved);
+	}
+}
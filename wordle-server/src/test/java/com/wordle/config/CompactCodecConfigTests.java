@@ -0,0 +1,139 @@
+package com.wordle.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.wordle.model.GameState;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.service.MultiPlayerService;
+import com.wordle.service.WordleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class CompactCodecConfigTests {
+
+	@Autowired
+	MockMvc mvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	WordleService wordleService;
+
+	@Autowired
+	MultiPlayerService multiPlayerService;
+
+	// A game with a miss and then the winning guess
+	private String playedGame() {
+		String gameId = wordleService.createNewGame(6);
+		String target = wordleService.getGame(gameId).getTargetWord();
+		List<String> words = wordleService.getWordList();
+		wordleService.makeGuess(gameId, words.get(0).equals(target) ? words.get(1) : words.get(0));
+		wordleService.makeGuess(gameId, target);
+		return gameId;
+	}
+
+	private MvcResult fetch(String path, String accept) throws Exception {
+		return mvc.perform(get(path).header(HttpHeaders.ACCEPT, accept)).andExpect(status().isOk()).andReturn();
+	}
+
+	// Plain rows as "WORD:MARKS", from their tile objects
+	private List<String> plainRows(JsonNode game) {
+		List<String> rows = new ArrayList<>();
+		for (JsonNode row : game.get("guesses")) {
+			StringBuilder word = new StringBuilder();
+			StringBuilder marks = new StringBuilder();
+			for (JsonNode tile : row) {
+				word.append(tile.get("letter").asText());
+				marks.append(switch (tile.get("status").asText()) {
+					case "HIT" -> 'H';
+					case "PRESENT" -> 'P';
+					default -> 'M';
+				});
+			}
+			rows.add(word + ":" + marks);
+		}
+		return rows;
+	}
+
+	private List<String> compactRows(JsonNode game) {
+		List<String> rows = new ArrayList<>();
+		game.get("guesses").forEach(row -> rows.add(row.asText()));
+		return rows;
+	}
+
+	@Test
+	void wildcardGetsPlainJson() throws Exception {
+		String gameId = playedGame();
+		MvcResult result = fetch("/api/wordle/game/" + gameId, "*/*");
+
+		assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(result.getResponse().getContentType())));
+		JsonNode game = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+		JsonNode tile = game.get("guesses").get(1).get(0);
+		assertTrue(tile.isObject());
+		assertEquals(String.valueOf(wordleService.getGame(gameId).getTargetWord().charAt(0)), tile.get("letter").asText());
+		assertTrue(result.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+	}
+
+	@Test
+	void compactEncodingsDecodeToTheSameGuesses() throws Exception {
+		String gameId = playedGame();
+		String path = "/api/wordle/game/" + gameId;
+		GameState state = wordleService.getGame(gameId);
+
+		List<String> plain = plainRows(objectMapper.readTree(fetch(path, "application/json").getResponse().getContentAsByteArray()));
+		List<String> compact = compactRows(objectMapper.readTree(
+				fetch(path, CompactCodecConfig.COMPACT_JSON_VALUE).getResponse().getContentAsByteArray()));
+		List<String> cbor = compactRows(new CBORMapper().readTree(
+				fetch(path, "application/cbor").getResponse().getContentAsByteArray()));
+
+		assertEquals(2, plain.size());
+		assertEquals(state.getTargetWord() + ":HHHHH", plain.get(1));
+		assertEquals(plain, compact);
+		assertEquals(plain, cbor);
+	}
+
+	@Test
+	void roomEtagsNameTheEncoding() throws Exception {
+		MultiPlayerRoom room = multiPlayerService.createRoom("etag", "Encodings", 4, "Etag");
+		String path = "/api/multiplayer/room/" + room.getRoomId();
+
+		String json = fetch(path, "*/*").getResponse().getHeader(HttpHeaders.ETAG);
+		String cbor = fetch(path, "application/cbor").getResponse().getHeader(HttpHeaders.ETAG);
+		assertEquals("\"" + room.getVersion() + "\"", json);
+		assertNotEquals(json, cbor);
+
+		// The CBOR tag does not validate a plain JSON copy
+		mvc.perform(get(path).header(HttpHeaders.ACCEPT, "application/json").header(HttpHeaders.IF_NONE_MATCH, cbor))
+				.andExpect(status().isOk());
+		mvc.perform(get(path).header(HttpHeaders.ACCEPT, "application/cbor").header(HttpHeaders.IF_NONE_MATCH, cbor))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void encodingFollowsPreference() {
+		assertEquals("", CompactCodecConfig.encodingOf(null));
+		assertEquals("", CompactCodecConfig.encodingOf("*/*"));
+		assertEquals("-compact", CompactCodecConfig.encodingOf(CompactCodecConfig.COMPACT_JSON_VALUE + ", */*;q=0.1"));
+		assertEquals("-cbor", CompactCodecConfig.encodingOf("application/json;q=0.5, application/cbor"));
+		assertEquals("", CompactCodecConfig.encodingOf("not a type"));
+	}
+}
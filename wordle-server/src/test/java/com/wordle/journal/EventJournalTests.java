@@ -0,0 +1,74 @@
+package com.wordle.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.model.GameVariant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class EventJournalTests {
+
+	@TempDir
+	Path dir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private EventJournal journal() {
+		return new EventJournal(objectMapper, true, false, dir.toString(), 1024);
+	}
+
+	private List<String> recover(EventJournal journal) throws Exception {
+		List<String> seen = new ArrayList<>();
+		journal.recover(event -> seen.add(event.getType() + ":" + event.getId() + ":" + event.getWord()));
+		return seen;
+	}
+
+	// The writer thread appends in the background
+	private void awaitLines(Path segment, int lines) throws Exception {
+		for (int i = 0; i < 500; i++) {
+			if (Files.exists(segment) && Files.readAllLines(segment).size() >= lines) {
+				return;
+			}
+			Thread.sleep(10);
+		}
+		throw new AssertionError(segment + " never reached " + lines + " lines");
+	}
+
+	@Test
+	void recoveryReplaysTheSnapshotThenLaterSegmentsOnly() throws Exception {
+		EventJournal first = journal();
+		assertEquals(List.of(), recover(first));
+		first.append(JournalEvent.roomCreated("R1", "Old", "p1", "One", 4, "CLASSIC", GameVariant.CLASSIC));
+		first.append(JournalEvent.playerJoined("R1", "p2", "Two", null));
+		awaitLines(dir.resolve("journal-0.log"), 2);
+
+		// The snapshot stands in for everything before the segment rotated to
+		long segment = first.rotate();
+		first.writeSnapshot(segment, List.of(
+				JournalEvent.roomCreated("R1", "Snapshot", "p1", "One", 4, "CLASSIC", GameVariant.CLASSIC)));
+		first.append(JournalEvent.gameStarted("R1", List.of("CRANE")));
+		first.close();
+		assertFalse(Files.exists(dir.resolve("journal-0.log")));
+
+		List<String> expected = List.of("ROOM_CREATED:R1:Snapshot", "GAME_STARTED:R1:CRANE");
+		EventJournal second = journal();
+		assertEquals(expected, recover(second));
+		second.close();
+
+		// A torn line left by a crash mid-write is skipped
+		Files.writeString(dir.resolve("journal-" + segment + ".log"), "{\"type\":\"ROOM_GU",
+				StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+		EventJournal third = journal();
+		assertEquals(expected, recover(third));
+		third.close();
+	}
+}
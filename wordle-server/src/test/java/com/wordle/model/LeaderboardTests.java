@@ -0,0 +1,56 @@
+package com.wordle.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LeaderboardTests {
+
+	private static Player finish(String id, int rounds, boolean won) {
+		Player player = new Player(id, id);
+		for (int i = 0; i < rounds; i++) {
+			player.addGuess("CRANE", 0);
+		}
+		player.setHasWon(won);
+		return player;
+	}
+
+	@Test
+	void fewerRoundsOvertakeEarlierSolvers() {
+		Leaderboard leaderboard = new Leaderboard();
+		assertEquals(1, leaderboard.record(finish("slow", 5, true)));
+		assertEquals(2, leaderboard.record(finish("out", 6, false)));
+		assertEquals(1, leaderboard.record(finish("fast", 2, true)));
+		assertEquals(3, leaderboard.record(finish("tie", 5, true)));
+
+		assertEquals(1, leaderboard.rankOf("fast"));
+		assertEquals(2, leaderboard.rankOf("slow"));
+		assertEquals(3, leaderboard.rankOf("tie"));
+		assertEquals(4, leaderboard.rankOf("out"));
+		assertEquals(0, leaderboard.rankOf("nobody"));
+		assertEquals(3, leaderboard.getWinnerCount());
+	}
+
+	@Test
+	void selectAndTopFollowRankOrder() {
+		Leaderboard leaderboard = new Leaderboard();
+		for (int i = 0; i < 40; i++) {
+			leaderboard.record(finish("p" + i, 1 + i % 7, i % 7 != 6));
+		}
+		List<Player> top = leaderboard.top(40);
+		for (int rank = 1; rank <= 40; rank++) {
+			Player player = leaderboard.select(rank);
+			assertSame(top.get(rank - 1), player);
+			assertEquals(rank, leaderboard.rankOf(player.getPlayerId()));
+		}
+		assertNull(leaderboard.select(41));
+
+		leaderboard.reset();
+		assertEquals(0, leaderboard.getFinishedCount());
+		assertEquals(0, leaderboard.rankOf("p0"));
+	}
+}
@@ -0,0 +1,40 @@
+package com.wordle.service;
+
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "wordle.bots.max=2")
+class BotServiceTests {
+
+	@Autowired
+	BotService botService;
+
+	@Autowired
+	MultiPlayerService multiPlayerService;
+
+	@Test
+	void botsWaitingInRoomsCountAgainstTheLimitUntilTheirRoomIsGone() {
+		MultiPlayerRoom room = multiPlayerService.createRoom("host", "Bots", 8, "Host");
+		botService.addBot(room.getRoomId(), Player.BotLevel.RANDOM);
+		botService.addBot(room.getRoomId(), Player.BotLevel.ENTROPY);
+		MultiPlayerRoom other = multiPlayerService.createRoom("host2", "More bots", 8, "Host");
+		assertThrows(IllegalArgumentException.class, () -> botService.addBot(other.getRoomId(), Player.BotLevel.RANDOM));
+		assertEquals(2, multiPlayerService.getBotCount());
+
+		// Rooms leave through the cache, whose removal listener runs on the common pool
+		multiPlayerService.removeRoom(room.getRoomId());
+		ForkJoinPool.commonPool().awaitQuiescence(5, TimeUnit.SECONDS);
+		assertEquals(0, multiPlayerService.getBotCount());
+		botService.addBot(other.getRoomId(), Player.BotLevel.RANDOM);
+		assertEquals(1, multiPlayerService.getBotCount());
+	}
+}
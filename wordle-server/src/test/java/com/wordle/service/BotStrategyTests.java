@@ -0,0 +1,96 @@
+package com.wordle.service;
+
+import com.wordle.model.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BotStrategyTests {
+
+	private static final int GAMES = 100;
+	private static final int MAX_ROUNDS = 20;
+
+	@TempDir
+	static Path dir;
+
+	static WordIndex words;
+
+	@BeforeAll
+	static void loadWords() throws Exception {
+		DictionaryRegistry registry = new DictionaryRegistry(new DefaultResourceLoader(), dir.toString(), "en-5", Duration.ZERO);
+		registry.init();
+		words = registry.getDefault();
+	}
+
+	// Plays one game on every board; the rounds taken to solve them all
+	private static int play(Player.BotLevel level, long[] targets, Random random) {
+		BotStrategy strategy = new BotStrategy(level, words, targets.length, new HashMap<>());
+		int[] patterns = new int[targets.length];
+		int solved = 0;
+		for (int round = 1; round <= MAX_ROUNDS; round++) {
+			int guess = strategy.next(random);
+			assertTrue(words.isAnswer(guess), "bots only guess answers still possible");
+			long code = words.codeAt(guess);
+			for (int b = 0; b < targets.length; b++) {
+				patterns[b] = GuessEvaluator.evaluate(code, targets[b], words.length());
+				if (code == targets[b]) {
+					solved |= 1 << b;
+				}
+			}
+			strategy.learn(code, patterns);
+			if (solved == (1 << targets.length) - 1) {
+				return round;
+			}
+		}
+		throw new AssertionError(level + " bot did not solve the game in " + MAX_ROUNDS + " rounds");
+	}
+
+	private static double averageRounds(Player.BotLevel level) {
+		Random targets = new Random(7);
+		Random random = new Random(11);
+		int total = 0;
+		for (int game = 0; game < GAMES; game++) {
+			total += play(level, new long[] {words.codeAt(targets.nextInt(words.answerCount()))}, random);
+		}
+		return (double) total / GAMES;
+	}
+
+	@Test
+	void everyLevelSolvesAndStrongerLevelsNeedFewerGuesses() {
+		double random = averageRounds(Player.BotLevel.RANDOM);
+		double frequency = averageRounds(Player.BotLevel.FREQUENCY);
+		double entropy = averageRounds(Player.BotLevel.ENTROPY);
+		assertTrue(frequency <= random, "frequency " + frequency + " vs random " + random);
+		assertTrue(entropy <= frequency, "entropy " + entropy + " vs frequency " + frequency);
+	}
+
+	@Test
+	void solvesEveryBoardOfAMultiBoardGame() {
+		Random random = new Random(3);
+		long[] targets = new long[4];
+		for (int b = 0; b < targets.length; b++) {
+			targets[b] = words.codeAt(random.nextInt(words.answerCount()));
+		}
+		int rounds = play(Player.BotLevel.ENTROPY, targets, random);
+		assertTrue(rounds >= targets.length);
+	}
+
+	@Test
+	void onlyTheTargetIsLeftOnceItIsFound() {
+		long target = WordIndex.pack("CRANE", 5);
+		BotStrategy strategy = new BotStrategy(Player.BotLevel.RANDOM, words, 1, new HashMap<>());
+		strategy.learn(WordIndex.pack("CRATE", 5), new int[] {GuessEvaluator.evaluate(WordIndex.pack("CRATE", 5), target, 5)});
+		strategy.learn(WordIndex.pack("CRANK", 5), new int[] {GuessEvaluator.evaluate(WordIndex.pack("CRANK", 5), target, 5)});
+		assertEquals(1, strategy.remaining(0));
+		assertEquals("CRANE", words.wordAt(strategy.next(new Random())));
+	}
+}
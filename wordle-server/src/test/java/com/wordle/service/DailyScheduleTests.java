@@ -0,0 +1,79 @@
+package com.wordle.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DailyScheduleTests {
+
+	private static final String EPOCH = "2025-01-01";
+
+	@TempDir
+	static Path dir;
+
+	static WordDictionary dictionary;
+
+	@BeforeAll
+	static void loadWords() throws Exception {
+		DictionaryRegistry registry = new DictionaryRegistry(new DefaultResourceLoader(), dir.toString(), "en-5", Duration.ZERO);
+		registry.init();
+		dictionary = new WordDictionary(registry);
+		dictionary.init();
+	}
+
+	private static DailySchedule schedule(long seed) {
+		DailySchedule schedule = new DailySchedule(dictionary, seed, EPOCH, "UTC");
+		schedule.init();
+		return schedule;
+	}
+
+	private static List<String> words(DailySchedule schedule, int count) {
+		List<String> words = new ArrayList<>();
+		for (int puzzle = 1; puzzle <= count; puzzle++) {
+			words.add(schedule.wordFor(puzzle));
+		}
+		return words;
+	}
+
+	@Test
+	void sameSeedGivesSameWordOnSameDate() {
+		DailySchedule one = schedule(42);
+		DailySchedule two = schedule(42);
+		LocalDate date = LocalDate.parse("2025-03-14");
+		assertEquals(one.wordFor(one.puzzleOn(date)), two.wordFor(two.puzzleOn(date)));
+		assertEquals(words(one, 30), words(two, 30));
+		assertNotEquals(words(one, 30), words(schedule(43), 30));
+
+		// Every word is an answer, and the shuffle repeats after one pass
+		WordIndex index = dictionary.snapshot();
+		for (String word : words(one, 30)) {
+			assertTrue(index.isAnswer(index.indexOf(word)), word);
+		}
+		assertEquals(one.wordFor(5), one.wordFor(5 + index.answerCount()));
+	}
+
+	@Test
+	void puzzleNumbersAndDatesRoundTrip() {
+		DailySchedule schedule = schedule(42);
+		assertEquals(1, schedule.puzzleOn(LocalDate.parse(EPOCH)));
+		assertEquals(LocalDate.parse(EPOCH), schedule.dateOf(1));
+		for (int puzzle : new int[] {1, 2, 59, 60, 366, 1000}) {
+			assertEquals(puzzle, schedule.puzzleOn(schedule.dateOf(puzzle)));
+		}
+		LocalDate leapDay = LocalDate.parse("2028-02-29");
+		assertEquals(leapDay, schedule.dateOf(schedule.puzzleOn(leapDay)));
+		assertThrows(IllegalArgumentException.class, () -> schedule.wordFor(0));
+	}
+}
@@ -0,0 +1,115 @@
+package com.wordle.service;
+
+import com.wordle.dto.DailyStatsResponse;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DailyStatsTests {
+
+	private static final int RETENTION = 7;
+	// The epoch is set so that today is puzzle 10
+	private static final int TODAY = 10;
+
+	@TempDir
+	static Path dir;
+
+	static WordDictionary dictionary;
+
+	DailySchedule schedule;
+	DailyStats stats;
+
+	@BeforeAll
+	static void loadWords() throws Exception {
+		DictionaryRegistry registry = new DictionaryRegistry(new DefaultResourceLoader(), dir.toString(), "en-5", Duration.ZERO);
+		registry.init();
+		dictionary = new WordDictionary(registry);
+		dictionary.init();
+	}
+
+	@BeforeEach
+	void setUp() {
+		LocalDate epoch = LocalDate.now(ZoneOffset.UTC).minusDays(TODAY - 1);
+		schedule = new DailySchedule(dictionary, 42, epoch.toString(), "UTC");
+		schedule.init();
+		// No refresh interval, so every snapshot is rebuilt
+		stats = new DailyStats(dictionary, schedule, RETENTION, Duration.ZERO);
+	}
+
+	@Test
+	void distributionAndOpenersMatchRecordedGames() {
+		for (int i = 0; i < 6; i++) {
+			stats.started(TODAY);
+		}
+		stats.firstGuess(TODAY, "CRANE");
+		stats.firstGuess(TODAY, "SLATE");
+		stats.firstGuess(TODAY, "CRANE");
+		stats.firstGuess(TODAY, "CRANE");
+		stats.firstGuess(TODAY, "SLATE");
+		stats.firstGuess(TODAY, "ZZZZZ"); // Not a word: not counted
+		stats.finished(TODAY, true, 1);
+		stats.finished(TODAY, true, 3);
+		stats.finished(TODAY, true, 3);
+		stats.finished(TODAY, true, 6);
+		stats.finished(TODAY, false, 6);
+
+		DailyStatsResponse snapshot = stats.snapshot(TODAY);
+		assertEquals(TODAY, snapshot.getPuzzle());
+		assertEquals(schedule.dateOf(TODAY), snapshot.getDate());
+		assertEquals(6, snapshot.getStarted());
+		assertEquals(5, snapshot.getFinished());
+		assertEquals(4, snapshot.getSolved());
+		assertArrayEquals(new long[] {1, 0, 2, 0, 0, 1}, snapshot.getDistribution());
+		assertEquals(2, snapshot.getTopFirstGuesses().size());
+		assertEquals("CRANE", snapshot.getTopFirstGuesses().get(0).getWord());
+		assertEquals(3, snapshot.getTopFirstGuesses().get(0).getCount());
+		assertEquals("SLATE", snapshot.getTopFirstGuesses().get(1).getWord());
+		assertEquals(2, snapshot.getTopFirstGuesses().get(1).getCount());
+
+		// Other puzzles keep their own counts
+		assertEquals(0, stats.snapshot(TODAY - 1).getStarted());
+	}
+
+	@Test
+	void onlyTheTenMostCommonOpenersAreListed() {
+		WordIndex words = dictionary.snapshot();
+		for (int i = 0; i < 12; i++) {
+			for (int n = 0; n <= i; n++) {
+				stats.firstGuess(TODAY, words.wordAt(i));
+			}
+		}
+
+		DailyStatsResponse snapshot = stats.snapshot(TODAY);
+		assertEquals(10, snapshot.getTopFirstGuesses().size());
+		for (int rank = 0; rank < 10; rank++) {
+			assertEquals(words.wordAt(11 - rank), snapshot.getTopFirstGuesses().get(rank).getWord());
+			assertEquals(12 - rank, snapshot.getTopFirstGuesses().get(rank).getCount());
+		}
+	}
+
+	@Test
+	void puzzlesOutsideRetentionAreNull() {
+		assertNotNull(stats.snapshot(TODAY));
+		assertNotNull(stats.snapshot(TODAY - RETENTION + 1));
+		assertNull(stats.snapshot(TODAY - RETENTION));
+		assertNull(stats.snapshot(TODAY + 1));
+
+		// Results for aged-out or future puzzles are dropped
+		stats.started(TODAY + 1);
+		stats.finished(TODAY - RETENTION, true, 2);
+		assertNull(stats.snapshot(TODAY + 1));
+		assertNull(stats.snapshot(TODAY - RETENTION));
+	}
+}
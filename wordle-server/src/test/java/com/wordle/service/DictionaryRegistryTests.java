@@ -0,0 +1,88 @@
+package com.wordle.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DictionaryRegistryTests {
+
+	@TempDir
+	Path dir;
+
+	private DictionaryRegistry registry() throws Exception {
+		DictionaryRegistry registry = new DictionaryRegistry(new DefaultResourceLoader(), dir.toString(), "en-5", Duration.ZERO);
+		registry.init();
+		return registry;
+	}
+
+	// Later than any index written so far, so the next reload sees the list as changed
+	private void writeList(String name, String... words) throws Exception {
+		Path file = dir.resolve(name);
+		Files.write(file, List.of(words));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+	}
+
+	@Test
+	void bundledListIsInstalledAsTheDefault() throws Exception {
+		WordIndex words = registry().getDefault();
+		assertEquals("en-5", words.key());
+		assertEquals(words.size(), words.answerCount());
+		assertTrue(words.contains("CRANE"));
+		assertFalse(words.contains("ZZZZZ"));
+		assertEquals("CRANE", words.wordAt(words.indexOf("CRANE")));
+	}
+
+	@Test
+	void textListsAreIndexedWithAnswersFirst() throws Exception {
+		writeList("de-6.answers.txt", "garten", "Straße", "BLUMEN", "garten");
+		writeList("de-6.allowed.txt", "FENSTER", "BLUMEN", "KATZEN");
+		WordIndex words = registry().get("de", 6);
+
+		// STRASSE is not six letters A-Z and FENSTER is seven: both are skipped
+		assertEquals(2, words.answerCount());
+		assertEquals(3, words.size());
+		assertTrue(words.isAnswer(words.indexOf("GARTEN")));
+		assertTrue(words.isAnswer(words.indexOf("BLUMEN")));
+		assertFalse(words.isAnswer(words.indexOf("KATZEN")));
+		assertEquals(-1, words.indexOf("FENSTER"));
+	}
+
+	@Test
+	void reloadSwapsChangedListsAndOldCopiesStayReadable() throws Exception {
+		writeList("en-4.answers.txt", "WORD", "GAME");
+		DictionaryRegistry registry = registry();
+		WordIndex before = registry.get("en-4");
+		WordIndex defaultBefore = registry.getDefault();
+		List<WordIndex> reloaded = new ArrayList<>();
+		registry.addListener(reloaded::add);
+
+		writeList("en-4.answers.txt", "WORD", "PLAY", "TILE");
+		registry.reload();
+
+		WordIndex after = registry.get("en-4");
+		assertNotSame(before, after);
+		assertEquals(List.of(after), reloaded);
+		assertEquals(3, after.size());
+		assertTrue(after.contains("TILE"));
+		assertEquals(List.of("WORD", "GAME"), before.asList());
+		assertSame(defaultBefore, registry.getDefault());
+
+		Files.delete(dir.resolve("en-4.answers.txt"));
+		Files.delete(dir.resolve("en-4" + WordIndex.SUFFIX));
+		registry.reload();
+		assertEquals(null, registry.get("en-4"));
+	}
+}
@@ -0,0 +1,75 @@
+package com.wordle.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuessEvaluatorTests {
+
+	private static String score(String guess, String target) {
+		int pattern = GuessEvaluator.evaluate(WordIndex.pack(guess, guess.length()), WordIndex.pack(target, target.length()),
+				guess.length());
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < guess.length(); i++) {
+			sb.append("MPH".charAt(GuessEvaluator.statusAt(pattern, i)));
+		}
+		return sb.toString();
+	}
+
+	@Test
+	void exactMatchIsWin() {
+		assertTrue(GuessEvaluator.isWin(GuessEvaluator.evaluate(WordDictionary.pack("CRANE"), WordDictionary.pack("CRANE"))));
+		assertEquals(GuessEvaluator.ALL_HIT, GuessEvaluator.allHit(5));
+	}
+
+	@Test
+	void scoresHitsPresentsAndMisses() {
+		assertEquals("PPHMP", score("CRANE", "REACT"));
+		assertEquals("MMPMP", score("SPEED", "ABIDE"));
+	}
+
+	@Test
+	void repeatedGuessLettersOnlyScoreAvailableTargetLetters() {
+		assertEquals("PPMMM", score("LLAMA", "HELLO"));
+		assertEquals("PMPMM", score("EERIE", "CREPT"));
+		assertEquals("PPHHM", score("ABBEY", "BABES"));
+	}
+
+	@Test
+	void scoresLongerWords() {
+		assertEquals("HHHHHHHHHHH", score("ABRACADABRA", "ABRACADABRA"));
+		assertEquals("PPHHMMMMMMM", score("SSSSAAAAAAA", "MISSISSIPPI"));
+		assertEquals("HHHPHP", score("PLANET", "PLATEN"));
+	}
+
+	@Test
+	void scoringManyBoardsAtOnceMatchesScoringEachBoard() {
+		Random random = new Random(7);
+		// A small alphabet, so repeated letters are common
+		for (int length = 4; length <= 11; length++) {
+			for (int round = 0; round < 200; round++) {
+				long[] targets = new long[1 + random.nextInt(32)];
+				for (int b = 0; b < targets.length; b++) {
+					targets[b] = randomWord(random, length);
+				}
+				long guess = randomWord(random, length);
+				int[] patterns = new int[targets.length];
+				GuessEvaluator.evaluate(guess, length, GuessEvaluator.letterMasks(targets, length), patterns);
+				for (int b = 0; b < targets.length; b++) {
+					assertEquals(GuessEvaluator.evaluate(guess, targets[b], length), patterns[b]);
+				}
+			}
+		}
+	}
+
+	private static long randomWord(Random random, int length) {
+		long code = 0;
+		for (int i = 0; i < length; i++) {
+			code = code * 26 + random.nextInt(6);
+		}
+		return code;
+	}
+}
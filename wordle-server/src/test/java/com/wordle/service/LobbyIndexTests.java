@@ -0,0 +1,132 @@
+package com.wordle.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.dto.LobbyRoom;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LobbyIndexTests {
+
+	LobbyIndex lobby;
+
+	@BeforeEach
+	void setUp() {
+		lobby = new LobbyIndex(new ObjectMapper());
+	}
+
+	// A waiting room with the given number of players, indexed in creation order
+	private MultiPlayerRoom room(String roomId, int players, int maxPlayers) {
+		MultiPlayerRoom room = new MultiPlayerRoom(roomId, roomId, "p0", maxPlayers);
+		for (int i = 0; i < players; i++) {
+			room.addPlayer(new Player("p" + i, "Player " + i));
+		}
+		lobby.update(room);
+		return room;
+	}
+
+	private List<String> ids(LobbyIndex.Sort sort, int page, int size) {
+		List<String> ids = new ArrayList<>();
+		for (LobbyRoom room : lobby.page(sort, page, size).getRooms()) {
+			ids.add(room.getRoomId());
+		}
+		return ids;
+	}
+
+	@Test
+	void hugePagesAndSizesDoNotOverflow() {
+		room("a", 1, 4);
+		room("b", 1, 4);
+
+		LobbyIndex.Page page = lobby.page(LobbyIndex.Sort.NEWEST, Integer.MAX_VALUE, Integer.MAX_VALUE);
+		assertTrue(page.getRooms().isEmpty());
+		assertEquals(2, page.getTotal());
+		assertTrue(lobby.page(LobbyIndex.Sort.OLDEST, Integer.MAX_VALUE / 2 + 1, 2).getRooms().isEmpty());
+
+		// Out-of-range arguments are clamped: negative pages to the first, sizes to 1..MAX_PAGE_SIZE
+		assertEquals(List.of("b", "a"), ids(LobbyIndex.Sort.NEWEST, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		assertEquals(List.of("b"), ids(LobbyIndex.Sort.NEWEST, -1, Integer.MIN_VALUE));
+		assertEquals(List.of("a"), ids(LobbyIndex.Sort.NEWEST, 1, 0));
+	}
+
+	@Test
+	void onlyLeadingPagesAreCached() {
+		for (int i = 0; i < 20; i++) {
+			room("r" + i, 1, 4);
+		}
+
+		// Pages below CACHED_PAGES that hold rooms come back as the same shared page
+		for (int page = 0; page < LobbyIndex.CACHED_PAGES; page++) {
+			assertSame(lobby.page(LobbyIndex.Sort.NEWEST, page, 2), lobby.page(LobbyIndex.Sort.NEWEST, page, 2));
+		}
+		assertNotSame(lobby.page(LobbyIndex.Sort.NEWEST, LobbyIndex.CACHED_PAGES, 2),
+				lobby.page(LobbyIndex.Sort.NEWEST, LobbyIndex.CACHED_PAGES, 2));
+		assertNotSame(lobby.page(LobbyIndex.Sort.NEWEST, 1_000_000, 2), lobby.page(LobbyIndex.Sort.NEWEST, 1_000_000, 2));
+		// A leading page past the last room is not cached either
+		assertNotSame(lobby.page(LobbyIndex.Sort.NEWEST, 4, 10), lobby.page(LobbyIndex.Sort.NEWEST, 4, 10));
+
+		// A change starts a new cache
+		LobbyIndex.Page before = lobby.page(LobbyIndex.Sort.NEWEST, 0, 2);
+		room("r20", 1, 4);
+		LobbyIndex.Page after = lobby.page(LobbyIndex.Sort.NEWEST, 0, 2);
+		assertNotSame(before, after);
+		assertEquals("r20", after.getRooms().get(0).getRoomId());
+	}
+
+	@Test
+	void sortOrders() {
+		room("a", 1, 4);
+		room("b", 3, 4);
+		room("c", 2, 4);
+		room("d", 3, 8);
+
+		assertEquals(List.of("d", "c", "b", "a"), ids(LobbyIndex.Sort.NEWEST, 0, 10));
+		assertEquals(List.of("a", "b", "c", "d"), ids(LobbyIndex.Sort.OLDEST, 0, 10));
+		// Fullest first, older first among rooms with as many players
+		assertEquals(List.of("b", "d", "c", "a"), ids(LobbyIndex.Sort.FILL, 0, 10));
+		assertEquals(List.of("c", "a"), ids(LobbyIndex.Sort.FILL, 1, 2));
+	}
+
+	@Test
+	void roomsLeaveOnceFullOrStarted() {
+		MultiPlayerRoom filling = room("filling", 1, 2);
+		MultiPlayerRoom starting = room("starting", 1, 4);
+		room("waiting", 1, 4);
+		assertEquals(3, lobby.size());
+
+		// Joining keeps a room's place in age order and moves it up by fill
+		long version = lobby.getVersion();
+		starting.addPlayer(new Player("p1", "Player 1"));
+		lobby.update(starting);
+		assertTrue(lobby.getVersion() > version);
+		assertEquals(List.of("filling", "starting", "waiting"), ids(LobbyIndex.Sort.OLDEST, 0, 10));
+		assertEquals(2, lobby.page(LobbyIndex.Sort.FILL, 0, 10).getRooms().get(0).getPlayerCount());
+
+		version = lobby.getVersion();
+		filling.addPlayer(new Player("p1", "Player 1"));
+		lobby.update(filling);
+		assertTrue(lobby.getVersion() > version);
+		assertEquals(List.of("waiting", "starting"), ids(LobbyIndex.Sort.NEWEST, 0, 10));
+
+		version = lobby.getVersion();
+		starting.setStatus(MultiPlayerRoom.RoomStatus.IN_PROGRESS);
+		lobby.update(starting);
+		assertTrue(lobby.getVersion() > version);
+		assertEquals(List.of("waiting"), ids(LobbyIndex.Sort.NEWEST, 0, 10));
+		assertEquals(1, lobby.page(LobbyIndex.Sort.NEWEST, 0, 10).getTotal());
+
+		// Re-indexing a room that is already gone changes nothing
+		version = lobby.getVersion();
+		lobby.update(starting);
+		assertEquals(version, lobby.getVersion());
+	}
+}
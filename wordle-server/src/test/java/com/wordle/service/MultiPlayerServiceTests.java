@@ -0,0 +1,181 @@
+package com.wordle.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wordle.journal.JournalEvent;
+import com.wordle.model.MultiPlayerRoom;
+import com.wordle.model.Player;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class MultiPlayerServiceTests {
+
+	@Autowired
+	MultiPlayerService service;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	RankingService rankings;
+
+	// Exports a room, drops it and rebuilds it from the exported events as they would travel
+	private MultiPlayerRoom replay(MultiPlayerRoom room) throws Exception {
+		List<JournalEvent> events = new ArrayList<>();
+		assertTrue(service.exportRoom(room.getRoomId(), events::add));
+		service.removeRoom(room.getRoomId());
+		List<JournalEvent> received = objectMapper.readValue(objectMapper.writeValueAsBytes(events),
+				new TypeReference<List<JournalEvent>>() {});
+		received.forEach(service::apply);
+		MultiPlayerRoom replayed = service.getRoom(room.getRoomId());
+		assertNotSame(room, replayed);
+		return replayed;
+	}
+
+	private static String miss(MultiPlayerRoom room) {
+		return room.getCurrentWord().equals("CRANE") ? "SLATE" : "CRANE";
+	}
+
+	@Test
+	void battleRoyaleReplayKeepsWinnerAndRanksOfSameRoundSolvers() throws Exception {
+		MultiPlayerRoom room = service.createRoom("a", "Royale", 10, "A", MultiPlayerRoom.RoomMode.BATTLE_ROYALE);
+		String roomId = room.getRoomId();
+		service.joinRoom(roomId, "b", "B");
+		service.joinRoom(roomId, "c", "C");
+		service.startGame(roomId);
+		String target = room.getCurrentWord();
+
+		// c and b both solve in one round, c first; a needs two rounds
+		service.processGuess(roomId, "c", target);
+		service.processGuess(roomId, "a", miss(room));
+		service.processGuess(roomId, "b", target);
+		service.processGuess(roomId, "a", target);
+		assertEquals(MultiPlayerRoom.RoomStatus.FINISHED, room.getStatus());
+		assertEquals("c", room.getWinnerId());
+
+		MultiPlayerRoom replayed = replay(room);
+		assertEquals(MultiPlayerRoom.RoomStatus.FINISHED, replayed.getStatus());
+		assertEquals("c", replayed.getWinnerId());
+		for (Player player : room.getPlayers()) {
+			Player copy = replayed.getPlayer(player.getPlayerId());
+			assertEquals(player.getRank(), copy.getRank(), player.getPlayerId());
+			assertEquals(player.getPoints(), copy.getPoints(), player.getPlayerId());
+			assertEquals(player.getWinTime().truncatedTo(ChronoUnit.MILLIS), copy.getWinTime(), player.getPlayerId());
+		}
+		assertEquals(1, replayed.getPlayer("c").getRank());
+		assertEquals(2, replayed.getPlayer("b").getRank());
+		assertEquals(3, replayed.getPlayer("a").getRank());
+	}
+
+	@Test
+	void replayedRoomMatchesTheOriginal() throws Exception {
+		MultiPlayerRoom room = service.createRoom("p1", "Classic", 4, "One");
+		String roomId = room.getRoomId();
+		service.joinRoom(roomId, "p2", "Two");
+		service.startGame(roomId);
+		service.processGuess(roomId, "p1", miss(room));
+		service.processGuess(roomId, "p2", miss(room));
+		service.processGuess(roomId, "p2", room.getCurrentWord());
+		long version = room.getVersion();
+
+		MultiPlayerRoom replayed = replay(room);
+		assertEquals(room.getStatus(), replayed.getStatus());
+		assertEquals(room.getWinnerId(), replayed.getWinnerId());
+		assertEquals(room.getCurrentWords(), replayed.getCurrentWords());
+		assertEquals(room.getStartedAt().truncatedTo(ChronoUnit.MILLIS), replayed.getStartedAt());
+		assertEquals(room.getPlayers().size(), replayed.getPlayers().size());
+		for (int i = 0; i < room.getPlayers().size(); i++) {
+			Player player = room.getPlayers().get(i);
+			Player copy = replayed.getPlayers().get(i);
+			assertEquals(player.getPlayerId(), copy.getPlayerId());
+			assertEquals(player.getGuesses(), copy.getGuesses());
+			for (int round = 0; round < player.getCurrentRound(); round++) {
+				assertEquals(player.getFeedback(round), copy.getFeedback(round));
+			}
+			assertEquals(player.getRank(), copy.getRank());
+			// Every player counts as changed since any version a client saw on the original
+			assertTrue(copy.getVersion() > version);
+		}
+		assertTrue(replayed.getVersion() > version);
+	}
+
+	private double acceptedRoomGuesses() {
+		return registry.get("wordle.guesses").tag("mode", "multi").tag("outcome", "accepted").counter().count();
+	}
+
+	@Test
+	void replayedGuessesAreNotCountedAgain() throws Exception {
+		MultiPlayerRoom room = service.createRoom("m1", "Metered", 4, "One");
+		String roomId = room.getRoomId();
+		service.joinRoom(roomId, "m2", "Two");
+		service.startGame(roomId);
+		double before = acceptedRoomGuesses();
+		service.processGuess(roomId, "m1", miss(room));
+		service.processGuess(roomId, "m2", miss(room));
+		assertEquals(before + 2, acceptedRoomGuesses());
+
+		MultiPlayerRoom replayed = replay(room);
+		assertEquals(1, replayed.getPlayer("m1").getCurrentRound());
+		assertEquals(before + 2, acceptedRoomGuesses());
+	}
+
+	@Test
+	void importedFinishedGameIsNotRankedAgain() throws Exception {
+		MultiPlayerRoom room = service.createRoom("r1", "Ranked", 4, "One");
+		String roomId = room.getRoomId();
+		service.joinRoom(roomId, "r2", "Two");
+		service.startGame(roomId);
+		service.processGuess(roomId, "r1", room.getCurrentWord());
+		assertEquals(MultiPlayerRoom.RoomStatus.FINISHED, room.getStatus());
+		int games = rankings.getStanding("r1").getGames();
+
+		// The handed-over copy ends the same way, but the game was ranked where it finished
+		List<JournalEvent> events = new ArrayList<>();
+		assertTrue(service.startHandoff(roomId, events::add));
+		service.finishHandoff(roomId, true);
+		service.importRoom(objectMapper.readValue(objectMapper.writeValueAsBytes(events),
+				new TypeReference<List<JournalEvent>>() {}));
+		MultiPlayerRoom imported = service.getRoom(roomId);
+		assertEquals(MultiPlayerRoom.RoomStatus.FINISHED, imported.getStatus());
+		assertEquals(1, imported.getPlayer("r1").getRank());
+		assertEquals(games, rankings.getStanding("r1").getGames());
+	}
+
+	@Test
+	void roomTakesNoChangesWhileHandingOff() {
+		MultiPlayerRoom room = service.createRoom("h1", "Moving", 4, "One");
+		String roomId = room.getRoomId();
+		service.joinRoom(roomId, "h2", "Two");
+		service.startGame(roomId);
+
+		List<JournalEvent> events = new ArrayList<>();
+		assertTrue(service.startHandoff(roomId, events::add));
+		assertThrows(IllegalArgumentException.class, () -> service.processGuess(roomId, "h1", miss(room)));
+		assertThrows(IllegalArgumentException.class, () -> service.joinRoom(roomId, "h3", "Three"));
+
+		// A failed handoff leaves the room here and open again
+		service.finishHandoff(roomId, false);
+		service.processGuess(roomId, "h1", miss(room));
+		assertEquals(1, room.getPlayer("h1").getCurrentRound());
+
+		assertTrue(service.startHandoff(roomId, events::add));
+		service.finishHandoff(roomId, true);
+		assertNull(service.getRoom(roomId));
+	}
+}
@@ -0,0 +1,97 @@
+package com.wordle.store;
+
+import com.wordle.model.GameState;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Two stores over one LocalKeyValueStore behave like two nodes sharing a remote store
+class KeyValueGameStoreTests {
+
+	private final LocalKeyValueStore shared = new LocalKeyValueStore(1000);
+	private final KeyValueGameStore nodeA = node();
+	private final KeyValueGameStore nodeB = node();
+
+	private KeyValueGameStore node() {
+		return new KeyValueGameStore(shared, 100, Duration.ofMinutes(1), Duration.ofMinutes(30), Duration.ofMinutes(5));
+	}
+
+	@Test
+	void gameSavedOnOneNodeIsServedByAnother() {
+		GameState game = new GameState("g1", "CRANE", 6);
+		game.setPuzzle(42);
+		nodeA.put(game);
+		game.addGuess("SLATE", 0b1010_0000);
+		game.addGuess("CRANE", 0x3FF);
+		game.setWon(true);
+		game.setGameOver(true);
+		nodeA.put(game);
+
+		GameState copy = nodeB.get("g1");
+		assertEquals("CRANE", copy.getTargetWord());
+		assertEquals(42, copy.getPuzzle());
+		assertEquals(2, copy.getCurrentRound());
+		assertEquals("SLATE", copy.getGuessWord(0));
+		assertEquals(0b1010_0000, copy.getFeedback(0));
+		assertTrue(copy.isWon() && copy.isGameOver());
+		assertEquals(2, copy.getVersion());
+	}
+
+	@Test
+	void saveFromAnOutdatedCopyIsRejected() {
+		nodeA.put(new GameState("g1", "CRANE", 6));
+		GameState onA = nodeA.get("g1");
+		GameState onB = nodeB.get("g1");
+
+		onB.addGuess("SLATE", 0);
+		nodeB.put(onB);
+		onA.addGuess("MOIST", 0);
+		assertThrows(StaleGameException.class, () -> nodeA.put(onA));
+
+		// The rejected copy is dropped, so the next read sees the other node's guess
+		GameState fresh = nodeA.get("g1");
+		assertEquals("SLATE", fresh.getGuessWord(0));
+		fresh.addGuess("MOIST", 0);
+		nodeA.put(fresh);
+		assertEquals(3, shared.get("g1").getVersion());
+	}
+
+	@Test
+	void concurrentCreatesOfOneGameLetOnlyOneWin() {
+		nodeA.put(new GameState("g1", "CRANE", 6));
+		assertThrows(StaleGameException.class, () -> nodeB.put(new GameState("g1", "MOIST", 6)));
+		nodeA.remove("g1");
+		assertNull(nodeB.get("g1"));
+	}
+
+	@Test
+	void concurrentWritesAreAllApplied() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		List<Future<?>> done = new ArrayList<>();
+		for (int t = 0; t < 8; t++) {
+			KeyValueGameStore node = t % 2 == 0 ? nodeA : nodeB;
+			int thread = t;
+			done.add(pool.submit(() -> {
+				for (int i = 0; i < 100; i++) {
+					node.put(new GameState(thread + "-" + i, "CRANE", 6));
+				}
+			}));
+		}
+		for (Future<?> f : done) {
+			f.get();
+		}
+		pool.shutdown();
+		assertEquals(800, shared.size());
+		assertEquals(1, shared.get("7-99").getVersion());
+	}
+}
@@ -0,0 +1,159 @@
+package com.wordle.store;
+
+import com.wordle.model.GameState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedGameStoreTests {
+
+	@TempDir
+	Path dir;
+
+	private final List<MappedGameStore> opened = new ArrayList<>();
+
+	// No hot cache, so every read decodes the record
+	private MappedGameStore open(int capacity) throws Exception {
+		MappedGameStore store = new MappedGameStore(dir.resolve("games.bin").toString(), capacity, 0,
+				Duration.ofMinutes(30), Duration.ofMinutes(5));
+		store.open();
+		opened.add(store);
+		return store;
+	}
+
+	@AfterEach
+	void close() throws Exception {
+		for (MappedGameStore store : opened) {
+			store.close();
+		}
+	}
+
+	// Slots are freed by the index's removal listener, which runs on the common pool
+	private static void awaitReleases() {
+		ForkJoinPool.commonPool().awaitQuiescence(5, TimeUnit.SECONDS);
+	}
+
+	private static String id(int i) {
+		return new UUID(0, i).toString();
+	}
+
+	private static String target(int i) {
+		return "" + (char) ('A' + i / 26) + (char) ('A' + i % 26) + "XYZ";
+	}
+
+	@Test
+	void gamesSurviveReopening() throws Exception {
+		MappedGameStore store = open(8);
+		GameState game = new GameState(id(1), "CRANE", 6);
+		game.setPuzzle(42);
+		game.addGuess("SLATE", 0b1010_0000);
+		game.addGuess("CRANE", 0x2AA);
+		game.setWon(true);
+		game.setGameOver(true);
+		store.put(game);
+		store.put(new GameState(id(2), "MOIST", 6));
+		store.close();
+
+		MappedGameStore reopened = open(8);
+		assertEquals(2, reopened.size());
+		GameState copy = reopened.get(id(1));
+		assertEquals("CRANE", copy.getTargetWord());
+		assertEquals(42, copy.getPuzzle());
+		assertEquals(2, copy.getCurrentRound());
+		assertEquals("SLATE", copy.getGuessWord(0));
+		assertEquals(0b1010_0000, copy.getFeedback(0));
+		assertTrue(copy.isWon() && copy.isGameOver());
+		assertEquals("MOIST", reopened.get(id(2)).getTargetWord());
+	}
+
+	@Test
+	void removedGamesFreeTheirSlots() throws Exception {
+		MappedGameStore store = open(2);
+		store.put(new GameState(id(1), "CRANE", 6));
+		store.put(new GameState(id(2), "SLATE", 6));
+		assertThrows(IllegalStateException.class, () -> store.put(new GameState(id(3), "MOIST", 6)));
+
+		store.remove(id(1));
+		awaitReleases();
+		store.put(new GameState(id(3), "MOIST", 6));
+		assertNull(store.get(id(1)));
+		assertEquals("SLATE", store.get(id(2)).getTargetWord());
+		assertEquals("MOIST", store.get(id(3)).getTargetWord());
+		store.close();
+
+		MappedGameStore reopened = open(2);
+		assertEquals(2, reopened.size());
+		assertNull(reopened.get(id(1)));
+		assertEquals("MOIST", reopened.get(id(3)).getTargetWord());
+	}
+
+	@Test
+	void concurrentPutsAndRemovesNeitherShareNorLeakSlots() throws Exception {
+		int games = 32;
+		int capacity = 256;
+		MappedGameStore store = open(capacity);
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		List<Future<?>> tasks = new ArrayList<>();
+		for (int t = 0; t < 4; t++) {
+			tasks.add(pool.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int op = 0; op < 5000; op++) {
+					int i = random.nextInt(games);
+					if (random.nextInt(3) == 0) {
+						store.remove(id(i));
+					} else {
+						try {
+							store.put(new GameState(id(i), target(i), 6));
+						} catch (IllegalStateException e) {
+							// Full while removed games wait for their slots to be released
+						}
+					}
+				}
+			}));
+		}
+		for (Future<?> task : tasks) {
+			task.get();
+		}
+		pool.shutdown();
+		awaitReleases();
+
+		// Every stored game still reads back as itself
+		for (int i = 0; i < games; i++) {
+			GameState game = store.get(id(i));
+			if (game != null) {
+				assertEquals(target(i), game.getTargetWord());
+			}
+		}
+
+		// Once they are gone every slot is free again
+		for (int i = 0; i < games; i++) {
+			store.remove(id(i));
+		}
+		awaitReleases();
+		for (int i = 0; i < capacity; i++) {
+			store.put(new GameState(id(games + i), target(i % 100), 6));
+		}
+		store.close();
+
+		MappedGameStore reopened = open(capacity);
+		assertEquals(capacity, reopened.size());
+		assertEquals(target(7), reopened.get(id(games + 7)).getTargetWord());
+	}
+}